@@ -0,0 +1,166 @@
+package appeng.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import appeng.core.AELog;
+import appeng.services.compass.CompassReader;
+
+/**
+ * Nearest meteorite search of {@link CompassReader} on synthetic sparse worlds, comparing the search through the region
+ * summaries with the plain ring by ring spiral the compass service used before. Each world scatters a number of
+ * beacons over a square area and asks for the nearest ring from random chunks, the answers of both searches are
+ * checked to be the same. Started together with {@link CraftingPlannerBenchmark}.
+ */
+public final class CompassSearchBenchmark {
+
+    private static final int[] BEACON_COUNTS = { 0, 10, 100, 1000 };
+    private static final int WORLD_RADIUS = 3000;
+    private static final int MAX_RANGE = 174;
+    private static final int QUERIES = 2000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd_HH.mm.ss", Locale.ROOT);
+
+    /**
+     * Result template serialized with Gson
+     */
+    @SuppressWarnings("unused")
+    private static final class Result {
+
+        int beacons;
+        int queries;
+        double spiralMicrosPerQuery;
+        double summaryMicrosPerQuery;
+        double speedup;
+    }
+
+    public static void runFromServer() {
+        final File outDir = new File("benchmark-out").getAbsoluteFile();
+        final File outFile = new File(
+                outDir,
+                "compass-search-" + FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".json");
+        try {
+            FileUtils.forceMkdir(outDir);
+            FileUtils.write(outFile, new CompassSearchBenchmark().runAll(), StandardCharsets.UTF_8);
+            AELog.info("Compass search benchmark results written to %s", outFile);
+        } catch (IOException e) {
+            AELog.error(e, "Could not write compass search benchmark results");
+        }
+    }
+
+    /**
+     * @return The results of all runs as a JSON array
+     */
+    public String runAll() throws IOException {
+        final List<Result> results = new ArrayList<>();
+        for (int beacons : BEACON_COUNTS) {
+            final Result result = run(beacons);
+            AELog.info(
+                    "Benchmark compass search, %d beacons: spiral %.1f us/query, summary %.1f us/query, %.1fx",
+                    result.beacons,
+                    result.spiralMicrosPerQuery,
+                    result.summaryMicrosPerQuery,
+                    result.speedup);
+            results.add(result);
+        }
+        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(results);
+    }
+
+    private static Result run(int beacons) throws IOException {
+        final File folder = Files.createTempDirectory("ae2-compass-bench").toFile();
+        final CompassReader reader = new CompassReader(0, folder);
+        try {
+            final Random random = new Random(beacons);
+            for (int i = 0; i < beacons; i++) {
+                reader.setHasBeacon(randomChunk(random), randomChunk(random), random.nextInt(8), true);
+            }
+            final int[][] queries = new int[QUERIES][];
+            for (int i = 0; i < QUERIES; i++) {
+                queries[i] = new int[] { randomChunk(random), randomChunk(random) };
+            }
+
+            // both searches open every region they touch, so warming up also keeps file mapping out of the timings
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                for (int[] query : queries) {
+                    final int spiral = spiral(reader, query[0], query[1]);
+                    final int summary = reader.getNearestRing(query[0], query[1], MAX_RANGE);
+                    if (spiral != summary) {
+                        throw new IllegalStateException(
+                                "Search mismatch at " + query[0] + ", " + query[1] + ": " + spiral + " != " + summary);
+                    }
+                }
+            }
+
+            long sink = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                for (int[] query : queries) {
+                    sink += spiral(reader, query[0], query[1]);
+                }
+            }
+            final long spiralNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                for (int[] query : queries) {
+                    sink -= reader.getNearestRing(query[0], query[1], MAX_RANGE);
+                }
+            }
+            final long summaryNanos = System.nanoTime() - start;
+            if (sink != 0) {
+                throw new IllegalStateException("Searches disagreed during the measured rounds");
+            }
+
+            final long measuredQueries = (long) QUERIES * MEASURED_ROUNDS;
+            final Result result = new Result();
+            result.beacons = beacons;
+            result.queries = QUERIES;
+            result.spiralMicrosPerQuery = spiralNanos / 1e3 / measuredQueries;
+            result.summaryMicrosPerQuery = summaryNanos / 1e3 / measuredQueries;
+            result.speedup = (double) spiralNanos / summaryNanos;
+            return result;
+        } finally {
+            reader.close();
+            FileUtils.deleteQuietly(folder);
+        }
+    }
+
+    private static int randomChunk(Random random) {
+        return random.nextInt(2 * WORLD_RADIUS) - WORLD_RADIUS;
+    }
+
+    /**
+     * The search the compass service did before the region summaries, checking one ring of chunks after the other
+     */
+    private static int spiral(CompassReader reader, int cx, int cz) {
+        for (int offset = 1; offset < MAX_RANGE; offset++) {
+            for (int z = cz - offset; z <= cz + offset; z++) {
+                if (reader.hasBeacon(cx - offset, z) || reader.hasBeacon(cx + offset, z)) {
+                    return offset;
+                }
+            }
+            for (int x = cx - offset + 1; x < cx + offset; x++) {
+                if (reader.hasBeacon(x, cz - offset) || reader.hasBeacon(x, cz + offset)) {
+                    return offset;
+                }
+            }
+        }
+        return MAX_RANGE;
+    }
+}
@@ -0,0 +1,279 @@
+package appeng.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+
+import org.apache.commons.io.FileUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import appeng.core.AELog;
+import appeng.crafting.v2.CraftingContext;
+import appeng.crafting.v2.CraftingJobV2;
+import appeng.crafting.v2.resolvers.CraftingTask;
+import appeng.test.mockme.MockAESystem;
+
+/**
+ * Throughput benchmarks for the v2 crafting planner on synthetic pattern graphs. Runs inside the test server after the
+ * functional tests when started with {@code ./gradlew runServer -Pae2Benchmarks}, and writes one JSON file per run to
+ * {@code benchmark-out/} so that runs can be compared.
+ */
+public final class CraftingPlannerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd_HH.mm.ss", Locale.ROOT);
+
+    private final World world;
+    private final Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+    /**
+     * A crafting request on a mock ME system, built once and planned repeatedly.
+     */
+    private static final class Scenario {
+
+        final Consumer<MockAESystem> setup;
+        final ItemStack request;
+
+        Scenario(Consumer<MockAESystem> setup, ItemStack request) {
+            this.setup = setup;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Result template serialized with Gson, all values are averages over the measured iterations unless noted.
+     */
+    @SuppressWarnings("unused")
+    private static final class Result {
+
+        String scenario;
+        int iterations;
+        long steps;
+        boolean simulation;
+        double millis;
+        double bestMillis;
+        double stepsPerSecond;
+        double allocatedBytesPerStep;
+        long peakHeapBytes;
+    }
+
+    public CraftingPlannerBenchmark(World world) {
+        this.world = world;
+        scenarios.put("deepChain", new Scenario(CraftingPlannerBenchmark::deepChain, item(Items.paper, 200, 1000)));
+        scenarios.put("wideFanIn", new Scenario(CraftingPlannerBenchmark::wideFanIn, item(Items.string, 0, 64)));
+        scenarios.put(
+                "cyclesWithByproducts",
+                new Scenario(CraftingPlannerBenchmark::cyclesWithByproducts, item(Items.sugar, 2, 500)));
+        scenarios.put(
+                "substitutionCrafting",
+                new Scenario(CraftingPlannerBenchmark::substitutionCrafting, new ItemStack(Blocks.chest, 24)));
+        scenarios.put(
+                "largeStorage",
+                new Scenario(CraftingPlannerBenchmark::largeStorage, item(Items.feather, 30000, 64)));
+    }
+
+    public static void runFromServer() {
+        final CraftingPlannerBenchmark benchmark = new CraftingPlannerBenchmark(
+                MinecraftServer.getServer().worldServerForDimension(0));
+        final File outDir = new File("benchmark-out").getAbsoluteFile();
+        final File outFile = new File(
+                outDir,
+                "crafting-planner-" + FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".json");
+        try {
+            FileUtils.forceMkdir(outDir);
+            FileUtils.write(outFile, benchmark.runAll(), StandardCharsets.UTF_8);
+            AELog.info("Crafting planner benchmark results written to %s", outFile);
+        } catch (IOException e) {
+            AELog.error(e, "Could not write crafting planner benchmark results");
+        }
+    }
+
+    /**
+     * @return The results of all scenarios as a JSON array
+     */
+    public String runAll() {
+        final List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, Scenario> entry : scenarios.entrySet()) {
+            final Result result = run(entry.getKey(), entry.getValue());
+            AELog.info(
+                    "Benchmark %s: %d steps, %.1f steps/s, %.0f B/step, peak heap %d MiB",
+                    result.scenario,
+                    result.steps,
+                    result.stepsPerSecond,
+                    result.allocatedBytesPerStep,
+                    result.peakHeapBytes >> 20);
+            results.add(result);
+        }
+        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(results);
+    }
+
+    private Result run(String name, Scenario scenario) {
+        final MockAESystem aeSystem = new MockAESystem(world);
+        scenario.setup.accept(aeSystem);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            plan(aeSystem, scenario.request);
+        }
+
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final com.sun.management.ThreadMXBean allocations = (threads instanceof com.sun.management.ThreadMXBean tmx)
+                ? tmx
+                : null;
+        final long threadId = Thread.currentThread().getId();
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+
+        final Result result = new Result();
+        result.scenario = name;
+        result.iterations = MEASURED_ITERATIONS;
+        result.bestMillis = Double.MAX_VALUE;
+        long totalNanos = 0;
+        long totalSteps = 0;
+        long totalAllocated = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final long allocStart = allocations == null ? 0 : allocations.getThreadAllocatedBytes(threadId);
+            final long start = System.nanoTime();
+            final CraftingJobV2 job = aeSystem.makeCraftingJob(scenario.request);
+            final long steps = plan(job);
+            final long nanos = System.nanoTime() - start;
+            final long allocEnd = allocations == null ? 0 : allocations.getThreadAllocatedBytes(threadId);
+            totalNanos += nanos;
+            totalSteps += steps;
+            totalAllocated += allocEnd - allocStart;
+            result.steps = steps;
+            result.simulation = job.getContext().wasSimulated;
+            result.bestMillis = Math.min(result.bestMillis, nanos / 1e6);
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                result.peakHeapBytes += pool.getPeakUsage().getUsed();
+            }
+        }
+        result.millis = totalNanos / 1e6 / MEASURED_ITERATIONS;
+        result.stepsPerSecond = totalSteps / (totalNanos / 1e9);
+        result.allocatedBytesPerStep = allocations == null ? -1 : (double) totalAllocated / totalSteps;
+        return result;
+    }
+
+    private static void plan(MockAESystem aeSystem, ItemStack request) {
+        plan(aeSystem.makeCraftingJob(request));
+    }
+
+    /**
+     * Runs the planner to completion one step at a time.
+     *
+     * @return The number of planner steps taken
+     */
+    private static long plan(CraftingJobV2 job) {
+        final CraftingContext context = job.getContext();
+        long steps = 0;
+        CraftingTask.State state;
+        do {
+            state = context.doWork();
+            steps++;
+        } while (state.needsMoreWork);
+        return steps;
+    }
+
+    private static ItemStack item(Item item, int meta, int size) {
+        return new ItemStack(item, size, meta);
+    }
+
+    /**
+     * A single 200-step processing chain, paper:0 -> paper:1 -> ... -> paper:200
+     */
+    private static void deepChain(MockAESystem aeSystem) {
+        aeSystem.addStoredItem(item(Items.paper, 0, 1000));
+        for (int i = 0; i < 200; i++) {
+            aeSystem.newProcessingPattern().addInput(item(Items.paper, i, 1)).addOutput(item(Items.paper, i + 1, 1))
+                    .buildAndAdd();
+        }
+    }
+
+    /**
+     * One pattern with 81 different inputs, each crafted from its own stored raw material.
+     */
+    private static void wideFanIn(MockAESystem aeSystem) {
+        final MockAESystem.PatternBuilder root = aeSystem.newProcessingPattern();
+        for (int i = 1; i <= 81; i++) {
+            aeSystem.addStoredItem(item(Items.feather, i, 1000));
+            aeSystem.newProcessingPattern().addInput(item(Items.feather, i, 2)).addOutput(item(Items.string, i, 1))
+                    .buildAndAdd();
+            root.addInput(item(Items.string, i, 1));
+        }
+        root.addOutput(item(Items.string, 0, 1)).buildAndAdd();
+    }
+
+    /**
+     * A pattern cycle (sugar:0 <-> sugar:1) next to a byproduct-producing pattern whose byproduct can be turned into
+     * the requested item as well.
+     */
+    private static void cyclesWithByproducts(MockAESystem aeSystem) {
+        aeSystem.addStoredItem(item(Items.sugar, 0, 1000));
+        aeSystem.newProcessingPattern().addInput(item(Items.sugar, 0, 1)).addOutput(item(Items.sugar, 1, 4))
+                .buildAndAdd();
+        aeSystem.newProcessingPattern().addInput(item(Items.sugar, 1, 4)).addOutput(item(Items.sugar, 0, 1))
+                .buildAndAdd();
+        aeSystem.newProcessingPattern().addInput(item(Items.sugar, 1, 2)).addOutput(item(Items.sugar, 2, 1))
+                .addOutput(item(Items.sugar, 3, 1)).buildAndAdd();
+        aeSystem.newProcessingPattern().addInput(item(Items.sugar, 3, 1)).addInput(item(Items.sugar, 1, 1))
+                .addOutput(item(Items.sugar, 2, 1)).buildAndAdd();
+    }
+
+    /**
+     * Crafting table patterns that accept any type of wooden planks, with several log types in storage.
+     */
+    private static void substitutionCrafting(MockAESystem aeSystem) {
+        for (int meta = 0; meta < 4; meta++) {
+            aeSystem.addStoredItem(new ItemStack(Blocks.log, 16, meta));
+            aeSystem.newCraftingPattern().allowBeingASubstitute().addInput(new ItemStack(Blocks.log, 1, meta))
+                    .addOutput(new ItemStack(Blocks.planks, 4, meta)).buildAndAdd();
+        }
+        final MockAESystem.PatternBuilder chest = aeSystem.newCraftingPattern().allowUsingSubstitutes();
+        for (int slot = 0; slot < 9; slot++) {
+            chest.addInput(slot == 4 ? null : new ItemStack(Blocks.planks, 1));
+        }
+        chest.addOutput(new ItemStack(Blocks.chest, 1)).buildAndAdd();
+    }
+
+    /**
+     * A trivial pattern on a network storing 100k item types.
+     */
+    private static void largeStorage(MockAESystem aeSystem) {
+        final Item[] items = { Items.paper, Items.string, Items.sugar, Items.feather };
+        for (Item type : items) {
+            for (int meta = 0; meta < 25_000; meta++) {
+                aeSystem.addStoredItem(item(type, meta, 64));
+            }
+        }
+        aeSystem.newProcessingPattern().addInput(item(Items.string, 7, 1)).addOutput(item(Items.feather, 30000, 1))
+                .buildAndAdd();
+    }
+}
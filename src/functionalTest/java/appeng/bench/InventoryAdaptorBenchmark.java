@@ -0,0 +1,171 @@
+package appeng.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+
+import org.apache.commons.io.FileUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import appeng.core.AELog;
+import appeng.test.CountingInventory;
+import appeng.util.inv.AdaptorIInventory;
+
+/**
+ * Throughput of {@link AdaptorIInventory} on large, mostly full inventories, with and without the slot index. Each run
+ * keeps one adaptor and replays the same random mix of insertions, extractions and simulated extractions against it,
+ * the way a storage bus or interface uses an adaptor. Every size is run once with plain items and once with items
+ * carrying large NBT tags, which is where checking the slots against the index costs the most. Started together with
+ * {@link CraftingPlannerBenchmark}.
+ */
+public final class InventoryAdaptorBenchmark {
+
+    private static final int[] INVENTORY_SIZES = { 27, 216, 1024 };
+    private static final int ITEM_TYPES = 64;
+    private static final int NBT_ENTRIES = 32;
+    private static final int WARMUP_OPERATIONS = 20_000;
+    private static final int MEASURED_OPERATIONS = 100_000;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd_HH.mm.ss", Locale.ROOT);
+
+    /**
+     * Result template serialized with Gson
+     */
+    @SuppressWarnings("unused")
+    private static final class Result {
+
+        int slots;
+        boolean nbt;
+        boolean indexed;
+        int operations;
+        double nanosPerOperation;
+        double markDirtyPerOperation;
+    }
+
+    public static void runFromServer() {
+        final File outDir = new File("benchmark-out").getAbsoluteFile();
+        final File outFile = new File(
+                outDir,
+                "inventory-adaptor-" + FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".json");
+        try {
+            FileUtils.forceMkdir(outDir);
+            FileUtils.write(outFile, new InventoryAdaptorBenchmark().runAll(), StandardCharsets.UTF_8);
+            AELog.info("Inventory adaptor benchmark results written to %s", outFile);
+        } catch (IOException e) {
+            AELog.error(e, "Could not write inventory adaptor benchmark results");
+        }
+    }
+
+    /**
+     * @return The results of all runs as a JSON array
+     */
+    public String runAll() {
+        final List<Result> results = new ArrayList<>();
+        for (int slots : INVENTORY_SIZES) {
+            for (boolean nbt : new boolean[] { false, true }) {
+                for (boolean indexed : new boolean[] { false, true }) {
+                    final Result result = run(slots, nbt, indexed);
+                    AELog.info(
+                            "Benchmark inventory adaptor, %d slots, nbt %s, indexed %s: %.0f ns/op, %.2f markDirty/op",
+                            result.slots,
+                            result.nbt,
+                            result.indexed,
+                            result.nanosPerOperation,
+                            result.markDirtyPerOperation);
+                    results.add(result);
+                }
+            }
+        }
+        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(results);
+    }
+
+    private static Result run(int slots, boolean nbt, boolean indexed) {
+        final CountingInventory inv = new CountingInventory(slots);
+        final ItemStack[] types = itemTypes(nbt);
+        // leave a few slots free so that insertions and extractions keep succeeding
+        for (int slot = 0; slot < slots - slots / 8; slot++) {
+            final ItemStack stack = types[slot % types.length].copy();
+            stack.stackSize = 32;
+            inv.setInventorySlotContents(slot, stack);
+        }
+        final AdaptorIInventory adaptor = new AdaptorIInventory(inv, indexed);
+
+        runOperations(adaptor, types, new Random(1), WARMUP_OPERATIONS);
+        inv.markDirtyCalls = 0;
+        final long start = System.nanoTime();
+        runOperations(adaptor, types, new Random(2), MEASURED_OPERATIONS);
+        final long nanos = System.nanoTime() - start;
+
+        final Result result = new Result();
+        result.slots = slots;
+        result.nbt = nbt;
+        result.indexed = indexed;
+        result.operations = MEASURED_OPERATIONS;
+        result.nanosPerOperation = (double) nanos / MEASURED_OPERATIONS;
+        result.markDirtyPerOperation = (double) inv.markDirtyCalls / MEASURED_OPERATIONS;
+        return result;
+    }
+
+    private static void runOperations(AdaptorIInventory adaptor, ItemStack[] types, Random random, int count) {
+        for (int op = 0; op < count; op++) {
+            final ItemStack type = types[random.nextInt(types.length)];
+            final int amount = 1 + random.nextInt(96);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    final ItemStack toAdd = type.copy();
+                    toAdd.stackSize = amount;
+                    adaptor.addItems(toAdd);
+                }
+                case 1 -> adaptor.removeItems(amount, type, null);
+                default -> adaptor.simulateRemove(amount, type, null);
+            }
+        }
+    }
+
+    private static ItemStack[] itemTypes(boolean nbt) {
+        final Item[] items = { Items.paper, Items.dye, Items.string, Items.feather };
+        final ItemStack[] types = new ItemStack[ITEM_TYPES];
+        for (int i = 0; i < ITEM_TYPES; i++) {
+            types[i] = new ItemStack(items[i % items.length], 1, i / items.length);
+            if (nbt) {
+                types[i].setTagCompound(largeTag(i));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * A tag the size of what modded tools and storage items commonly carry, the types only differ in one entry
+     */
+    private static NBTTagCompound largeTag(int type) {
+        final NBTTagCompound tag = new NBTTagCompound();
+        final NBTTagCompound data = new NBTTagCompound();
+        final NBTTagList lore = new NBTTagList();
+        for (int i = 0; i < NBT_ENTRIES; i++) {
+            data.setInteger("stat" + i, i * 31);
+            lore.appendTag(new NBTTagString("Benchmark lore line " + i));
+        }
+        data.setInteger("type", type);
+        final NBTTagCompound display = new NBTTagCompound();
+        display.setTag("Lore", lore);
+        tag.setTag("display", display);
+        tag.setTag("data", data);
+        return tag;
+    }
+}
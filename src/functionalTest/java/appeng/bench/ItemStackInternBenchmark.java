@@ -0,0 +1,329 @@
+package appeng.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.apache.commons.io.FileUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import appeng.core.AELog;
+import appeng.util.Platform;
+import appeng.util.item.AEItemDef;
+import appeng.util.item.AEItemStack;
+import appeng.util.item.AESharedNBT;
+import appeng.util.item.OreHelper;
+import appeng.util.item.OreReference;
+import appeng.util.item.SharedSearchObject;
+
+/**
+ * Cost of turning item stacks into {@link AEItemStack}s, which interns their definition and NBT, the way storage
+ * scans and crafting plans do thousands of times per tick. Each run converts the same set of stacks, a third of them
+ * carrying NBT, from one or more threads at once, and reports the time and memory allocated per conversion, the heap
+ * kept alive per converted stack and how many definitions and shared tags stay interned. Every run is repeated with a
+ * copy of the scheme used before interning as the baseline: a new definition per stack and shared NBT looked up in a
+ * synchronized {@link WeakHashMap}. Started together with {@link CraftingPlannerBenchmark}.
+ */
+public final class ItemStackInternBenchmark {
+
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8 };
+    private static final int ITEM_TYPES = 4096;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 100;
+    // copies of every stack kept alive while measuring the retained heap
+    private static final int RETAINED_COPIES = 8;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd_HH.mm.ss", Locale.ROOT);
+
+    /**
+     * Result template serialized with Gson
+     */
+    @SuppressWarnings("unused")
+    private static final class Result {
+
+        String scheme;
+        int threads;
+        long conversions;
+        double nanosPerConversion;
+        double bytesPerConversion;
+        double retainedBytesPerStack;
+        int internedDefinitions;
+        int sharedTags;
+    }
+
+    public static void runFromServer() {
+        final File outDir = new File("benchmark-out").getAbsoluteFile();
+        final File outFile = new File(
+                outDir,
+                "item-stack-intern-" + FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".json");
+        try {
+            FileUtils.forceMkdir(outDir);
+            FileUtils.write(outFile, new ItemStackInternBenchmark().runAll(), StandardCharsets.UTF_8);
+            AELog.info("Item stack intern benchmark results written to %s", outFile);
+        } catch (IOException e) {
+            AELog.error(e, "Could not write item stack intern benchmark results");
+        }
+    }
+
+    /**
+     * @return The results of all runs as a JSON array
+     */
+    public String runAll() {
+        final ItemStack[] stacks = itemStacks();
+        final List<Result> results = new ArrayList<>();
+        for (int threads : THREAD_COUNTS) {
+            final LegacyConversion legacy = new LegacyConversion();
+            results.add(log(run("interned", AEItemStack::create, stacks, threads)));
+            final Result baseline = run("legacy", legacy::convert, stacks, threads);
+            baseline.internedDefinitions = 0;
+            baseline.sharedTags = legacy.sharedTags();
+            results.add(log(baseline));
+        }
+        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(results);
+    }
+
+    private static Result log(Result result) {
+        AELog.info(
+                "Benchmark item stack intern, %s, %d threads: %.0f ns/conversion, %.1f bytes/conversion, "
+                        + "%.1f bytes retained/stack, %d definitions, %d shared tags",
+                result.scheme,
+                result.threads,
+                result.nanosPerConversion,
+                result.bytesPerConversion,
+                result.retainedBytesPerStack,
+                result.internedDefinitions,
+                result.sharedTags);
+        return result;
+    }
+
+    private static Result run(String scheme, Function<ItemStack, Object> convert, ItemStack[] stacks, int threads) {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            runRounds(executor, convert, stacks, threads, WARMUP_ROUNDS);
+            final long start = System.nanoTime();
+            final long allocated = runRounds(executor, convert, stacks, threads, MEASURED_ROUNDS);
+            final long nanos = System.nanoTime() - start;
+
+            final long conversions = (long) stacks.length * MEASURED_ROUNDS * threads;
+            final Result result = new Result();
+            result.scheme = scheme;
+            result.threads = threads;
+            result.conversions = conversions;
+            result.nanosPerConversion = (double) nanos * threads / conversions;
+            result.bytesPerConversion = allocated < 0 ? -1 : (double) allocated / conversions;
+            result.retainedBytesPerStack = retainedBytesPerStack(convert, stacks);
+            result.internedDefinitions = AEItemDef.internedDefinitions();
+            result.sharedTags = AESharedNBT.sharedTagLoad();
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return Heap kept alive per converted stack while several converted copies of every stack are held, like the
+     *         contents of many cells holding the same items
+     */
+    private static double retainedBytesPerStack(Function<ItemStack, Object> convert, ItemStack[] stacks) {
+        final Object[] kept = new Object[stacks.length * RETAINED_COPIES];
+        final long before = usedHeap();
+        for (int i = 0; i < kept.length; i++) {
+            kept[i] = convert.apply(stacks[i % stacks.length]);
+        }
+        final long after = usedHeap();
+        if (kept[kept.length - 1] == null) {
+            throw new IllegalStateException("Conversion failed");
+        }
+        return (double) (after - before) / kept.length;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * @return Bytes allocated by all threads, or -1 if the JVM can't tell
+     */
+    private static long runRounds(ExecutorService executor, Function<ItemStack, Object> convert, ItemStack[] stacks,
+            int threads, int rounds) {
+        final List<Future<Long>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                final long before = allocatedBytes();
+                for (int round = 0; round < rounds; round++) {
+                    for (ItemStack stack : stacks) {
+                        convert.apply(stack);
+                    }
+                }
+                final long after = allocatedBytes();
+                return before < 0 || after < 0 ? -1 : after - before;
+            }));
+        }
+        long allocated = 0;
+        for (Future<Long> future : futures) {
+            try {
+                final long threadAllocated = future.get();
+                allocated = allocated < 0 || threadAllocated < 0 ? -1 : allocated + threadAllocated;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return allocated;
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static ItemStack[] itemStacks() {
+        final Item[] items = { Items.paper, Items.dye, Items.string, Items.feather, Items.diamond_sword };
+        final ItemStack[] stacks = new ItemStack[ITEM_TYPES];
+        for (int i = 0; i < ITEM_TYPES; i++) {
+            final ItemStack stack = new ItemStack(items[i % items.length], 1 + i % 64, i / items.length % 16);
+            if (i % 3 == 0) {
+                final NBTTagCompound tag = new NBTTagCompound();
+                tag.setInteger("id", i % 512);
+                tag.setString("owner", "player" + i % 7);
+                stack.setTagCompound(tag);
+            }
+            stacks[i] = stack;
+        }
+        return stacks;
+    }
+
+    /**
+     * The conversion used before definitions were interned: every stack gets its own definition, and NBT is shared
+     * through one synchronized weak map keyed by a deep NBT comparison.
+     */
+    private static final class LegacyConversion {
+
+        private final WeakHashMap<SharedSearchObject, WeakReference<LegacySharedTag>> sharedTags = new WeakHashMap<>();
+
+        Object convert(ItemStack is) {
+            final NBTTagCompound tag = is.getTagCompound();
+            final LegacyItemDef def = new LegacyItemDef(
+                    is.getItem(),
+                    Items.blaze_rod.getDamage(is),
+                    is.getItemDamageForDisplay(),
+                    is.getMaxDamage(),
+                    tag == null ? null : this.sharedTag(tag, is),
+                    OreHelper.INSTANCE.isOre(is));
+            return new LegacyStack(def, is.stackSize);
+        }
+
+        synchronized LegacySharedTag sharedTag(NBTTagCompound tag, ItemStack is) {
+            final SharedSearchObject search = new SharedSearchObject(is.getItem(), is.getItemDamage(), tag);
+            final WeakReference<LegacySharedTag> found = this.sharedTags.get(search);
+            final LegacySharedTag cached = found == null ? null : found.get();
+            if (cached != null) {
+                return cached;
+            }
+            final SharedSearchObject key = new SharedSearchObject(
+                    is.getItem(),
+                    is.getItemDamage(),
+                    (NBTTagCompound) tag.copy());
+            final LegacySharedTag shared = new LegacySharedTag((NBTTagCompound) tag.copy(), key);
+            this.sharedTags.put(key, new WeakReference<>(shared));
+            return shared;
+        }
+
+        synchronized int sharedTags() {
+            return this.sharedTags.size();
+        }
+    }
+
+    /**
+     * A shared tag copy keeping its search key alive, like the shared tags did
+     */
+    private static final class LegacySharedTag {
+
+        final NBTTagCompound tag;
+        final SharedSearchObject key;
+
+        LegacySharedTag(NBTTagCompound tag, SharedSearchObject key) {
+            this.tag = tag;
+            this.key = key;
+        }
+    }
+
+    /**
+     * The fields of a definition before interning, including the caches every copy carried
+     */
+    @SuppressWarnings("unused")
+    private static final class LegacyItemDef {
+
+        final int itemID;
+        final Item item;
+        final int myHash;
+        final int def;
+        final int damageValue;
+        final int displayDamage;
+        final int maxDamage;
+        final LegacySharedTag tagCompound;
+        final OreReference isOre;
+        String displayName;
+        List<String> tooltip;
+        Object uniqueID;
+        Object sortKey;
+
+        LegacyItemDef(Item item, int damageValue, int displayDamage, int maxDamage, LegacySharedTag tagCompound,
+                OreReference isOre) {
+            this.item = item;
+            this.itemID = Item.getIdFromItem(item);
+            this.damageValue = damageValue;
+            this.displayDamage = displayDamage;
+            this.maxDamage = maxDamage;
+            this.tagCompound = tagCompound;
+            this.isOre = isOre;
+            this.def = this.itemID << Platform.DEF_OFFSET | damageValue;
+            this.myHash = this.def ^ (tagCompound == null ? 0 : System.identityHashCode(tagCompound));
+        }
+    }
+
+    /**
+     * The fields of an item stack, so that both schemes allocate a stack per conversion
+     */
+    @SuppressWarnings("unused")
+    private static final class LegacyStack {
+
+        final LegacyItemDef def;
+        long stackSize;
+        long countRequestable;
+        long countRequestableCrafts;
+        float usedPercent;
+        boolean isCraftable;
+
+        LegacyStack(LegacyItemDef def, long stackSize) {
+            this.def = def;
+            this.stackSize = stackSize;
+        }
+    }
+}
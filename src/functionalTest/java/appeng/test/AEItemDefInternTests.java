@@ -0,0 +1,60 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.AEApi;
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.AEItemStack;
+
+public class AEItemDefInternTests {
+
+    private static ItemStack named(String name) {
+        final ItemStack stack = new ItemStack(Items.paper, 3);
+        stack.setStackDisplayName(name);
+        return stack;
+    }
+
+    @Test
+    void equalStacksShareTheirDefinition() {
+        final IAEItemStack a = AEItemStack.create(named("Shared"));
+        final IAEItemStack b = AEItemStack.create(named("Shared"));
+        assertNotSame(a, b);
+        assertSame(a.getTagCompound(), b.getTagCompound());
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        final IAEItemStack plain = AEItemStack.create(new ItemStack(Items.dye, 1, 4));
+        assertEquals(plain, AEItemStack.create(new ItemStack(Items.dye, 5, 4)));
+        assertNotEquals(plain, AEItemStack.create(new ItemStack(Items.dye, 1, 5)));
+    }
+
+    @Test
+    void differentTagsKeepDifferentDefinitions() {
+        final IAEItemStack a = AEItemStack.create(named("First"));
+        final IAEItemStack b = AEItemStack.create(named("Second"));
+        assertNotSame(a.getTagCompound(), b.getTagCompound());
+        assertNotEquals(a, b);
+        assertNotEquals(a, AEItemStack.create(new ItemStack(Items.paper)));
+    }
+
+    @Test
+    void fuzzySearchLeavesInternedDefinitionsAlone() {
+        final IItemList<IAEItemStack> list = AEApi.instance().storage().createItemList();
+        final IAEItemStack stored = AEItemStack.create(new ItemStack(Items.diamond_sword, 1, 10));
+        list.add(stored);
+        list.add(AEItemStack.create(new ItemStack(Items.diamond_sword, 1, 200)));
+
+        // the search bounds are modified copies of the definition
+        assertEquals(2, list.findFuzzy(stored, FuzzyMode.IGNORE_ALL).size());
+        assertEquals(10, stored.getItemDamage());
+        assertEquals(stored, AEItemStack.create(new ItemStack(Items.diamond_sword, 1, 10)));
+        assertEquals(stored, list.findPrecise(AEItemStack.create(new ItemStack(Items.diamond_sword, 1, 10))));
+    }
+}
@@ -0,0 +1,122 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import net.minecraft.init.Items;
+import net.minecraft.inventory.InventoryBasic;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.config.InsertionMode;
+import appeng.util.inv.AdaptorIInventory;
+
+public class AdaptorIInventoryTests {
+
+    private static ItemStack[] itemTypes() {
+        final ItemStack named = new ItemStack(Items.paper);
+        named.setStackDisplayName("Named paper");
+        return new ItemStack[] { new ItemStack(Items.paper), named, new ItemStack(Items.apple),
+                new ItemStack(Items.dye, 1, 4), new ItemStack(Items.dye, 1, 5), new ItemStack(Items.ender_pearl) };
+    }
+
+    private static ItemStack sized(ItemStack type, int size) {
+        final ItemStack copy = type.copy();
+        copy.stackSize = size;
+        return copy;
+    }
+
+    private static void assertSameStack(ItemStack expected, ItemStack actual) {
+        if (expected == null || actual == null) {
+            assertEquals(expected, actual);
+            return;
+        }
+        assertTrue(ItemStack.areItemStacksEqual(expected, actual), expected + " != " + actual);
+    }
+
+    @Test
+    void indexedAdaptorMatchesLinearScan() {
+        final ItemStack[] types = itemTypes();
+        final Random random = new Random(7);
+        final InventoryBasic linearInv = new InventoryBasic("linear", false, 120);
+        final InventoryBasic indexedInv = new InventoryBasic("indexed", false, 120);
+        final AdaptorIInventory linear = new AdaptorIInventory(linearInv, false);
+        final AdaptorIInventory indexed = new AdaptorIInventory(indexedInv, true);
+
+        for (int op = 0; op < 5000; op++) {
+            final ItemStack type = types[random.nextInt(types.length)];
+            final int amount = 1 + random.nextInt(150);
+            switch (random.nextInt(7)) {
+                case 0 -> assertSameStack(linear.addItems(sized(type, amount)), indexed.addItems(sized(type, amount)));
+                case 1 -> assertSameStack(
+                        linear.addItems(sized(type, amount), InsertionMode.PREFER_EMPTY),
+                        indexed.addItems(sized(type, amount), InsertionMode.PREFER_EMPTY));
+                case 2 -> assertSameStack(
+                        linear.removeItems(amount, type, null),
+                        indexed.removeItems(amount, type, null));
+                case 3 -> assertSameStack(
+                        linear.simulateRemove(amount, type, null),
+                        indexed.simulateRemove(amount, type, null));
+                case 4 -> assertSameStack(
+                        linear.removeSimilarItems(amount, type, FuzzyMode.IGNORE_ALL, null),
+                        indexed.removeSimilarItems(amount, type, FuzzyMode.IGNORE_ALL, null));
+                case 5 -> assertSameStack(
+                        linear.removeItems(amount, null, null),
+                        indexed.removeItems(amount, null, null));
+                default -> {
+                    // something else changes the inventory behind the adaptor's back
+                    final int slot = random.nextInt(linearInv.getSizeInventory());
+                    final ItemStack changed = random.nextBoolean() ? null : sized(type, 1 + random.nextInt(64));
+                    linearInv.setInventorySlotContents(slot, changed == null ? null : changed.copy());
+                    indexedInv.setInventorySlotContents(slot, changed == null ? null : changed.copy());
+                }
+            }
+            for (int slot = 0; slot < linearInv.getSizeInventory(); slot++) {
+                assertSameStack(linearInv.getStackInSlot(slot), indexedInv.getStackInSlot(slot));
+            }
+            assertEquals(linear.containsItems(), indexed.containsItems());
+        }
+    }
+
+    @Test
+    void operationsMarkInventoryDirtyOnce() {
+        final CountingInventory inv = new CountingInventory(81);
+        final AdaptorIInventory adaptor = new AdaptorIInventory(inv, true);
+
+        assertNull(adaptor.addItems(sized(new ItemStack(Items.apple), 64 * 10)));
+        assertEquals(1, inv.markDirtyCalls);
+
+        final ItemStack removed = adaptor.removeItems(64 * 4, new ItemStack(Items.apple), null);
+        assertNotNull(removed);
+        assertEquals(64 * 4, removed.stackSize);
+        assertEquals(2, inv.markDirtyCalls);
+
+        assertNotNull(adaptor.simulateRemove(64, new ItemStack(Items.apple), null));
+        assertNull(adaptor.removeItems(1, new ItemStack(Items.paper), null));
+        assertEquals(2, inv.markDirtyCalls);
+    }
+
+    @Test
+    void indexNoticesReplacedTag() {
+        final InventoryBasic inv = new InventoryBasic("test", false, 81);
+        final AdaptorIInventory adaptor = new AdaptorIInventory(inv, true);
+
+        final ItemStack named = new ItemStack(Items.paper);
+        named.setStackDisplayName("Named paper");
+        assertNull(adaptor.addItems(sized(named, 10)));
+        // the slot keeps its stack, only the tag is replaced
+        final ItemStack renamedTag = new ItemStack(Items.paper);
+        renamedTag.setStackDisplayName("Renamed paper");
+        inv.getStackInSlot(0).setTagCompound(renamedTag.getTagCompound());
+
+        final ItemStack renamed = new ItemStack(Items.paper);
+        renamed.setStackDisplayName("Renamed paper");
+        final ItemStack removed = adaptor.removeItems(10, renamed, null);
+        assertNotNull(removed);
+        assertEquals(10, removed.stackSize);
+        assertNull(adaptor.removeItems(10, named, null));
+    }
+}
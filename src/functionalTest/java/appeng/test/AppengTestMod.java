@@ -20,6 +20,10 @@ import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
 
+import appeng.bench.CompassSearchBenchmark;
+import appeng.bench.CraftingPlannerBenchmark;
+import appeng.bench.InventoryAdaptorBenchmark;
+import appeng.bench.ItemStackInternBenchmark;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.Mod.EventHandler;
@@ -47,6 +51,14 @@ public class AppengTestMod {
         MinecraftServer.getServer().addChatMessage(new ChatComponentText("Running AE2 unit tests..."));
         runTests();
         MinecraftServer.getServer().addChatMessage(new ChatComponentText("Running AE2 unit tests finished"));
+        if (Boolean.getBoolean("appeng.benchmarks")) {
+            MinecraftServer.getServer().addChatMessage(new ChatComponentText("Running AE2 benchmarks..."));
+            CraftingPlannerBenchmark.runFromServer();
+            InventoryAdaptorBenchmark.runFromServer();
+            ItemStackInternBenchmark.runFromServer();
+            CompassSearchBenchmark.runFromServer();
+            MinecraftServer.getServer().addChatMessage(new ChatComponentText("Running AE2 benchmarks finished"));
+        }
     }
 
     public void runTests() {
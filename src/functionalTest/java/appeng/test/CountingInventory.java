@@ -0,0 +1,33 @@
+package appeng.test;
+
+import net.minecraft.inventory.InventoryBasic;
+import net.minecraft.item.ItemStack;
+
+/**
+ * An inventory that counts how often it is marked dirty by its users, for tests and benchmarks of inventory adaptors.
+ */
+public class CountingInventory extends InventoryBasic {
+
+    public long markDirtyCalls = 0;
+    private boolean settingSlot = false;
+
+    public CountingInventory(int size) {
+        super("counting", false, size);
+    }
+
+    @Override
+    public void setInventorySlotContents(int slot, ItemStack stack) {
+        // InventoryBasic marks itself dirty on every slot change, only count the adaptor's own calls
+        settingSlot = true;
+        super.setInventorySlotContents(slot, stack);
+        settingSlot = false;
+    }
+
+    @Override
+    public void markDirty() {
+        if (!settingSlot) {
+            markDirtyCalls++;
+        }
+        super.markDirty();
+    }
+}
@@ -0,0 +1,72 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.util.DimensionalCoord;
+import appeng.me.cluster.implementations.CraftingJobState;
+import appeng.util.item.AEItemStack;
+
+public class CraftingJobStateTests {
+
+    private static IAEItemStack stack(ItemStack is, long size) {
+        final IAEItemStack stack = AEItemStack.create(is);
+        stack.setStackSize(size);
+        return stack;
+    }
+
+    @Test
+    void jobStateSurvivesRoundTrip() throws IOException {
+        final ItemStack named = new ItemStack(Items.paper);
+        named.setStackDisplayName("Blueprint");
+
+        final CraftingJobState state = new CraftingJobState();
+        state.addTask(AEItemStack.create(named), 1_000_000L);
+        state.addTask(AEItemStack.create(new ItemStack(Items.dye, 1, 4)), 3L);
+        state.getInventory().add(stack(new ItemStack(Items.iron_ingot), 5_000_000_000L));
+        state.getInventory().add(stack(new ItemStack(Items.dye, 1, 4), 12));
+        final IAEItemStack craftable = stack(new ItemStack(Items.gold_ingot), 7);
+        craftable.setCraftable(true);
+        craftable.setCountRequestable(9);
+        craftable.setCountRequestableCrafts(4);
+        craftable.setUsedPercent(0.375f);
+        state.getWaitingFor().add(craftable);
+        state.getWaitingForMissing().add(stack(named, 2));
+        final List<DimensionalCoord> coords = Arrays
+                .asList(new DimensionalCoord(-100, 5, 30_000_000, -1), new DimensionalCoord(0, 255, -7, 7));
+        state.getProviders().put(AEItemStack.create(new ItemStack(Items.gold_ingot)), coords);
+
+        final CraftingJobState read = CraftingJobState.read(state.write());
+
+        assertEquals(state.getTasks(), read.getTasks());
+        assertEquals(1_000_000L, read.getTasks().get(AEItemStack.create(named)));
+        assertEquals(
+                5_000_000_000L,
+                read.getInventory().findPrecise(AEItemStack.create(new ItemStack(Items.iron_ingot))).getStackSize());
+        assertEquals(
+                12,
+                read.getInventory().findPrecise(AEItemStack.create(new ItemStack(Items.dye, 1, 4))).getStackSize());
+        final IAEItemStack readCraftable = read.getWaitingFor().findPrecise(craftable);
+        assertTrue(readCraftable.isCraftable());
+        assertEquals(9, readCraftable.getCountRequestable());
+        assertEquals(4, readCraftable.getCountRequestableCrafts());
+        assertEquals(0.375f, readCraftable.getUsedPercent());
+        assertEquals(2, read.getWaitingForMissing().findPrecise(AEItemStack.create(named)).getStackSize());
+
+        final List<DimensionalCoord> readCoords = read.getProviders()
+                .get(AEItemStack.create(new ItemStack(Items.gold_ingot)));
+        assertEquals(2, readCoords.size());
+        for (int i = 0; i < coords.size(); i++) {
+            assertTrue(coords.get(i).isEqual(readCoords.get(i)));
+        }
+    }
+}
@@ -21,7 +21,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import appeng.api.storage.data.IAEItemStack;
+import appeng.core.AEConfig;
 import appeng.crafting.v2.CraftingJobV2;
+import appeng.crafting.v2.CraftingPlanCache;
 import appeng.test.mockme.MockAESystem;
 import appeng.util.item.AEItemStack;
 import appeng.util.item.ItemList;
@@ -417,4 +419,98 @@ public class CraftingV2Tests {
                 AEItemStack.create(withSize(goldIngot, 0)).setCountRequestable(900),
                 AEItemStack.create(withSize(goldBlock, 0)).setCountRequestable(100));
     }
+
+    private CraftingJobV2 simulateWithStorageModel(MockAESystem aeSystem, ItemStack request, boolean lazy) {
+        final boolean previous = AEConfig.instance.craftingLazyStorageModel;
+        AEConfig.instance.craftingLazyStorageModel = lazy;
+        try {
+            final CraftingJobV2 job = aeSystem.makeCraftingJob(request);
+            simulateJobAndCheck(job, SIMPLE_SIMULATION_TIMEOUT_MS);
+            return job;
+        } finally {
+            AEConfig.instance.craftingLazyStorageModel = previous;
+        }
+    }
+
+    private void assertSamePlanWithLazyStorage(MockAESystem aeSystem, ItemStack request) {
+        final CraftingJobV2 eager = simulateWithStorageModel(aeSystem, request, false);
+        final CraftingJobV2 lazy = simulateWithStorageModel(aeSystem, request, true);
+        assertEquals(eager.isSimulation(), lazy.isSimulation());
+        ItemList eagerPlan = new ItemList();
+        eager.populatePlan(eagerPlan);
+        assertJobPlanEquals(lazy, eagerPlan.toArray(new IAEItemStack[0]));
+    }
+
+    @Test
+    void lazyStorageModelMatchesEager() {
+        MockAESystem aeSystem = new MockAESystem(dummyWorld);
+        aeSystem.addStoredItem(new ItemStack(Blocks.log, 1, 0));
+        aeSystem.addStoredItem(new ItemStack(Blocks.log, 1, 1));
+        aeSystem.addStoredItem(new ItemStack(Items.gold_ingot, 64));
+        aeSystem.addStoredItem(gtHammer.copy());
+        aeSystem.addStoredItem(withSize(bronzeIngot.copy(), 3));
+        aeSystem.addStoredItem(withSize(ironDust.copy(), 64));
+        addPlankPatterns(aeSystem);
+        addFuzzyChestPattern(aeSystem);
+        addDummyGappleRecipe(aeSystem);
+        addHammerBronzePlateRecipe(aeSystem);
+        addHammerBronzeDoublePlateRecipe(aeSystem);
+
+        assertSamePlanWithLazyStorage(aeSystem, new ItemStack(Blocks.chest, 1));
+        assertSamePlanWithLazyStorage(aeSystem, new ItemStack(Blocks.chest, 2));
+        assertSamePlanWithLazyStorage(aeSystem, new ItemStack(Items.golden_apple, 80));
+        assertSamePlanWithLazyStorage(aeSystem, bronzeDoublePlate.copy());
+        assertSamePlanWithLazyStorage(aeSystem, withSize(bronzePlate.copy(), 2));
+    }
+
+    @Test
+    void lazyStorageModelSeesStorageAsPlanningStarted() {
+        MockAESystem aeSystem = new MockAESystem(dummyWorld);
+        aeSystem.addStoredItem(withSize(ironDust, 2));
+        aeSystem.newProcessingPattern().addInput(withSize(ironDust, 2)) //
+                .addOutput(withSize(ironIngot, 1)) //
+                .buildAndAdd();
+
+        final boolean previous = AEConfig.instance.craftingLazyStorageModel;
+        AEConfig.instance.craftingLazyStorageModel = true;
+        try {
+            final CraftingJobV2 job = aeSystem.makeCraftingJob(withSize(ironIngot, 2));
+            // stored after the job was created, before planning first reads the dust
+            aeSystem.addStoredItem(withSize(ironDust, 2));
+            simulateJobAndCheck(job, SIMPLE_SIMULATION_TIMEOUT_MS);
+            assertTrue(job.isSimulation());
+
+            final CraftingJobV2 later = aeSystem.makeCraftingJob(withSize(ironIngot, 2));
+            simulateJobAndCheck(later, SIMPLE_SIMULATION_TIMEOUT_MS);
+            assertFalse(later.isSimulation());
+        } finally {
+            AEConfig.instance.craftingLazyStorageModel = previous;
+        }
+    }
+
+    @Test
+    void planCacheIsSharedUntilPatternsChange() {
+        MockAESystem aeSystem = new MockAESystem(dummyWorld);
+        aeSystem.addStoredItem(new ItemStack(Blocks.log, 4, 0));
+        addPlankPatterns(aeSystem);
+        addFuzzyChestPattern(aeSystem);
+
+        final CraftingJobV2 first = aeSystem.makeCraftingJob(new ItemStack(Blocks.chest, 1));
+        simulateJobAndCheck(first, SIMPLE_SIMULATION_TIMEOUT_MS);
+        final CraftingPlanCache planCache = aeSystem.cgCache.getPlanCache();
+        final CraftingJobV2 second = aeSystem.makeCraftingJob(new ItemStack(Blocks.chest, 1));
+        simulateJobAndCheck(second, SIMPLE_SIMULATION_TIMEOUT_MS);
+        assertSame(planCache, aeSystem.cgCache.getPlanCache());
+        assertFalse(second.isSimulation());
+
+        addDummyGappleRecipe(aeSystem);
+        final CraftingJobV2 third = aeSystem.makeCraftingJob(new ItemStack(Blocks.chest, 1));
+        final CraftingPlanCache newPlanCache = aeSystem.cgCache.getPlanCache();
+        assertNotSame(planCache, newPlanCache);
+        assertTrue(newPlanCache.getVersion() > planCache.getVersion());
+        simulateJobAndCheck(third, SIMPLE_SIMULATION_TIMEOUT_MS);
+        assertFalse(third.isSimulation());
+        final IAEItemStack gapple = AEItemStack.create(new ItemStack(Items.golden_apple));
+        assertFalse(newPlanCache.getPrecisePatternsFor(gapple).isEmpty());
+    }
 }
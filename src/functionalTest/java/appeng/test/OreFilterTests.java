@@ -0,0 +1,53 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.function.Predicate;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.item.AEItemStack;
+import appeng.util.prioitylist.OreFilteredList;
+
+public class OreFilterTests {
+
+    private static IAEItemStack stack(ItemStack is) {
+        return AEItemStack.create(is);
+    }
+
+    @Test
+    void sameFilterTextSharesCompiledFilter() {
+        final Predicate<IAEItemStack> first = OreFilteredList.makeFilter("ingot*&!*Gold");
+        final Predicate<IAEItemStack> second = OreFilteredList.makeFilter("ingot*&!*Gold");
+        assertNotNull(first);
+        assertSame(first, second);
+        assertTrue(first.test(stack(new ItemStack(Items.iron_ingot))));
+        assertFalse(first.test(stack(new ItemStack(Items.gold_ingot))));
+        assertFalse(first.test(stack(new ItemStack(Items.apple))));
+        // cached answers stay the same
+        assertTrue(first.test(stack(new ItemStack(Items.iron_ingot, 5))));
+        assertFalse(first.test(stack(new ItemStack(Items.gold_ingot, 5))));
+    }
+
+    @Test
+    void regexFilter() {
+        final Predicate<IAEItemStack> filter = OreFilteredList.makeFilter("^(ingot|gem)Iron$");
+        assertNotNull(filter);
+        assertTrue(filter.test(stack(new ItemStack(Items.iron_ingot))));
+        assertFalse(filter.test(stack(new ItemStack(Items.gold_ingot))));
+    }
+
+    @Test
+    void oreDictionaryChangesInvalidateResults() {
+        final Predicate<IAEItemStack> filter = OreFilteredList.makeFilter("aeFilterTestOre");
+        final IAEItemStack flint = stack(new ItemStack(Items.flint));
+        assertFalse(filter.test(flint));
+        OreDictionary.registerOre("aeFilterTestOre", new ItemStack(Items.flint));
+        assertTrue(filter.test(flint));
+    }
+}
@@ -0,0 +1,82 @@
+package appeng.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.cache.CacheStats;
+
+import appeng.api.AEApi;
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.helpers.PatternHelper;
+import appeng.items.misc.ItemEncodedPattern;
+import appeng.util.Platform;
+
+public class PatternHelperCacheTests {
+
+    private static ItemStack encodeProcessingPattern(ItemStack input, ItemStack output) {
+        final ItemStack encodedPattern = AEApi.instance().definitions().items().encodedPattern().maybeStack(1).get();
+        final NBTTagCompound patternTags = new NBTTagCompound();
+        final NBTTagList ins = new NBTTagList();
+        final NBTTagList outs = new NBTTagList();
+        final NBTTagCompound in = new NBTTagCompound();
+        Platform.writeItemStackToNBT(input, in);
+        ins.appendTag(in);
+        final NBTTagCompound out = new NBTTagCompound();
+        Platform.writeItemStackToNBT(output, out);
+        outs.appendTag(out);
+        patternTags.setTag("in", ins);
+        patternTags.setTag("out", outs);
+        encodedPattern.setTagCompound(patternTags);
+        return encodedPattern;
+    }
+
+    @Test
+    void identicalPatternsShareDecodedContents() {
+        final ItemStack first = encodeProcessingPattern(
+                new ItemStack(Items.ender_pearl),
+                new ItemStack(Items.blaze_rod, 7));
+        final ItemStack second = encodeProcessingPattern(
+                new ItemStack(Items.ender_pearl),
+                new ItemStack(Items.blaze_rod, 7));
+        final ItemEncodedPattern item = (ItemEncodedPattern) first.getItem();
+
+        final CacheStats before = PatternHelper.getCacheStats();
+        final ICraftingPatternDetails a = item.getPatternForItem(first, null);
+        final ICraftingPatternDetails b = item.getPatternForItem(second, null);
+        final CacheStats delta = PatternHelper.getCacheStats().minus(before);
+
+        assertNotNull(a);
+        assertNotNull(b);
+        assertEquals(1, delta.missCount());
+        assertEquals(1, delta.hitCount());
+        assertEquals(a, b);
+        assertSame(a.getInputs(), b.getInputs());
+        assertSame(first, a.getPattern());
+        assertSame(second, b.getPattern());
+
+        a.setPriority(5);
+        b.setPriority(-3);
+        assertEquals(5, a.getPriority());
+        assertEquals(-3, b.getPriority());
+    }
+
+    @Test
+    void differentPatternsAreDecodedSeparately() {
+        final ItemStack first = encodeProcessingPattern(new ItemStack(Items.diamond), new ItemStack(Items.stick, 3));
+        final ItemStack second = encodeProcessingPattern(new ItemStack(Items.diamond), new ItemStack(Items.stick, 4));
+        final ItemEncodedPattern item = (ItemEncodedPattern) first.getItem();
+
+        final ICraftingPatternDetails a = item.getPatternForItem(first, null);
+        final ICraftingPatternDetails b = item.getPatternForItem(second, null);
+
+        assertNotEquals(a, b);
+        assertEquals(3, a.getOutputs()[0].getStackSize());
+        assertEquals(4, b.getOutputs()[0].getStackSize());
+    }
+}
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 
 import net.minecraft.block.Block;
@@ -22,6 +23,8 @@ import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.client.renderer.entity.RenderItem;
 import net.minecraft.client.renderer.entity.RenderManager;
+import net.minecraft.client.resources.IReloadableResourceManager;
+import net.minecraft.client.resources.Language;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
@@ -35,6 +38,7 @@ import net.minecraftforge.client.ForgeHooksClient;
 import net.minecraftforge.client.IItemRenderer;
 import net.minecraftforge.client.MinecraftForgeClient;
 import net.minecraftforge.client.event.MouseEvent;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.RenderLivingEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.common.MinecraftForge;
@@ -46,6 +50,7 @@ import appeng.api.util.AEColor;
 import appeng.block.AEBaseBlock;
 import appeng.client.render.BaseBlockRender;
 import appeng.client.render.BlockPosHighlighter;
+import appeng.client.render.CableBusGeometryCache;
 import appeng.client.render.TESRWrapper;
 import appeng.client.render.WorldRender;
 import appeng.client.render.effects.AssemblerFX;
@@ -74,6 +79,7 @@ import appeng.hooks.TickHandler.PlayerColor;
 import appeng.server.ServerHelper;
 import appeng.transformer.MissingCoreMod;
 import appeng.util.Platform;
+import appeng.util.item.ItemSortKey;
 import cpw.mods.fml.client.registry.ClientRegistry;
 import cpw.mods.fml.client.registry.RenderingRegistry;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
@@ -111,6 +117,19 @@ public class ClientHelper extends ServerHelper {
             ClientRegistry.registerKeyBinding(binding);
             this.bindings.put(key, binding);
         }
+
+        // item names change with the language, which also reloads resources
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager())
+                .registerReloadListener(resourceManager -> ItemSortKey.reload(getCurrentLocale()));
+    }
+
+    private static Locale getCurrentLocale() {
+        final Language language = Minecraft.getMinecraft().getLanguageManager().getCurrentLanguage();
+        if (language == null) {
+            return Locale.getDefault();
+        }
+        final String[] code = language.getLanguageCode().split("_", 2);
+        return code.length == 2 ? new Locale(code[0], code[1]) : new Locale(code[0]);
     }
 
     @Override
@@ -411,6 +430,13 @@ public class ClientHelper extends ServerHelper {
         }
     }
 
+    @SubscribeEvent
+    public void debugText(final RenderGameOverlayEvent.Text ev) {
+        if (Minecraft.getMinecraft().gameSettings.showDebugInfo) {
+            ev.left.add(CableBusGeometryCache.INSTANCE.getDebugText());
+        }
+    }
+
     @SubscribeEvent
     public void updateTextureSheet(final TextureStitchEvent.Pre ev) {
         if (ev.map.getTextureType() == 1) {
@@ -420,6 +446,8 @@ public class ClientHelper extends ServerHelper {
         }
 
         if (ev.map.getTextureType() == 0) {
+            CableBusGeometryCache.INSTANCE.clear();
+
             for (final ExtraBlockTextures et : ExtraBlockTextures.values()) {
                 et.registerIcon(ev.map);
             }
@@ -62,6 +62,7 @@ import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketSwitchGuis;
 import appeng.core.sync.packets.PacketValueConfig;
 import appeng.crafting.v2.CraftingJobV2;
+import appeng.crafting.v2.CraftingRequest;
 import appeng.helpers.WirelessTerminalGuiObject;
 import appeng.integration.modules.NEI;
 import appeng.parts.reporting.PartCraftingTerminal;
@@ -69,10 +70,10 @@ import appeng.parts.reporting.PartPatternTerminal;
 import appeng.parts.reporting.PartPatternTerminalEx;
 import appeng.parts.reporting.PartTerminal;
 import appeng.util.ColorPickHelper;
+import appeng.util.ItemSorters;
 import appeng.util.Platform;
 import appeng.util.ReadableNumberConverter;
 import appeng.util.RoundHelper;
-import appeng.util.item.AEItemStack;
 
 public class GuiCraftConfirm extends AEBaseGui implements ICraftingCPUTableHolder, IGuiTooltipHandler {
 
@@ -841,6 +842,12 @@ public class GuiCraftConfirm extends AEBaseGui implements ICraftingCPUTableHolde
         this.jobTree = jobTree;
     }
 
+    public void loadJobSubtree(int subtreeId, CraftingRequest<?> subtree) {
+        if (this.jobTree != null) {
+            this.craftingTree.loadSubtree(subtreeId, subtree);
+        }
+    }
+
     Comparator<IAEItemStack> comparator = (i1, i2) -> {
         // missing items always first
 
@@ -868,15 +875,8 @@ public class GuiCraftConfirm extends AEBaseGui implements ICraftingCPUTableHolde
                     + (missing2 != null ? missing2.getStackSize() : 0));
             return Long.compare(amount1, amount2) * sortDir.sortHint;
         }
-        if (sortMode == CraftingSortOrder.NAME)
-            return ((AEItemStack) i1).getDisplayName().compareToIgnoreCase(((AEItemStack) i2).getDisplayName())
-                    * sortDir.sortHint;
-        if (sortMode == CraftingSortOrder.MOD) {
-            int v = ((AEItemStack) i1).getModID().compareToIgnoreCase(((AEItemStack) i2).getModID());
-            return (v == 0
-                    ? ((AEItemStack) i1).getDisplayName().compareToIgnoreCase(((AEItemStack) i2).getDisplayName())
-                    : v) * sortDir.sortHint;
-        }
+        if (sortMode == CraftingSortOrder.NAME) return ItemSorters.compareByName(i1, i2) * sortDir.sortHint;
+        if (sortMode == CraftingSortOrder.MOD) return ItemSorters.compareByMod(i1, i2) * sortDir.sortHint;
         if (sortMode == CraftingSortOrder.PERCENT) {
             float percent1 = (storage1 != null && pending1 == null && missing1 == null ? storage1.getUsedPercent()
                     : -1);
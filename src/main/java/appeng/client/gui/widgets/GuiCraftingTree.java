@@ -2,6 +2,7 @@ package appeng.client.gui.widgets;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.IOException;
 import java.nio.IntBuffer;
 import java.nio.file.FileAlreadyExistsException;
 import java.time.LocalDateTime;
@@ -38,6 +39,8 @@ import appeng.client.gui.AEBaseGui;
 import appeng.core.AELog;
 import appeng.core.localization.GuiColors;
 import appeng.core.localization.GuiText;
+import appeng.core.sync.network.NetworkHandler;
+import appeng.core.sync.packets.PacketValueConfig;
 import appeng.crafting.v2.CraftingRequest;
 import appeng.crafting.v2.CraftingRequest.UsedResolverEntry;
 import appeng.crafting.v2.resolvers.CraftableItemResolver.CraftFromPatternTask;
@@ -47,6 +50,8 @@ import appeng.crafting.v2.resolvers.IgnoreMissingItemResolver.IgnoreMissingItemT
 import appeng.crafting.v2.resolvers.SimulateMissingItemResolver;
 import appeng.util.Platform;
 import appeng.util.ReadableNumberConverter;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 
 public class GuiCraftingTree {
 
@@ -69,6 +74,13 @@ public class GuiCraftingTree {
     private ArrayList<Node> goToData = new ArrayList<Node>();
     private int searchGotoIndex = -1;
     private Node needHighlight;
+    // Stub requests whose children are still on the server, by subtree handle
+    private final Int2ObjectOpenHashMap<CraftingRequest<?>> deferredRequests = new Int2ObjectOpenHashMap<>();
+    // Subtrees requested from the server, by subtree handle, with the time they were requested at
+    private final Int2LongOpenHashMap pendingSubtrees = new Int2LongOpenHashMap();
+    private static final int MAX_PENDING_SUBTREES = 4;
+    // A subtree that did not arrive or could not be loaded in time is requested again
+    private static final long SUBTREE_TIMEOUT_MS = 10_000;
 
     private abstract class Node {
 
@@ -131,6 +143,9 @@ public class GuiCraftingTree {
             }
             drawSlotOutline(x, y, color, false);
             drawStack(x, y, getDisplayItemForRequest(request), true);
+            if (request.deferredSubtreeId >= 0) {
+                drawSmallStackCount(x, y + 12, "...", textColor);
+            }
             if (request.wasSimulated) {
                 parent.bindTexture("guis/states.png");
                 GL11.glScalef(0.5f, 0.5f, 1.0f);
@@ -248,6 +263,9 @@ public class GuiCraftingTree {
         public void step(List<NodeBuilderTask> stack) {
             if (myNode == null) {
                 myNode = new RequestNode(x, y, parentNode, request);
+                if (request.deferredSubtreeId >= 0) {
+                    deferredRequests.put(request.deferredSubtreeId, request);
+                }
                 treeNodes.computeIfAbsent(y, ignored -> new ArrayList<>()).add(myNode);
             }
             if (currentChild >= request.usedResolvers.size()) {
@@ -331,8 +349,13 @@ public class GuiCraftingTree {
     public void updateSearchGoToList(String s) {
         needHighlight = null;
         searchGotoIndex = -1;
-        goToData.clear();
         search = s;
+        collectSearchMatches();
+        searchGoTo(true);
+    }
+
+    private void collectSearchMatches() {
+        goToData.clear();
         if (search.isEmpty()) return;
 
         for (ArrayList<Node> row : treeNodes.values()) {
@@ -345,7 +368,6 @@ public class GuiCraftingTree {
                         }
             }
         }
-        searchGoTo(true);
     }
 
     public void searchGoTo(boolean forward) {
@@ -367,26 +389,63 @@ public class GuiCraftingTree {
         final boolean isDifferent = (request != this.request);
         this.request = request;
         if (isDifferent) {
-            this.treeNodes.clear();
-            this.treeWidth = 0;
-            this.treeHeight = 0;
-            final ArrayList<NodeBuilderTask> tasks = new ArrayList<>();
-            tasks.add(new NodeBuilderRequestWalker(0, 0, null, request));
-            while (!tasks.isEmpty()) {
-                tasks.get(tasks.size() - 1).step(tasks);
-            }
-            for (ArrayList<Node> row : treeNodes.values()) {
-                for (Node node : row) {
-                    if (node.parentNode != null) {
-                        node.parentNode.childNodes.add(node);
-                    }
-                    treeWidth = Math.max(treeWidth, node.x + node.width);
-                    treeHeight = Math.max(treeHeight, node.y + node.height);
+            this.pendingSubtrees.clear();
+            rebuildNodes();
+        }
+    }
+
+    private void rebuildNodes() {
+        this.treeNodes.clear();
+        this.deferredRequests.clear();
+        this.treeWidth = 0;
+        this.treeHeight = 0;
+        final ArrayList<NodeBuilderTask> tasks = new ArrayList<>();
+        tasks.add(new NodeBuilderRequestWalker(0, 0, null, request));
+        while (!tasks.isEmpty()) {
+            tasks.get(tasks.size() - 1).step(tasks);
+        }
+        for (ArrayList<Node> row : treeNodes.values()) {
+            for (Node node : row) {
+                if (node.parentNode != null) {
+                    node.parentNode.childNodes.add(node);
                 }
+                treeWidth = Math.max(treeWidth, node.x + node.width);
+                treeHeight = Math.max(treeHeight, node.y + node.height);
             }
         }
     }
 
+    /**
+     * Attaches the children of a request the server had deferred, received after the user scrolled to it.
+     */
+    public void loadSubtree(final int subtreeId, final CraftingRequest<?> subtree) {
+        pendingSubtrees.remove(subtreeId);
+        final CraftingRequest<?> stub = deferredRequests.get(subtreeId);
+        if (stub == null) {
+            return;
+        }
+        stub.loadDeferredChildren(subtree);
+        rebuildNodes();
+        needHighlight = null;
+        searchGotoIndex = -1;
+        collectSearchMatches();
+    }
+
+    private void requestSubtree(final int subtreeId) {
+        final long now = System.currentTimeMillis();
+        pendingSubtrees.int2LongEntrySet().removeIf(e -> now - e.getLongValue() > SUBTREE_TIMEOUT_MS);
+        if (pendingSubtrees.size() >= MAX_PENDING_SUBTREES || pendingSubtrees.containsKey(subtreeId)) {
+            return;
+        }
+        pendingSubtrees.put(subtreeId, now);
+        try {
+            NetworkHandler.instance
+                    .sendToServer(new PacketValueConfig("Terminal.TreeSubtree", Integer.toString(subtreeId)));
+        } catch (final IOException e) {
+            AELog.debug(e);
+        }
+    }
+
     private float zoomLevel = 1.0f;
     private float lastDragX = Float.NEGATIVE_INFINITY;
     private float lastDragY = Float.NEGATIVE_INFINITY;
@@ -502,6 +561,10 @@ public class GuiCraftingTree {
                     }
                     node.draw();
                     node.drawParentLine();
+                    if (!inScreenshotMode && node instanceof RequestNode rNode
+                            && rNode.request.deferredSubtreeId >= 0) {
+                        requestSubtree(rNode.request.deferredSubtreeId);
+                    }
                     final int widgetLeft = parent.getGuiLeft() + widgetX;
                     final int nodeX = widgetLeft + (int) (node.x * zoomLevel) - (int) zScrollX;
                     final int widgetTop = parent.getGuiTop() + widgetY;
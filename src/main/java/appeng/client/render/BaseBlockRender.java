@@ -259,7 +259,7 @@ public class BaseBlockRender<B extends AEBaseBlock, T extends AEBaseTile> {
         return (r << 16) | (g << 8) | b;
     }
 
-    double getTesrRenderDistance() {
+    protected double getTesrRenderDistance() {
         return this.renderDistance;
     }
 
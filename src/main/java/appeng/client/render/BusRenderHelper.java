@@ -96,6 +96,14 @@ public final class BusRenderHelper implements IPartRenderHelper {
         this.itemsRendered = 0;
     }
 
+    int getPass() {
+        return this.noAlphaPass ? -1 : this.currentPass;
+    }
+
+    void addItemsRendered(final int items) {
+        this.itemsRendered += items;
+    }
+
     public double getBound(final ForgeDirection side) {
         return switch (side) {
             default -> 0.5;
@@ -0,0 +1,342 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render;
+
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import appeng.api.AEApi;
+import appeng.api.networking.IGridHost;
+import appeng.api.parts.IFacadeContainer;
+import appeng.api.parts.IFacadePart;
+import appeng.api.parts.IPartHost;
+import appeng.core.AEConfig;
+import appeng.core.AELog;
+import appeng.parts.CableBusContainer;
+import appeng.parts.networking.PartCable;
+
+/**
+ * The vertices {@link CableRenderHelper} emitted for cable buses that hold nothing but a cable and facades, so that
+ * chunk rebuilds can copy them into the Tessellator instead of rendering the cable and its facades again.
+ * <p>
+ * Entries are keyed by everything the static rendering of such a bus depends on: the cable with its connections and
+ * channels, the facades, the render pass and cable render mode, the blocks next to the bus and the light around it.
+ * Positions are stored relative to the block, so equal buses anywhere in the world share an entry. The cache is
+ * bounded by the memory its entries take and drops the least recently used ones first.
+ */
+public final class CableBusGeometryCache {
+
+    public static final CableBusGeometryCache INSTANCE = new CableBusGeometryCache();
+
+    private static final int INTS_PER_VERTEX = 8;
+    // rough size of an entry without its arrays
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final Field rawBuffer = findField("rawBuffer", "field_78405_h");
+    private final Field rawBufferIndex = findField("rawBufferIndex", "field_147569_p");
+    private final Map<Key, Geometry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long storedBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    private CableBusGeometryCache() {}
+
+    static final class Key {
+
+        private final int[] state;
+        private final int hash;
+
+        private Key(final int[] state) {
+            this.state = state;
+            this.hash = Arrays.hashCode(state);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key other && this.hash == other.hash && Arrays.equals(this.state, other.state);
+        }
+    }
+
+    private static final class Geometry {
+
+        /**
+         * Tessellator vertices with positions relative to the block
+         */
+        private final int[] vertices;
+        private final int itemsRendered;
+        private final boolean thinFacades;
+
+        private Geometry(final int[] vertices, final int itemsRendered, final boolean thinFacades) {
+            this.vertices = vertices;
+            this.itemsRendered = itemsRendered;
+            this.thinFacades = thinFacades;
+        }
+
+        private long bytes(final Key key) {
+            return ENTRY_OVERHEAD + 4L * (this.vertices.length + key.state.length);
+        }
+    }
+
+    /**
+     * Returns the key of a bus, or null if the bus can't be cached: it holds parts besides a cable, the block is being
+     * broken or the Tessellator can't be read.
+     */
+    Key createKey(final CableBusContainer cb, final IFacadeContainer fc, final RenderBlocks renderer,
+            final BusRenderHelper helper, final int x, final int y, final int z) {
+        if (AEConfig.instance.cableGeometryCacheSize <= 0 || this.rawBuffer == null || this.rawBufferIndex == null
+                || renderer.overrideBlockTexture != null
+                || !(cb.getPart(ForgeDirection.UNKNOWN) instanceof PartCable cable)) {
+            return null;
+        }
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (cb.getPart(side) != null) {
+                return null;
+            }
+        }
+
+        final IBlockAccess world = renderer.blockAccess;
+        final int[] state = new int[5 + 12 + 6 + 1 + 27];
+        int o = 0;
+
+        state[o++] = helper.getPass();
+        // smooth lighting changes the vertex colors, toggling it only reloads the renderers
+        state[o++] = AEApi.instance().partHelper().getCableRenderMode().ordinal() << 1
+                | (Minecraft.isAmbientOcclusionEnabled() ? 1 : 0);
+        final ItemStack is = cable.getItemStack();
+        state[o++] = Item.getIdFromItem(is.getItem());
+        state[o++] = is.getItemDamage();
+        state[o++] = cable.getClientState();
+
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final IFacadePart facade = fc.getFacade(side);
+            if (facade == null) {
+                state[o++] = -1;
+                state[o++] = 0;
+            } else if (facade.getItem() == null) {
+                // rendered from the facade item alone
+                return null;
+            } else {
+                state[o++] = Item.getIdFromItem(facade.getItem());
+                state[o++] = facade.getItemDamage() << 2 | (facade.notAEFacade() ? 2 : 0)
+                        | (facade.isTransparent() ? 1 : 0);
+            }
+        }
+
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            state[o++] = neighbourState(world, x, y, z, side);
+        }
+
+        // the same neighbourhood the lighting of RenderBlocksWorkaround looks at
+        final Block blk = helper.getBlock();
+        final int opaqueIndex = o++;
+        int opaque = 0;
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                for (int k = -1; k <= 1; k++) {
+                    if (world.getBlock(x + i, y + j, z + k).isOpaqueCube()) {
+                        opaque |= 1 << (o - opaqueIndex - 1);
+                    }
+                    state[o++] = blk.getMixedBrightnessForBlock(world, x + i, y + j, z + k);
+                }
+            }
+        }
+        state[opaqueIndex] = opaque;
+
+        return new Key(state);
+    }
+
+    /**
+     * What cable connections render depends on: the kind of grid host next to the bus, its color, whether it has a part
+     * facing the bus and how its facades compare to ours.
+     */
+    private static int neighbourState(final IBlockAccess world, final int x, final int y, final int z,
+            final ForgeDirection dir) {
+        final TileEntity te = world.getTileEntity(x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ);
+        int state = 0;
+
+        if (te instanceof IGridHost gh) {
+            state |= 1 + gh.getCableConnectionType(dir).ordinal();
+            state |= (1 + gh.getCableConnectionType(dir.getOpposite()).ordinal()) << 4;
+        }
+
+        if (te instanceof IPartHost ph) {
+            state |= 1 << 8;
+            state |= ph.getColor().ordinal() << 9;
+            state |= ph.getPart(dir.getOpposite()) != null ? 1 << 14 : 0;
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                final IFacadePart fp = ph.getFacadeContainer().getFacade(side);
+                if (fp != null) {
+                    state |= (fp.isTransparent() ? 1 : 2) << (15 + 2 * side.ordinal());
+                }
+            }
+        }
+
+        return state;
+    }
+
+    /**
+     * Copies the cached vertices of a bus into the Tessellator, and sets up its facades the way rendering them would.
+     *
+     * @return false if there are none
+     */
+    boolean replay(final Key key, final IFacadeContainer fc, final int x, final int y, final int z,
+            final BusRenderHelper helper) {
+        final Geometry geometry;
+        synchronized (this) {
+            geometry = this.entries.get(key);
+            if (geometry == null) {
+                this.misses++;
+                return false;
+            }
+            this.hits++;
+        }
+
+        final Tessellator tess = Tessellator.instance;
+        final int[] v = geometry.vertices;
+        final boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+        for (int i = 0; i < v.length; i += INTS_PER_VERTEX) {
+            final int c = v[i + 5];
+            if (littleEndian) {
+                tess.setColorRGBA(c & 255, c >> 8 & 255, c >> 16 & 255, c >>> 24);
+            } else {
+                tess.setColorRGBA(c >>> 24, c >> 16 & 255, c >> 8 & 255, c & 255);
+            }
+            tess.setBrightness(v[i + 7]);
+            tess.addVertexWithUV(
+                    x + Float.intBitsToFloat(v[i]),
+                    y + Float.intBitsToFloat(v[i + 1]),
+                    z + Float.intBitsToFloat(v[i + 2]),
+                    Float.intBitsToFloat(v[i + 3]),
+                    Float.intBitsToFloat(v[i + 4]));
+        }
+        helper.addItemsRendered(geometry.itemsRendered);
+
+        // the facade thickness is also used for selection boxes
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final IFacadePart facade = fc.getFacade(side);
+            if (facade != null) {
+                facade.setThinFacades(geometry.thinFacades);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The position in the Tessellator buffer rendering of a bus starts at
+     */
+    int startCapture() {
+        try {
+            return this.rawBufferIndex.getInt(Tessellator.instance);
+        } catch (final IllegalAccessException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Stores what has been emitted since {@link #startCapture()}.
+     */
+    void finishCapture(final Key key, final int start, final int x, final int y, final int z,
+            final int itemsRendered, final boolean thinFacades) {
+        final Tessellator tess = Tessellator.instance;
+        final int[] buffer;
+        final int end;
+        try {
+            buffer = (int[]) this.rawBuffer.get(tess);
+            end = this.rawBufferIndex.getInt(tess);
+        } catch (final IllegalAccessException e) {
+            return;
+        }
+        // the buffer has been drawn in between
+        if (start < 0 || end < start || (end - start) % INTS_PER_VERTEX != 0) {
+            return;
+        }
+
+        final int[] vertices = Arrays.copyOfRange(buffer, start, end);
+        final double ox = x + tess.xOffset;
+        final double oy = y + tess.yOffset;
+        final double oz = z + tess.zOffset;
+        for (int i = 0; i < vertices.length; i += INTS_PER_VERTEX) {
+            vertices[i] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(vertices[i]) - ox));
+            vertices[i + 1] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(vertices[i + 1]) - oy));
+            vertices[i + 2] = Float.floatToRawIntBits((float) (Float.intBitsToFloat(vertices[i + 2]) - oz));
+        }
+
+        final Geometry geometry = new Geometry(vertices, itemsRendered, thinFacades);
+        final long limit = AEConfig.instance.cableGeometryCacheSize * 1024L * 1024L;
+        synchronized (this) {
+            final Geometry old = this.entries.put(key, geometry);
+            if (old != null) {
+                this.storedBytes -= old.bytes(key);
+            }
+            this.storedBytes += geometry.bytes(key);
+
+            final Iterator<Map.Entry<Key, Geometry>> it = this.entries.entrySet().iterator();
+            while (this.storedBytes > limit && it.hasNext()) {
+                final Map.Entry<Key, Geometry> eldest = it.next();
+                this.storedBytes -= eldest.getValue().bytes(eldest.getKey());
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops all entries, needed when the block textures are stitched again.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.storedBytes = 0;
+    }
+
+    /**
+     * @return A line for the F3 screen
+     */
+    public synchronized String getDebugText() {
+        final long lookups = this.hits + this.misses;
+        return String.format(
+                "AE2 cable geometry: %d entries, %d KiB, %d hits, %d misses (%.0f%%)",
+                this.entries.size(),
+                this.storedBytes / 1024,
+                this.hits,
+                this.misses,
+                lookups == 0 ? 0.0 : 100.0 * this.hits / lookups);
+    }
+
+    private static Field findField(final String name, final String srgName) {
+        for (final String candidate : new String[] { name, srgName }) {
+            try {
+                final Field f = Tessellator.class.getDeclaredField(candidate);
+                f.setAccessible(true);
+                return f;
+            } catch (final NoSuchFieldException | SecurityException ignored) {}
+        }
+        AELog.info("Tessellator.%s is not accessible, cable geometry will not be cached", name);
+        return null;
+    }
+}
@@ -19,9 +19,11 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraftforge.common.util.ForgeDirection;
 
+import appeng.api.implementations.parts.IPartStorageMonitor;
 import appeng.api.parts.IFacadeContainer;
 import appeng.api.parts.IFacadePart;
 import appeng.api.parts.IPart;
+import appeng.core.AEConfig;
 import appeng.parts.BusCollisionHelper;
 import appeng.parts.CableBusContainer;
 
@@ -45,6 +47,40 @@ public class CableRenderHelper {
             renderer.blockAccess = Minecraft.getMinecraft().theWorld;
         }
 
+        final CableBusGeometryCache cache = CableBusGeometryCache.INSTANCE;
+        final CableBusGeometryCache.Key key = cache.createKey(
+                cableBusContainer,
+                iFacadeContainer,
+                renderer,
+                busRenderHelper,
+                te.xCoord,
+                te.yCoord,
+                te.zCoord);
+        if (key == null) {
+            this.renderParts(cableBusContainer, iFacadeContainer, te, renderer, busRenderHelper);
+        } else if (!cache.replay(key, iFacadeContainer, te.xCoord, te.yCoord, te.zCoord, busRenderHelper)) {
+            final int itemsRendered = busRenderHelper.getItemsRendered();
+            final int start = cache.startCapture();
+            final boolean thinFacades = this
+                    .renderParts(cableBusContainer, iFacadeContainer, te, renderer, busRenderHelper);
+            cache.finishCapture(
+                    key,
+                    start,
+                    te.xCoord,
+                    te.yCoord,
+                    te.zCoord,
+                    busRenderHelper.getItemsRendered() - itemsRendered,
+                    thinFacades);
+        }
+    }
+
+    /**
+     * @return If facades are rendered thin
+     */
+    private boolean renderParts(final CableBusContainer cableBusContainer, final IFacadeContainer iFacadeContainer,
+            final TileEntity te, final RenderBlocksWorkaround renderer, final BusRenderHelper busRenderHelper) {
+        boolean useThinFacades = false;
+
         for (final ForgeDirection s : ForgeDirection.values()) {
             final IPart part = cableBusContainer.getPart(s);
             if (part != null) {
@@ -84,7 +120,6 @@ public class CableRenderHelper {
                 }
             }
 
-            boolean useThinFacades = false;
             final double min = 2.0 / 16.0;
             final double max = 14.0 / 16.0;
 
@@ -146,6 +181,8 @@ public class CableRenderHelper {
             renderer.setTexture(null);
             renderer.setCalculations(true);
         }
+
+        return useThinFacades;
     }
 
     private void setSide(final ForgeDirection s) {
@@ -202,7 +239,7 @@ public class CableRenderHelper {
         for (final ForgeDirection s : ForgeDirection.values()) {
             final IPart part = cableBusContainer.getPart(s);
 
-            if (part != null) {
+            if (part != null && !this.isScreenFacingAway(part, s, x, y, z)) {
                 final ForgeDirection ax;
                 final ForgeDirection ay;
                 final ForgeDirection az;
@@ -250,4 +287,18 @@ public class CableRenderHelper {
             }
         }
     }
+
+    /**
+     * Monitors only draw on their front, which can't be seen once the camera is behind the center of the block.
+     */
+    private boolean isScreenFacingAway(final IPart part, final ForgeDirection side, final double x, final double y,
+            final double z) {
+        if (!AEConfig.instance.dynamicRenderCulling || !(part instanceof IPartStorageMonitor)) {
+            return false;
+        }
+
+        // x, y and z are relative to the camera
+        final double facing = (x + 0.5) * side.offsetX + (y + 0.5) * side.offsetY + (z + 0.5) * side.offsetZ;
+        return facing > 0;
+    }
 }
@@ -30,11 +30,9 @@ public class TESRWrapper extends TileEntitySpecialRenderer {
     private final RenderBlocks renderBlocksInstance = new RenderBlocks();
 
     private final BaseBlockRender blkRender;
-    private final double maxDistance;
 
     public TESRWrapper(final BaseBlockRender render) {
         this.blkRender = render;
-        this.maxDistance = this.blkRender.getTesrRenderDistance();
     }
 
     @Override
@@ -44,8 +42,8 @@ public class TESRWrapper extends TileEntitySpecialRenderer {
             final Block b = te.getBlockType();
 
             if (b instanceof AEBaseBlock && ((AEBaseTile) te).requiresTESR()) {
-                if (Math.abs(x) > this.maxDistance || Math.abs(y) > this.maxDistance
-                        || Math.abs(z) > this.maxDistance) {
+                final double maxDistance = this.blkRender.getTesrRenderDistance();
+                if (Math.abs(x) > maxDistance || Math.abs(y) > maxDistance || Math.abs(z) > maxDistance) {
                     return;
                 }
 
@@ -25,6 +25,7 @@ import org.lwjgl.opengl.GL12;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.block.crafting.BlockCraftingMonitor;
 import appeng.client.ClientHelper;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.tile.crafting.TileCraftingMonitorTile;
 import appeng.util.IWideReadableNumberConverter;
@@ -46,6 +47,11 @@ public class RenderBlockCraftingCPUMonitor
         super(true, 20);
     }
 
+    @Override
+    protected double getTesrRenderDistance() {
+        return AEConfig.instance.dynamicRenderDistance;
+    }
+
     @Override
     public void renderTile(final BlockCraftingMonitor block, final TileCraftingMonitorTile tile, final Tessellator tess,
             final double x, final double y, final double z, final float f, final RenderBlocks renderer) {
@@ -59,8 +65,13 @@ public class RenderBlockCraftingCPUMonitor
                 GL11.glPushMatrix();
                 GL11.glTranslated(x + 0.5, y + 0.5, z + 0.5);
 
-                if (tile.isUpdateList()) {
-                    tile.setUpdateList(false);
+                // set every frame, the display list only holds the item and its amount
+                final int br = 16 << 20 | 16 << 4;
+                final int var11 = br % 65536;
+                final int var12 = br / 65536;
+                OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, var11 * 0.8F, var12 * 0.8F);
+
+                if (tile.isDisplayChanged()) {
                     GL11.glNewList(tile.getDisplayList(), GL11.GL_COMPILE_AND_EXECUTE);
                     this.tesrRenderScreen(tess, tile, ais);
                     GL11.glEndList();
@@ -123,12 +134,6 @@ public class RenderBlockCraftingCPUMonitor
             final ItemStack sis = ais.getItemStack();
             sis.stackSize = 1;
 
-            final int br = 16 << 20 | 16 << 4;
-            final int var11 = br % 65536;
-            final int var12 = br / 65536;
-
-            OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, var11 * 0.8F, var12 * 0.8F);
-
             GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
 
             GL11.glDisable(GL11.GL_LIGHTING);
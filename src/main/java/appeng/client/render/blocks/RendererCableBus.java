@@ -20,6 +20,7 @@ import appeng.block.networking.BlockCableBus;
 import appeng.client.render.BaseBlockRender;
 import appeng.client.render.BusRenderHelper;
 import appeng.client.render.BusRenderer;
+import appeng.core.AEConfig;
 import appeng.tile.AEBaseTile;
 import appeng.tile.networking.TileCableBus;
 
@@ -29,6 +30,11 @@ public class RendererCableBus extends BaseBlockRender<BlockCableBus, TileCableBu
         super(true, 30);
     }
 
+    @Override
+    protected double getTesrRenderDistance() {
+        return AEConfig.instance.dynamicRenderDistance;
+    }
+
     @Override
     public void renderInventory(final BlockCableBus blk, final ItemStack is, final RenderBlocks renderer,
             final ItemRenderType type, final Object[] obj) {
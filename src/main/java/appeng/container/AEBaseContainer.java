@@ -34,14 +34,12 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.logging.log4j.Level;
 
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
 import appeng.api.config.SecurityPermissions;
 import appeng.api.implementations.guiobjects.IGuiItemObject;
 import appeng.api.networking.IGrid;
-import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.energy.IEnergyGrid;
 import appeng.api.networking.energy.IEnergySource;
@@ -49,11 +47,11 @@ import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.ISecurityGrid;
 import appeng.api.networking.security.PlayerSource;
+import appeng.api.networking.storage.IStorageGrid;
 import appeng.api.parts.IPart;
 import appeng.api.storage.IMEInventoryHandler;
 import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEItemStack;
-import appeng.api.storage.data.IAEStack;
 import appeng.api.util.ItemSearchDTO;
 import appeng.client.me.InternalSlotME;
 import appeng.client.me.SlotME;
@@ -71,7 +69,6 @@ import appeng.container.slot.SlotInaccessible;
 import appeng.container.slot.SlotPatternTerm;
 import appeng.container.slot.SlotPlayerHotBar;
 import appeng.container.slot.SlotPlayerInv;
-import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketHighlightBlockStorage;
@@ -83,16 +80,11 @@ import appeng.helpers.IPinsHandler;
 import appeng.helpers.InventoryAction;
 import appeng.items.materials.ItemMultiMaterial;
 import appeng.me.Grid;
-import appeng.me.MachineSet;
-import appeng.me.NetworkList;
+import appeng.me.cache.GridStorageCache;
 import appeng.me.cache.NetworkMonitor;
-import appeng.me.storage.MEInventoryHandler;
 import appeng.parts.automation.UpgradeInventory;
 import appeng.parts.misc.PartStorageBus;
-import appeng.tile.storage.TileChest;
-import appeng.tile.storage.TileDrive;
 import appeng.util.InventoryAdaptor;
-import appeng.util.IterationCounter;
 import appeng.util.Platform;
 import appeng.util.inv.AdaptorPlayerHand;
 import appeng.util.item.AEItemStack;
@@ -107,6 +99,7 @@ public abstract class AEBaseContainer extends Container {
     private final IGuiItemObject obj;
     private final List<PacketPartialItem> dataChunks = new LinkedList<>();
     private final HashMap<Integer, SyncData> syncData = new HashMap<>();
+    private SyncData[] syncDataArray;
     private boolean isContainerValid = true;
     private String customName;
     private ContainerOpenContext openContext;
@@ -166,6 +159,7 @@ public abstract class AEBaseContainer extends Container {
                     AELog.warn("Channel already in use: " + channel + " for " + f.getName());
                 } else {
                     this.syncData.put(channel, new SyncData(this, currentIndirections, f, channel));
+                    this.syncDataArray = null;
                 }
             }
         }
@@ -395,11 +389,14 @@ public abstract class AEBaseContainer extends Container {
     public void detectAndSendChanges() {
         this.sendCustomName();
 
-        if (Platform.isServer()) {
+        if (Platform.isServer() && !this.syncData.isEmpty()) {
+            if (this.syncDataArray == null) {
+                this.syncDataArray = this.syncData.values().toArray(new SyncData[0]);
+            }
             for (final Object crafter : this.crafters) {
                 final ICrafting icrafting = (ICrafting) crafter;
 
-                for (final SyncData sd : this.syncData.values()) {
+                for (final SyncData sd : this.syncDataArray) {
                     sd.tick(icrafting);
                 }
             }
@@ -959,9 +956,8 @@ public abstract class AEBaseContainer extends Container {
                 }
             }
             case FIND_ITEMS -> {
-                final Class<? extends IGridHost>[] checkedMachineClasses = new Class[] { TileDrive.class,
-                        TileChest.class, PartStorageBus.class, };
-                if (slotItem == null) return;
+                if (slotItem == null || slotItem.getChannel() != StorageChannel.ITEMS) return;
+                // TODO Support Fluids for item searching
 
                 IGrid g = null;
                 // Pull grid
@@ -982,82 +978,10 @@ public abstract class AEBaseContainer extends Container {
 
                 List<ItemSearchDTO> coords = new ArrayList<>();
 
-                List<IGridNode> machineList = new ArrayList<>();
-                Class<? extends IGridHost> classType = null;
-                if (slotItem.getChannel() == StorageChannel.ITEMS) {
-                    classType = PartStorageBus.class;
-                } else if (slotItem.getChannel() == StorageChannel.FLUIDS) {
-                    // TODO Support Fluids for item searching
-                }
-
-                // Retrieve list of all grids
-                NetworkList grids = g.getAllRecursiveGridConnections(classType);
-                AELog.log(Level.ERROR, "Found " + grids.size() + " grids");
-
-                for (Grid subnet : grids) {
-                    for (Class<? extends IGridHost> type : checkedMachineClasses) {
-                        MachineSet subMachines = (MachineSet) subnet.getMachines(type);
-                        AELog.log(Level.ERROR, "Grid: " + subnet.getId() + " - " + subMachines.size() + " machines");
-                        if (!subMachines.isEmpty()) {
-                            machineList.addAll(subMachines);
-                        }
-                    }
-                }
-
-                int machineCount = 0;
-                for (IGridNode gridNode : machineList) {
-                    if (machineCount > AEConfig.instance.maxMachineChecks) {
-                        break;
-                    }
-                    machineCount++;
-                    IGridHost machine = gridNode.getMachine();
-                    AELog.log(Level.ERROR, "Machine: " + machine.getClass().getName());
-
-                    if (machine instanceof TileDrive innerMachine) {
-                        for (int i = 0; i < innerMachine.getSizeInventory(); i++) {
-                            IMEInventoryHandler<IAEItemStack> cell = innerMachine.getCellInvBySlot(i);
-                            if (cell == null || cell.getChannel() != slotItem.getChannel()) continue;
-
-                            IAEStack<IAEItemStack> result = cell
-                                    .getAvailableItem(slotItem, IterationCounter.fetchNewId());
-                            if (result == null) continue;
-
-                            String blockName = innerMachine.getCustomName();
-
-                            coords.add(
-                                    new ItemSearchDTO(
-                                            innerMachine.getLocation(),
-                                            result,
-                                            blockName,
-                                            i,
-                                            innerMachine.getForward(),
-                                            innerMachine.getUp()));
-                        }
-                    }
-                    if (machine instanceof PartStorageBus innerMachine) {
-                        if (innerMachine.getConnectedGrid() != null) { // Check if storageBus is subnet
-                            continue;
-                        }
-                        MEInventoryHandler<IAEItemStack> handler = innerMachine.getInternalHandler();
-                        if (handler == null) continue;
-                        IAEStack<IAEItemStack> result = handler
-                                .getAvailableItem(slotItem, IterationCounter.fetchNewId());
-                        if (result == null) continue;
-                        coords.add(new ItemSearchDTO(innerMachine.getLocation(), result, innerMachine.getCustomName()));
-                    }
-                    if (machine instanceof TileChest innerMachine) {
-                        try {
-                            IMEInventoryHandler handler = innerMachine.getHandler(slotItem.getChannel());
-                            IAEStack result = handler.getAvailableItem(slotItem, IterationCounter.fetchNewId());
-                            if (result == null) continue;
-                            coords.add(
-                                    new ItemSearchDTO(
-                                            innerMachine.getLocation(),
-                                            result,
-                                            innerMachine.getCustomName()));
-                        } catch (Exception e) {
-                            // :/
-                        }
+                // Every grid keeps an index of where its items are stored, subnets are reached through storage buses
+                for (Grid subnet : g.getAllRecursiveGridConnections(PartStorageBus.class)) {
+                    if (subnet.getCache(IStorageGrid.class) instanceof GridStorageCache storage) {
+                        coords.addAll(storage.findItemLocations(slotItem));
                     }
                 }
 
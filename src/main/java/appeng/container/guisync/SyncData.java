@@ -11,12 +11,21 @@
 package appeng.container.guisync;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.ICrafting;
 
+import com.google.common.base.Throwables;
+
 import appeng.container.AEBaseContainer;
 import appeng.core.AELog;
 import appeng.core.sync.network.NetworkHandler;
@@ -25,12 +34,32 @@ import appeng.core.sync.packets.PacketValueConfig;
 
 public class SyncData {
 
+    /**
+     * Compiled getters by field path, shared between all containers of the same type
+     */
+    private static final Map<List<Field>, MethodHandle> GETTERS = new ConcurrentHashMap<>();
+
+    private enum Kind {
+        INT,
+        LONG,
+        BOOLEAN,
+        OBJECT
+    }
+
     private final AEBaseContainer source;
     private final Field[] indirections;
     private final Field field;
     private final String fieldName;
     private final int channel;
+    private final Kind kind;
+    /**
+     * Reads the field from the container, typed (Object)int, (Object)long, (Object)boolean or (Object)Object depending
+     * on {@link #kind}, so primitive fields are compared without boxing
+     */
+    private final MethodHandle getter;
     private Object clientVersion;
+    private boolean primitiveSent = false;
+    private long primitiveClientVersion;
 
     public SyncData(final AEBaseContainer container, final Field field, final GuiSync annotation) {
         this(container, new Field[0], field, annotation.value());
@@ -49,6 +78,42 @@ public class SyncData {
         }
         nameBuilder.append(this.field.getName());
         this.fieldName = nameBuilder.toString();
+
+        final Class<?> type = field.getType();
+        if (type == int.class) {
+            this.kind = Kind.INT;
+        } else if (type == long.class) {
+            this.kind = Kind.LONG;
+        } else if (type == boolean.class) {
+            this.kind = Kind.BOOLEAN;
+        } else {
+            this.kind = Kind.OBJECT;
+        }
+        final Field[] path = Arrays.copyOf(indirections, indirections.length + 1);
+        path[indirections.length] = field;
+        this.getter = GETTERS.computeIfAbsent(Arrays.asList(path), SyncData::compileGetter);
+    }
+
+    private static MethodHandle compileGetter(final List<Field> path) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final Field field = path.get(path.size() - 1);
+            // the fields are public, but may be declared in non-public classes
+            field.setAccessible(true);
+            MethodHandle handle = lookup.unreflectGetter(field);
+            for (int i = path.size() - 2; i >= 0; i--) {
+                final Field indirection = path.get(i);
+                indirection.setAccessible(true);
+                handle = handle.asType(handle.type().changeParameterType(0, indirection.getType()));
+                handle = MethodHandles.filterArguments(handle, 0, lookup.unreflectGetter(indirection));
+            }
+            final Class<?> type = field.getType();
+            final Class<?> returnType = type == int.class || type == long.class || type == boolean.class ? type
+                    : Object.class;
+            return handle.asType(MethodType.methodType(returnType, Object.class));
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @GuiSync field " + path, e);
+        }
     }
 
     public int getChannel() {
@@ -73,14 +138,48 @@ public class SyncData {
 
     public void tick(final ICrafting c) {
         try {
-            final Object val = getValue();
-            if (val != null && this.clientVersion == null) {
-                this.send(c, val);
-            } else if (!val.equals(this.clientVersion)) {
-                this.send(c, val);
+            switch (this.kind) {
+                case INT -> {
+                    final int val = (int) this.getter.invokeExact((Object) this.source);
+                    if (!this.primitiveSent || val != this.primitiveClientVersion) {
+                        c.sendProgressBarUpdate(this.source, this.channel, val);
+                        this.markPrimitiveSent(val);
+                    }
+                }
+                case LONG -> {
+                    final long val = (long) this.getter.invokeExact((Object) this.source);
+                    if (!this.primitiveSent || val != this.primitiveClientVersion) {
+                        NetworkHandler.instance
+                                .sendTo(new PacketProgressBar(this.channel, val), (EntityPlayerMP) c);
+                        this.markPrimitiveSent(val);
+                    }
+                }
+                case BOOLEAN -> {
+                    final int val = (boolean) this.getter.invokeExact((Object) this.source) ? 1 : 0;
+                    if (!this.primitiveSent || val != this.primitiveClientVersion) {
+                        c.sendProgressBarUpdate(this.source, this.channel, val);
+                        this.markPrimitiveSent(val);
+                    }
+                }
+                case OBJECT -> this.tickObject(c, (Object) this.getter.invokeExact((Object) this.source));
             }
-        } catch (final IllegalArgumentException | IOException | IllegalAccessException e) {
+        } catch (final IllegalArgumentException | IOException e) {
             AELog.debug(e);
+        } catch (final Throwable e) {
+            throw Throwables.propagate(e);
+        }
+    }
+
+    private void markPrimitiveSent(final long val) {
+        this.primitiveSent = true;
+        this.primitiveClientVersion = val;
+    }
+
+    private void tickObject(final ICrafting c, final Object val) throws IOException {
+        if (val != null && this.clientVersion == null) {
+            this.send(c, val);
+        } else if (!val.equals(this.clientVersion)) {
+            this.send(c, val);
         }
     }
 
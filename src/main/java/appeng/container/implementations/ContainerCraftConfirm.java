@@ -52,6 +52,7 @@ import appeng.core.sync.packets.PacketCraftingTreeData;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
 import appeng.core.sync.packets.PacketSwitchGuis;
 import appeng.crafting.v2.CraftingJobV2;
+import appeng.crafting.v2.DeferredSubtrees;
 import appeng.helpers.WirelessTerminalGuiObject;
 import appeng.parts.reporting.PartCraftingTerminal;
 import appeng.parts.reporting.PartPatternTerminal;
@@ -62,11 +63,35 @@ import appeng.util.IterationCounter;
 import appeng.util.Platform;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
 
 public class ContainerCraftConfirm extends AEBaseContainer implements ICraftingCPUSelectorContainer {
 
+    /**
+     * Tree node depth sent per crafting tree packet; every request level takes three nodes (request, used resolver,
+     * task), so this sends four levels of requests at a time.
+     */
+    private static final int TREE_DEPTH_PER_PACKET = 3 * 4;
+    /**
+     * Serialized subtrees kept per container, least recently requested ones are dropped first.
+     */
+    private static final int SUBTREE_CACHE_ENTRIES = 64;
+    private static final int SUBTREE_CACHE_BYTES = 4 * 1024 * 1024;
+    /**
+     * A subtree is sent again at most this often, below the client's timeout for a subtree that never arrived.
+     */
+    private static final long SUBTREE_RESEND_MS = 5_000;
+
     private Future<ICraftingJob> job;
     private ICraftingJob result;
+    // Requests of the current job whose children were not sent yet, indexed by the handle sent to the client
+    private final DeferredSubtrees deferredSubtrees = new DeferredSubtrees();
+    // Serialized subtrees already sent in least recently requested order, a client that lost one asks for it again
+    private final Int2ObjectLinkedOpenHashMap<ByteBuf> sentSubtrees = new Int2ObjectLinkedOpenHashMap<>();
+    private int sentSubtreeBytes = 0;
+    // When each subtree was last sent, repeated requests in between are ignored
+    private final Int2LongOpenHashMap subtreeSendTimes = new Int2LongOpenHashMap();
 
     @GuiSync(0)
     public long bytesUsed;
@@ -223,7 +248,10 @@ public class ContainerCraftConfirm extends AEBaseContainer implements ICraftingC
 
                     final List<PacketCraftingTreeData> treeUpdates;
                     if (this.result instanceof CraftingJobV2) {
-                        treeUpdates = PacketCraftingTreeData.createChunks((CraftingJobV2) this.result);
+                        this.clearSubtrees();
+                        treeUpdates = PacketCraftingTreeData.createChunks(
+                                ((CraftingJobV2) this.result).serialize(TREE_DEPTH_PER_PACKET, this.deferredSubtrees),
+                                -1);
                     } else {
                         treeUpdates = null;
                     }
@@ -381,6 +409,60 @@ public class ContainerCraftConfirm extends AEBaseContainer implements ICraftingC
             this.getJob().cancel(true);
             this.setJob(null);
         }
+        this.clearSubtrees();
+    }
+
+    private void clearSubtrees() {
+        this.deferredSubtrees.clear();
+        this.sentSubtrees.clear();
+        this.sentSubtreeBytes = 0;
+        this.subtreeSendTimes.clear();
+    }
+
+    /**
+     * Sends the children of a request that were cut off from an earlier crafting tree packet. Deferred requests keep
+     * their handles, so a subtree that was dropped from the cache serializes to the same handles again.
+     */
+    public void sendTreeSubtree(final int subtreeId) {
+        if (!(this.result instanceof CraftingJobV2 jobV2) || subtreeId < 0
+                || subtreeId >= this.deferredSubtrees.size()) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        if (this.subtreeSendTimes.containsKey(subtreeId)
+                && now - this.subtreeSendTimes.get(subtreeId) < SUBTREE_RESEND_MS) {
+            return;
+        }
+        this.subtreeSendTimes.put(subtreeId, now);
+
+        ByteBuf subtree = this.sentSubtrees.getAndMoveToLast(subtreeId);
+        if (subtree == null) {
+            subtree = jobV2.serializeSubtree(
+                    this.deferredSubtrees.get(subtreeId),
+                    TREE_DEPTH_PER_PACKET,
+                    this.deferredSubtrees);
+            this.cacheSubtree(subtreeId, subtree);
+        }
+        final List<PacketCraftingTreeData> packets = PacketCraftingTreeData
+                .createChunks(subtree.duplicate(), subtreeId);
+        if (this.getPlayerInv().player instanceof EntityPlayerMP playerMP) {
+            for (PacketCraftingTreeData pkt : packets) {
+                NetworkHandler.instance.sendTo(pkt, playerMP);
+            }
+        }
+    }
+
+    private void cacheSubtree(final int subtreeId, final ByteBuf subtree) {
+        final int size = subtree.readableBytes();
+        if (size > SUBTREE_CACHE_BYTES) {
+            return;
+        }
+        while (!this.sentSubtrees.isEmpty() && (this.sentSubtrees.size() >= SUBTREE_CACHE_ENTRIES
+                || this.sentSubtreeBytes + size > SUBTREE_CACHE_BYTES)) {
+            this.sentSubtreeBytes -= this.sentSubtrees.removeFirst().readableBytes();
+        }
+        this.sentSubtrees.putAndMoveToLast(subtreeId, subtree);
+        this.sentSubtreeBytes += size;
     }
 
     public World getWorld() {
@@ -89,6 +89,9 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     public boolean showOnlyInterfacesWithFreeSlotsInInterfaceTerminal = false;
     public int MEMonitorableSmallSize = 6;
     public int InterfaceTerminalSmallSize = 6;
+    public int cableGeometryCacheSize = 16;
+    public int dynamicRenderDistance = 30;
+    public boolean dynamicRenderCulling = true;
 
     public boolean debugLogTiming = false;
     public boolean debugPathFinding = false;
@@ -117,11 +120,11 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     public int levelEmitterDelay = 40;
     public int craftingCalculatorVersion = 2;
     public int maxCraftingSteps = 2_000_000;
+    public boolean craftingLazyStorageModel = true;
     public int maxCraftingTreeVisualizationSize = 32 * 1024 * 1024; // 32 MiB
     public boolean limitCraftingCPUSpill = true;
 
     public int maxRecursiveDepth = 100;
-    public int maxMachineChecks = 10000;
 
     public AEConfig(final File configFile) {
         super(configFile);
@@ -252,6 +255,8 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         this.captureGAEStacks = this.get("debug", "CaptureGridAccessExceptionStacks", false).getBoolean();
         this.maxCraftingSteps = this.get("misc", "MaxCraftingSteps", this.maxCraftingSteps)
                 .getInt(this.maxCraftingSteps);
+        this.craftingLazyStorageModel = this.get("misc", "CraftingLazyStorageModel", this.craftingLazyStorageModel)
+                .getBoolean(this.craftingLazyStorageModel);
         this.maxCraftingTreeVisualizationSize = this
                 .get("misc", "MaxCraftingTreeVisualizationSize", this.maxCraftingTreeVisualizationSize)
                 .getInt(this.maxCraftingTreeVisualizationSize);
@@ -263,8 +268,6 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 
         this.maxRecursiveDepth = this.get("networksearch", "maxRecursiveDepth", this.maxRecursiveDepth)
                 .getInt(this.maxRecursiveDepth);
-        this.maxMachineChecks = this.get("networksearch", "maxMachineChecks", this.maxMachineChecks)
-                .getInt(this.maxMachineChecks);
 
         this.clientSync();
 
@@ -332,6 +335,27 @@ public final class AEConfig extends Configuration implements IConfigurableObject
                 .get("Client", "showOnlyInterfacesWithFreeSlotsInInterfaceTerminal", false).getBoolean(false);
         this.MEMonitorableSmallSize = this.get("Client", "MEMonitorableSmallSize", 6).getInt(6);
         this.InterfaceTerminalSmallSize = this.get("Client", "InterfaceTerminalSmallSize", 6).getInt(6);
+        this.cableGeometryCacheSize = Math.max(
+                0,
+                this.get(
+                        "Client",
+                        "cableGeometryCacheSize",
+                        16,
+                        "Megabytes of cable and facade geometry kept to speed up chunk rebuilds, 0 disables the cache")
+                        .getInt(16));
+        this.dynamicRenderDistance = Math.max(
+                1,
+                this.get(
+                        "Client",
+                        "dynamicRenderDistance",
+                        30,
+                        "Distance in blocks up to which monitors and crafting monitors draw their item and amount")
+                        .getInt(30));
+        this.dynamicRenderCulling = this.get(
+                "Client",
+                "dynamicRenderCulling",
+                true,
+                "Skip monitor screens that are outside the view or facing away from the camera").getBoolean(true);
         // load buttons..
         for (int btnNum = 0; btnNum < 4; btnNum++) {
             final Property cmb = this.get("Client", "craftAmtButton" + (btnNum + 1), this.craftByStacks[btnNum]);
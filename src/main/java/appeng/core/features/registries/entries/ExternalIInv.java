@@ -32,7 +32,8 @@ public class ExternalIInv implements IExternalStorageHandler {
     @Override
     public IMEInventory getInventory(final TileEntity te, final ForgeDirection d, final StorageChannel channel,
             final BaseActionSource src) {
-        final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, d);
+        // the storage bus keeps this inventory and scans it every tick
+        final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, d, true);
 
         if (channel == StorageChannel.ITEMS && ad != null) {
             return new MEMonitorIInventory(ad);
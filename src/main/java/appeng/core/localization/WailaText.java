@@ -24,6 +24,7 @@ public enum WailaText implements Localization {
     P2PInputOneOutput,
     P2PInputManyOutputs,
     P2POutput,
+    P2PThroughput,
 
     Locked,
     Unlocked,
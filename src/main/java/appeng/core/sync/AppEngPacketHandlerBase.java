@@ -42,6 +42,7 @@ import appeng.core.sync.packets.PacketNewStorageDimension;
 import appeng.core.sync.packets.PacketOptimizePatterns;
 import appeng.core.sync.packets.PacketPaintedEntity;
 import appeng.core.sync.packets.PacketPartPlacement;
+import appeng.core.sync.packets.PacketPartStates;
 import appeng.core.sync.packets.PacketPartialItem;
 import appeng.core.sync.packets.PacketPatternItemRenamer;
 import appeng.core.sync.packets.PacketPatternMultiSet;
@@ -124,7 +125,8 @@ public class AppEngPacketHandlerBase {
         PACKET_NETWORK_STATUS_SELECTED(PacketNetworkStatusSelected.class),
         PACKET_PATTERN_ITEM_RENAMER(PacketPatternItemRenamer.class),
         PACKET_PINS_UPDATE(PacketPinsUpdate.class),
-        PACKET_HIGHLIGHT_BLOCKS(PacketHighlightBlockStorage.class);
+        PACKET_HIGHLIGHT_BLOCKS(PacketHighlightBlockStorage.class),
+        PACKET_PART_STATES(PacketPartStates.class);
 
         private final Class<? extends AppEngPacket> packetClass;
         private final Constructor<? extends AppEngPacket> packetConstructor;
@@ -23,6 +23,9 @@ import appeng.core.features.AEFeature;
 import appeng.core.sync.AppEngPacket;
 import appeng.core.sync.network.INetworkInfo;
 import appeng.crafting.v2.CraftingJobV2;
+import appeng.crafting.v2.CraftingRequest;
+import appeng.crafting.v2.CraftingTreeSerializer;
+import appeng.crafting.v2.ITreeSerializable;
 import appeng.util.Platform;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.relauncher.Side;
@@ -47,17 +50,21 @@ public class PacketCraftingTreeData extends AppEngPacket {
         receivedData = stream.slice();
     }
 
-    private PacketCraftingTreeData(final ByteBuf chunkData, int chunkId, int totalChunks) {
-        final ByteBuf output = Unpooled.buffer(12 + chunkData.readableBytes());
+    private PacketCraftingTreeData(final ByteBuf chunkData, int subtreeId, int chunkId, int totalChunks) {
+        final ByteBuf output = Unpooled.buffer(16 + chunkData.readableBytes());
         output.writeInt(this.getPacketID());
+        output.writeInt(subtreeId);
         output.writeInt(chunkId);
         output.writeInt(totalChunks);
         output.writeBytes(chunkData);
         this.configureWrite(output);
     }
 
-    public static List<PacketCraftingTreeData> createChunks(final CraftingJobV2 job) {
-        final ByteBuf jobData = job.serialize();
+    /**
+     * @param jobData   Serialized job tree, or a serialized request subtree
+     * @param subtreeId -1 for a whole job, otherwise the handle of the deferred request that jobData contains
+     */
+    public static List<PacketCraftingTreeData> createChunks(final ByteBuf jobData, final int subtreeId) {
         // Compress with GZIP
         final ByteBuf output = Unpooled.buffer(jobData.readableBytes() + 4);
         try (final ByteBufOutputStream bbos = new ByteBufOutputStream(output);
@@ -75,7 +82,7 @@ public class PacketCraftingTreeData extends AppEngPacket {
             final int start = CHUNK_SIZE * chunk;
             final int end = Math.min(start + CHUNK_SIZE, output.readableBytes());
             final int len = end - start;
-            chunks.add(new PacketCraftingTreeData(output.slice(start, len), chunk, chunkCount));
+            chunks.add(new PacketCraftingTreeData(output.slice(start, len), subtreeId, chunk, chunkCount));
         }
         if (AEConfig.instance.isFeatureEnabled(AEFeature.DebugLogging)) {
             AELog.info(
@@ -96,6 +103,7 @@ public class PacketCraftingTreeData extends AppEngPacket {
         if (receivedData == null) {
             return;
         }
+        final int subtreeId = receivedData.readInt();
         final int chunkId = receivedData.readInt();
         final int totalChunks = receivedData.readInt();
         if (totalChunks <= 0 || chunkId < 0 || chunkId >= totalChunks) {
@@ -103,7 +111,7 @@ public class PacketCraftingTreeData extends AppEngPacket {
             return;
         }
         if (totalChunks == 1) {
-            onFullClientData(receivedData.slice().order(ByteOrder.LITTLE_ENDIAN), player);
+            onFullClientData(receivedData.slice().order(ByteOrder.LITTLE_ENDIAN), subtreeId, player);
         } else {
             boolean packetComplete = false;
             ByteBuf[] storage;
@@ -121,12 +129,12 @@ public class PacketCraftingTreeData extends AppEngPacket {
             }
             if (packetComplete) {
                 ByteBuf combined = Unpooled.wrappedBuffer(storage).order(ByteOrder.LITTLE_ENDIAN);
-                onFullClientData(combined, player);
+                onFullClientData(combined, subtreeId, player);
             }
         }
     }
 
-    private static void onFullClientData(ByteBuf data, EntityPlayer player) {
+    private static void onFullClientData(ByteBuf data, int subtreeId, EntityPlayer player) {
         final ByteBuf decompressedData = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
         try (final ByteBufOutputStream bbos = new ByteBufOutputStream(decompressedData);
                 final ByteBufInputStream bbis = new ByteBufInputStream(data);
@@ -137,6 +145,20 @@ public class PacketCraftingTreeData extends AppEngPacket {
             AELog.error(e, "Could not decompress the serialized crafting tree.");
             return;
         }
+        final GuiScreen gs = Minecraft.getMinecraft().currentScreen;
+        if (subtreeId >= 0) {
+            final ITreeSerializable subtree;
+            try {
+                subtree = new CraftingTreeSerializer(player.worldObj, decompressedData).readTree();
+            } catch (Exception e) {
+                AELog.error(e, "Could not deserialize crafting subtree sent by the server.");
+                return;
+            }
+            if (gs instanceof GuiCraftConfirm && subtree instanceof CraftingRequest) {
+                ((GuiCraftConfirm) gs).loadJobSubtree(subtreeId, (CraftingRequest<?>) subtree);
+            }
+            return;
+        }
         final CraftingJobV2 deserialized;
         try {
             deserialized = CraftingJobV2.deserialize(player.worldObj, decompressedData);
@@ -144,7 +166,6 @@ public class PacketCraftingTreeData extends AppEngPacket {
             AELog.error(e, "Could not deserialize crafting tree sent by the server.");
             return;
         }
-        final GuiScreen gs = Minecraft.getMinecraft().currentScreen;
         if (gs instanceof GuiCraftConfirm) {
             ((GuiCraftConfirm) gs).setJobTree(deserialized);
         }
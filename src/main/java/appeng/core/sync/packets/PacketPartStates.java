@@ -0,0 +1,132 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.sync.packets;
+
+import java.util.Collection;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import appeng.core.sync.AppEngPacket;
+import appeng.core.sync.network.INetworkInfo;
+import appeng.parts.ISyncedPartState;
+import appeng.tile.networking.TileCableBus;
+import cpw.mods.fml.common.network.ByteBufUtils;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * The power and channel state of the parts on a number of cable buses in one chunk, see
+ * {@link appeng.hooks.PartStateSync}.
+ * <p>
+ * Per bus the position inside the chunk is written as a short, followed by a mask of the sides that have a part with
+ * synced state and then the state of each of these parts as a variable length number.
+ */
+public class PacketPartStates extends AppEngPacket {
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final short[] positions;
+    private final byte[] sides;
+    private final int[] states;
+
+    // automatic.
+    public PacketPartStates(final ByteBuf stream) {
+        this.chunkX = stream.readInt();
+        this.chunkZ = stream.readInt();
+        final int count = ByteBufUtils.readVarInt(stream, 5);
+        this.positions = new short[count];
+        this.sides = new byte[count];
+        this.states = new int[count * ForgeDirection.values().length];
+
+        int s = 0;
+        for (int i = 0; i < count; i++) {
+            this.positions[i] = stream.readShort();
+            this.sides[i] = stream.readByte();
+            for (final ForgeDirection side : ForgeDirection.values()) {
+                if ((this.sides[i] & 1 << side.ordinal()) != 0) {
+                    this.states[s++] = ByteBufUtils.readVarInt(stream, 5);
+                }
+            }
+        }
+    }
+
+    // api
+    public PacketPartStates(final int chunkX, final int chunkZ, final Collection<TileCableBus> tiles) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.positions = null;
+        this.sides = null;
+        this.states = null;
+
+        final ByteBuf data = Unpooled.buffer();
+
+        data.writeInt(this.getPacketID());
+        data.writeInt(chunkX);
+        data.writeInt(chunkZ);
+        ByteBufUtils.writeVarInt(data, tiles.size(), 5);
+
+        for (final TileCableBus tile : tiles) {
+            data.writeShort((tile.xCoord & 15) << 12 | (tile.zCoord & 15) << 8 | tile.yCoord & 255);
+
+            final int sidesIndex = data.writerIndex();
+            data.writeByte(0);
+
+            int sides = 0;
+            for (final ForgeDirection side : ForgeDirection.values()) {
+                if (tile.getPart(side) instanceof ISyncedPartState part) {
+                    sides |= 1 << side.ordinal();
+                    ByteBufUtils.writeVarInt(data, part.getSyncedState(), 5);
+                }
+            }
+            data.setByte(sidesIndex, sides);
+        }
+
+        this.configureWrite(data);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void clientPacketData(final INetworkInfo network, final AppEngPacket packet, final EntityPlayer player) {
+        final World world = player.worldObj;
+        if (!world.getChunkProvider().chunkExists(this.chunkX, this.chunkZ)) {
+            return;
+        }
+
+        int s = 0;
+        for (int i = 0; i < this.positions.length; i++) {
+            final int x = (this.chunkX << 4) + (this.positions[i] >> 12 & 15);
+            final int y = this.positions[i] & 255;
+            final int z = (this.chunkZ << 4) + (this.positions[i] >> 8 & 15);
+            final TileEntity te = world.getTileEntity(x, y, z);
+
+            boolean rendersDifferently = false;
+            for (final ForgeDirection side : ForgeDirection.values()) {
+                if ((this.sides[i] & 1 << side.ordinal()) == 0) {
+                    continue;
+                }
+                final int state = this.states[s++];
+                // a part that differs from the server's is replaced by a full update anyway
+                if (te instanceof TileCableBus tile && tile.getPart(side) instanceof ISyncedPartState part) {
+                    rendersDifferently |= part.applySyncedState(state);
+                }
+            }
+
+            if (te instanceof TileCableBus tile) {
+                tile.onPartStatesSynced(rendersDifferently);
+            }
+        }
+    }
+}
@@ -103,6 +103,8 @@ public class PacketValueConfig extends AppEngPacket {
         	qk.startJob();
         } else if(this.Name.equals("Terminal.OptimizePatterns") && c instanceof final ContainerCraftConfirm qk) {
             qk.optimizePatterns();
+        } else if (this.Name.equals("Terminal.TreeSubtree") && c instanceof final ContainerCraftConfirm qk) {
+            qk.sendTreeSubtree(Integer.parseInt(this.Value));
         } else if (this.Name.equals("Terminal.UpdateViewCell") && c instanceof final ContainerMEMonitorable qk) {
             qk.toggleViewCell(Integer.parseInt(this.Value));
         } else if(this.Name.equals("Interface.DoublePatterns") && c instanceof final ContainerInterface qk){
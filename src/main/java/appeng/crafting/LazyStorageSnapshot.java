@@ -0,0 +1,118 @@
+package appeng.crafting;
+
+import java.lang.ref.WeakReference;
+
+import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+
+/**
+ * The amounts a network's storage held of each item type when the snapshot was taken, read lazily during a crafting
+ * simulation. Changes announced by the network are recorded for the types that were not read yet, and taken back out
+ * when a type is first read, so every type is seen as it was when the snapshot was taken, however much later it is
+ * touched. Every simulated inventory created from the same snapshot sees the same amount for a type.
+ */
+public final class LazyStorageSnapshot {
+
+    private final IMEMonitor<IAEItemStack> target;
+    private final BaseActionSource src;
+    private final IItemList<IAEItemStack> read = AEApi.instance().storage().createItemList();
+    private final ObjectOpenHashSet<IAEItemStack> fetched = new ObjectOpenHashSet<>();
+    // net changes to types that were not read yet, since the snapshot was taken
+    private final Object2LongOpenHashMap<IAEItemStack> changes = new Object2LongOpenHashMap<>();
+    // the same types with a size of one, a list only iterates stacks with a positive size
+    private final IItemList<IAEItemStack> changedTypes = AEApi.instance().storage().createItemList();
+
+    public LazyStorageSnapshot(final IMEMonitor<IAEItemStack> target, final BaseActionSource src) {
+        this.target = target;
+        this.src = src;
+        target.addListener(new ChangeRecorder(this), null);
+    }
+
+    /**
+     * @return the amount of the type stored when the snapshot was taken, or null if there was none
+     */
+    IAEItemStack get(final IAEItemStack type) {
+        if (!this.fetched.contains(type)) {
+            this.fetched.add(type.copy());
+            final IAEItemStack stored = this.target.getStorageList().findPrecise(type);
+            final IAEItemStack available = stored == null ? null
+                    : this.target.extractItems(stored, Actionable.SIMULATE, this.src);
+            final long amount = (available == null ? 0 : available.getStackSize()) - this.changes.removeLong(type);
+            if (amount > 0) {
+                final IAEItemStack atSnapshot = type.copy();
+                atSnapshot.reset();
+                atSnapshot.setStackSize(amount);
+                this.read.add(atSnapshot);
+            }
+        }
+        return this.read.findPrecise(type);
+    }
+
+    /**
+     * @return the types currently in the network's storage
+     */
+    IItemList<IAEItemStack> getStorageList() {
+        return this.target.getStorageList();
+    }
+
+    /**
+     * @return the types that changed since the snapshot was taken, which includes types no longer in storage
+     */
+    IItemList<IAEItemStack> getChangedTypes() {
+        return this.changedTypes;
+    }
+
+    private void recordChanges(final Iterable<IAEItemStack> change) {
+        for (final IAEItemStack is : change) {
+            if (is == null || this.fetched.contains(is)) {
+                continue;
+            }
+            if (this.changes.containsKey(is)) {
+                this.changes.addTo(is, is.getStackSize());
+            } else {
+                final IAEItemStack type = is.copy();
+                this.changes.put(type, is.getStackSize());
+                type.reset();
+                type.setStackSize(1);
+                this.changedTypes.add(type);
+            }
+        }
+    }
+
+    /**
+     * Only holds the snapshot weakly, so that the network drops the listener once the crafting job is gone
+     */
+    private static final class ChangeRecorder implements IMEMonitorHandlerReceiver<IAEItemStack> {
+
+        private final WeakReference<LazyStorageSnapshot> snapshot;
+
+        ChangeRecorder(final LazyStorageSnapshot snapshot) {
+            this.snapshot = new WeakReference<>(snapshot);
+        }
+
+        @Override
+        public boolean isValid(final Object verificationToken) {
+            return this.snapshot.get() != null;
+        }
+
+        @Override
+        public void postChange(final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> change,
+                final BaseActionSource actionSource) {
+            final LazyStorageSnapshot s = this.snapshot.get();
+            if (s != null) {
+                s.recordChanges(change);
+            }
+        }
+
+        @Override
+        public void onListUpdate() {}
+    }
+}
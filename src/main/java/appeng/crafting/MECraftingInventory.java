@@ -95,6 +95,16 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
     public MECraftingInventory(final IMEMonitor<IAEItemStack> target, final BaseActionSource src,
             final boolean logExtracted, final boolean logInjections, final boolean logMissing) {
+        this(target, src, logExtracted, logInjections, logMissing, null);
+    }
+
+    /**
+     * @param snapshot if not null, item types are only copied from it the first time the simulation touches them,
+     *                 instead of snapshotting the whole storage list up front
+     */
+    public MECraftingInventory(final IMEMonitor<IAEItemStack> target, final BaseActionSource src,
+            final boolean logExtracted, final boolean logInjections, final boolean logMissing,
+            final LazyStorageSnapshot snapshot) {
         this.target = target;
         this.logExtracted = logExtracted;
         this.logInjections = logInjections;
@@ -118,9 +128,13 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
             this.injectedCache = null;
         }
 
-        this.localCache = AEApi.instance().storage().createItemList();
-        for (final IAEItemStack is : target.getStorageList()) {
-            this.localCache.add(target.extractItems(is, Actionable.SIMULATE, src));
+        if (snapshot != null) {
+            this.localCache = new StorageOverlayItemList(snapshot);
+        } else {
+            this.localCache = AEApi.instance().storage().createItemList();
+            for (final IAEItemStack is : target.getStorageList()) {
+                this.localCache.add(target.extractItems(is, Actionable.SIMULATE, src));
+            }
         }
 
         this.par = null;
@@ -0,0 +1,138 @@
+package appeng.crafting;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import appeng.api.AEApi;
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+
+/**
+ * Copy-on-write view of a network's item storage for crafting simulations. An item type is only copied from the
+ * {@link LazyStorageSnapshot} the first time it is looked up or modified, so planning a job only pays for the item
+ * types it actually touches. Operations that need the whole list (iteration, size) materialize every remaining type
+ * first.
+ */
+final class StorageOverlayItemList implements IItemList<IAEItemStack> {
+
+    private final LazyStorageSnapshot snapshot;
+    private final IItemList<IAEItemStack> local = AEApi.instance().storage().createItemList();
+    private final ObjectOpenHashSet<IAEItemStack> fetched = new ObjectOpenHashSet<>();
+    private boolean complete = false;
+
+    StorageOverlayItemList(final LazyStorageSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    private void fetch(final IAEItemStack type) {
+        if (this.complete || type == null || this.fetched.contains(type)) {
+            return;
+        }
+        this.fetched.add(type.copy());
+        final IAEItemStack stored = this.snapshot.get(type);
+        if (stored != null) {
+            this.local.add(stored.copy());
+        }
+    }
+
+    private IItemList<IAEItemStack> fetchAll() {
+        if (!this.complete) {
+            for (final IAEItemStack is : this.snapshot.getStorageList()) {
+                this.fetch(is);
+            }
+            for (final IAEItemStack is : this.snapshot.getChangedTypes()) {
+                this.fetch(is);
+            }
+            this.complete = true;
+            this.fetched.clear();
+        }
+        return this.local;
+    }
+
+    @Override
+    public void add(final IAEItemStack option) {
+        this.fetch(option);
+        this.local.add(option);
+    }
+
+    @Override
+    public IAEItemStack findPrecise(final IAEItemStack i) {
+        this.fetch(i);
+        return this.local.findPrecise(i);
+    }
+
+    @Override
+    public Collection<IAEItemStack> findFuzzy(final IAEItemStack input, final FuzzyMode fuzzy) {
+        if (!this.complete) {
+            for (final IAEItemStack is : this.snapshot.getStorageList().findFuzzy(input, fuzzy)) {
+                this.fetch(is);
+            }
+            for (final IAEItemStack is : this.snapshot.getChangedTypes().findFuzzy(input, fuzzy)) {
+                this.fetch(is);
+            }
+        }
+        return this.local.findFuzzy(input, fuzzy);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.fetchAll().isEmpty();
+    }
+
+    @Override
+    public void addStorage(final IAEItemStack option) {
+        this.fetch(option);
+        this.local.addStorage(option);
+    }
+
+    @Override
+    public void addCrafting(final IAEItemStack option) {
+        this.fetch(option);
+        this.local.addCrafting(option);
+    }
+
+    @Override
+    public void addRequestable(final IAEItemStack option) {
+        this.fetch(option);
+        this.local.addRequestable(option);
+    }
+
+    @Override
+    public IAEItemStack getFirstItem() {
+        return this.fetchAll().getFirstItem();
+    }
+
+    @Override
+    public int size() {
+        return this.fetchAll().size();
+    }
+
+    @Override
+    public Iterator<IAEItemStack> iterator() {
+        return this.fetchAll().iterator();
+    }
+
+    @Override
+    public void resetStatus() {
+        this.fetchAll().resetStatus();
+    }
+
+    @Override
+    public IAEItemStack[] toArray(final IAEItemStack[] zeroSizedArray) {
+        return this.fetchAll().toArray(zeroSizedArray);
+    }
+
+    @Override
+    public void forEach(final Consumer<? super IAEItemStack> action) {
+        this.fetchAll().forEach(action);
+    }
+
+    @Override
+    public Spliterator<IAEItemStack> spliterator() {
+        return this.fetchAll().spliterator();
+    }
+}
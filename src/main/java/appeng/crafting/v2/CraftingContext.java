@@ -4,10 +4,8 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -22,8 +20,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
 import com.google.common.collect.ClassToInstanceMap;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.MutableClassToInstanceMap;
 
 import appeng.api.AEApi;
@@ -38,6 +34,7 @@ import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.container.ContainerNull;
 import appeng.core.AEConfig;
+import appeng.crafting.LazyStorageSnapshot;
 import appeng.crafting.MECraftingInventory;
 import appeng.crafting.v2.resolvers.CraftingTask;
 import appeng.crafting.v2.resolvers.CraftingTask.State;
@@ -45,7 +42,6 @@ import appeng.me.cache.CraftingGridCache;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
-import appeng.util.item.OreListMultiMap;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.relauncher.Side;
 
@@ -104,23 +100,49 @@ public final class CraftingContext {
     private boolean doingWork = false;
     // State at the point when the last task executed.
     private CraftingTask.State finishedState = CraftingTask.State.FAILURE;
-    private final ImmutableMap<IAEItemStack, ImmutableList<ICraftingPatternDetails>> availablePatterns;
-    private final Map<IAEItemStack, List<ICraftingPatternDetails>> precisePatternCache = new HashMap<>();
-    private final Map<ICraftingPatternDetails, IAEItemStack> crafterIconCache = new HashMap<>();
-    private final OreListMultiMap<ICraftingPatternDetails> fuzzyPatternCache = new OreListMultiMap<>();
-    private final IdentityHashMap<ICraftingPatternDetails, Boolean> isPatternComplexCache = new IdentityHashMap<>();
+    /**
+     * Pattern lookups shared with other jobs planned against the same version of the grid's patterns
+     */
+    private final CraftingPlanCache planCache;
     private final ClassToInstanceMap<Object> userCaches = MutableClassToInstanceMap.create();
 
     public CraftingContext(@Nonnull World world, @Nonnull IGrid meGrid, @Nonnull BaseActionSource actionSource) {
+        this(world, meGrid, actionSource, AEConfig.instance.craftingLazyStorageModel);
+    }
+
+    /**
+     * @param lazyStorage Copy item types from the network into the simulated inventories only when first touched,
+     *                    instead of snapshotting the whole storage up front
+     */
+    public CraftingContext(@Nonnull World world, @Nonnull IGrid meGrid, @Nonnull BaseActionSource actionSource,
+            boolean lazyStorage) {
         this.world = world;
         this.meGrid = meGrid;
         this.craftingGrid = meGrid.getCache(ICraftingGrid.class);
         this.actionSource = actionSource;
         final IStorageGrid sg = meGrid.getCache(IStorageGrid.class);
-        this.itemModel = new MECraftingInventory(sg.getItemInventory(), this.actionSource, true, false, true);
+        // both models must see the same amount of a type, however far apart they first read it
+        final LazyStorageSnapshot snapshot = lazyStorage
+                ? new LazyStorageSnapshot(sg.getItemInventory(), this.actionSource)
+                : null;
+        this.itemModel = new MECraftingInventory(
+                sg.getItemInventory(),
+                this.actionSource,
+                true,
+                false,
+                true,
+                snapshot);
         this.byproductsInventory = new MECraftingInventory();
-        this.availableCache = new MECraftingInventory(sg.getItemInventory(), this.actionSource, false, false, false);
-        this.availablePatterns = craftingGrid.getCraftingPatterns();
+        this.availableCache = new MECraftingInventory(
+                sg.getItemInventory(),
+                this.actionSource,
+                false,
+                false,
+                false,
+                snapshot);
+        this.planCache = craftingGrid instanceof CraftingGridCache
+                ? ((CraftingGridCache) craftingGrid).getPlanCache()
+                : new CraftingPlanCache(0, craftingGrid.getCraftingPatterns());
     }
 
     /**
@@ -152,7 +174,7 @@ public final class CraftingContext {
     }
 
     public IAEItemStack getCrafterIconForPattern(@Nonnull ICraftingPatternDetails pattern) {
-        return crafterIconCache.computeIfAbsent(pattern, ignored -> {
+        return planCache.getCrafterIconForPattern(pattern, ignored -> {
             if (craftingGrid instanceof CraftingGridCache) {
                 final List<ICraftingMedium> mediums = ((CraftingGridCache) craftingGrid).getMediums(pattern);
                 for (ICraftingMedium medium : mediums) {
@@ -166,30 +188,18 @@ public final class CraftingContext {
         });
     }
 
+    /**
+     * @return Patterns producing exactly the given item, ordered by descending priority
+     */
     public List<ICraftingPatternDetails> getPrecisePatternsFor(@Nonnull IAEItemStack stack) {
-        return precisePatternCache.compute(stack, (key, value) -> {
-            if (value == null) {
-                return availablePatterns.getOrDefault(stack, ImmutableList.of());
-            } else {
-                return value;
-            }
-        });
+        return planCache.getPrecisePatternsFor(stack);
     }
 
+    /**
+     * @return Patterns that may be substituted for the given item, ordered by descending priority
+     */
     public List<ICraftingPatternDetails> getFuzzyPatternsFor(@Nonnull IAEItemStack stack) {
-        if (!fuzzyPatternCache.isPopulated()) {
-            for (final ImmutableList<ICraftingPatternDetails> patternSet : availablePatterns.values()) {
-                for (final ICraftingPatternDetails pattern : patternSet) {
-                    if (pattern.canBeSubstitute()) {
-                        for (final IAEItemStack output : pattern.getOutputs()) {
-                            fuzzyPatternCache.put(output.copy(), pattern);
-                        }
-                    }
-                }
-            }
-            fuzzyPatternCache.freeze();
-        }
-        return fuzzyPatternCache.get(stack);
+        return planCache.getFuzzyPatternsFor(stack);
     }
 
     /**
@@ -200,17 +210,11 @@ public final class CraftingContext {
         if (!pattern.isCraftable()) {
             return false;
         }
-        final Boolean cached = isPatternComplexCache.get(pattern);
-        if (cached != null) {
-            return cached;
-        }
-
-        final IAEItemStack[] inputs = pattern.getInputs();
-        final IAEItemStack[] mcOutputs = simulateComplexCrafting(inputs, pattern);
-
-        final boolean isComplex = Arrays.stream(mcOutputs).anyMatch(Objects::nonNull);
-        isPatternComplexCache.put(pattern, isComplex);
-        return isComplex;
+        return planCache.isPatternComplex(pattern, ignored -> {
+            final IAEItemStack[] inputs = pattern.getInputs();
+            final IAEItemStack[] mcOutputs = simulateComplexCrafting(inputs, pattern);
+            return Arrays.stream(mcOutputs).anyMatch(Objects::nonNull);
+        });
     }
 
     /**
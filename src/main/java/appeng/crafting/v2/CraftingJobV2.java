@@ -88,23 +88,13 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
         final CraftingTreeSerializer serializer = new CraftingTreeSerializer(world, buffer);
         final ITreeSerializable rawJob;
         try {
-            rawJob = serializer.readSerializableAndQueueChildren(null);
+            rawJob = serializer.readTree();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
         if (!(rawJob instanceof CraftingJobV2 job)) {
             throw new UnsupportedOperationException("Invalid job type deserialized: " + rawJob.getClass());
         }
-        while (serializer.hasWork()) {
-            try {
-                serializer.doWork();
-            } catch (IndexOutOfBoundsException e) {
-                // can not serialize any more items, cut off the tree
-                AELog.warn(e, "Ran out of assigned space for crafting tree serialization");
-                serializer.doBestEffortWork();
-                break;
-            }
-        }
         return job;
     }
 
@@ -114,23 +104,29 @@ public class CraftingJobV2 implements ICraftingJob, Future<ICraftingJob>, ITreeS
     }
 
     public ByteBuf serialize() {
+        return serialize(Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Serializes the job tree down to the given node depth, see
+     * {@link CraftingTreeSerializer#CraftingTreeSerializer(World, int, DeferredSubtrees)}.
+     */
+    public ByteBuf serialize(int maxDepth, DeferredSubtrees deferredSubtrees) {
+        return serializeTree(context.world, this, maxDepth, deferredSubtrees);
+    }
+
+    /**
+     * Serializes a request deferred by an earlier call to {@link #serialize(int, DeferredSubtrees)}, with its own
+     * depth limit.
+     */
+    public ByteBuf serializeSubtree(CraftingRequest<?> subtreeRoot, int maxDepth, DeferredSubtrees deferredSubtrees) {
+        return serializeTree(context.world, subtreeRoot, maxDepth, deferredSubtrees);
+    }
+
+    private static ByteBuf serializeTree(World world, ITreeSerializable root, int maxDepth,
+            DeferredSubtrees deferredSubtrees) {
         try {
-            final CraftingTreeSerializer serializer = new CraftingTreeSerializer(context.world);
-            try {
-                serializer.writeSerializableAndQueueChildren(this);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-            while (serializer.hasWork()) {
-                try {
-                    serializer.doWork();
-                } catch (IndexOutOfBoundsException e) {
-                    // can not serialize any more items, cut off the tree
-                    AELog.warn(e, "Ran out of assigned space for crafting tree serialization");
-                    break;
-                }
-            }
-            return serializer.getBuffer().slice();
+            return new CraftingTreeSerializer(world, maxDepth, deferredSubtrees).writeTree(root);
         } catch (Exception e) {
             AELog.error(e, "Could not serialize the crafting job");
             return Unpooled.buffer(0);
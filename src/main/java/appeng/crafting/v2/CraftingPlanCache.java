@@ -0,0 +1,123 @@
+package appeng.crafting.v2;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.item.OreListMultiMap;
+
+/**
+ * Pattern lookups of the crafting planner that only depend on the patterns available in a grid: which patterns can
+ * resolve a request for an item (in priority order), which of them are complex, and which crafter icon they show.
+ * <p>
+ * An instance belongs to one version of the grid's pattern set and is shared by every crafting job planned against that
+ * version. {@link appeng.me.cache.CraftingGridCache} drops it whenever its patterns are rebuilt, while jobs that are
+ * still running keep the instance they started with, so the lookups of a job stay consistent with its pattern
+ * snapshot.
+ */
+public final class CraftingPlanCache {
+
+    private static final Comparator<ICraftingPatternDetails> PRIORITY_ORDER = Comparator
+            .comparing(ICraftingPatternDetails::getPriority).reversed();
+
+    private final int version;
+    private final ImmutableMap<IAEItemStack, ImmutableList<ICraftingPatternDetails>> patterns;
+    private final Map<IAEItemStack, List<ICraftingPatternDetails>> fuzzyPatternCache = new ConcurrentHashMap<>();
+    private final Map<ICraftingPatternDetails, Boolean> isPatternComplexCache = new ConcurrentHashMap<>();
+    private final Map<ICraftingPatternDetails, IAEItemStack> crafterIconCache = new ConcurrentHashMap<>();
+    private volatile OreListMultiMap<ICraftingPatternDetails> substitutePatterns;
+
+    /**
+     * @param version  Version of the grid's pattern set this cache was built for
+     * @param patterns Patterns by output, each list ordered by descending priority
+     */
+    public CraftingPlanCache(int version,
+            @Nonnull ImmutableMap<IAEItemStack, ImmutableList<ICraftingPatternDetails>> patterns) {
+        this.version = version;
+        this.patterns = patterns;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public ImmutableMap<IAEItemStack, ImmutableList<ICraftingPatternDetails>> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * @return Patterns producing exactly the given item, ordered by descending priority
+     */
+    public List<ICraftingPatternDetails> getPrecisePatternsFor(@Nonnull IAEItemStack stack) {
+        return patterns.getOrDefault(stack, ImmutableList.of());
+    }
+
+    /**
+     * @return Patterns that may be substituted for the given item, ordered by descending priority
+     */
+    public List<ICraftingPatternDetails> getFuzzyPatternsFor(@Nonnull IAEItemStack stack) {
+        final List<ICraftingPatternDetails> cached = fuzzyPatternCache.get(stack);
+        if (cached != null) {
+            return cached;
+        }
+        final List<ICraftingPatternDetails> sorted = new ArrayList<>(getSubstitutePatterns().get(stack));
+        sorted.sort(PRIORITY_ORDER);
+        final ImmutableList<ICraftingPatternDetails> result = ImmutableList.copyOf(sorted);
+        fuzzyPatternCache.put(stack.copy(), result);
+        return result;
+    }
+
+    private OreListMultiMap<ICraftingPatternDetails> getSubstitutePatterns() {
+        OreListMultiMap<ICraftingPatternDetails> map = substitutePatterns;
+        if (map == null) {
+            synchronized (this) {
+                map = substitutePatterns;
+                if (map == null) {
+                    map = new OreListMultiMap<>();
+                    for (final ImmutableList<ICraftingPatternDetails> patternSet : patterns.values()) {
+                        for (final ICraftingPatternDetails pattern : patternSet) {
+                            if (pattern.canBeSubstitute()) {
+                                for (final IAEItemStack output : pattern.getOutputs()) {
+                                    map.put(output.copy(), pattern);
+                                }
+                            }
+                        }
+                    }
+                    map.freeze();
+                    substitutePatterns = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @param simulator Computes the result for a pattern that was not looked up before
+     */
+    public boolean isPatternComplex(@Nonnull ICraftingPatternDetails pattern,
+            @Nonnull Predicate<ICraftingPatternDetails> simulator) {
+        final Boolean cached = isPatternComplexCache.get(pattern);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean isComplex = simulator.test(pattern);
+        isPatternComplexCache.put(pattern, isComplex);
+        return isComplex;
+    }
+
+    public IAEItemStack getCrafterIconForPattern(@Nonnull ICraftingPatternDetails pattern,
+            @Nonnull Function<ICraftingPatternDetails, IAEItemStack> lookup) {
+        return crafterIconCache.computeIfAbsent(pattern, lookup);
+    }
+}
@@ -105,6 +105,10 @@ public class CraftingRequest<StackType extends IAEStack<StackType>> implements I
      */
     public volatile boolean wasSimulated = false;
     public boolean incomplete = false;
+    /**
+     * Client-side: handle of a subtree the server has not sent yet, or -1 if the children are all here
+     */
+    public int deferredSubtreeId = -1;
 
     /**
      * A set of all patterns used to resolve this request and its parents, used for avoiding infinite recursion.
@@ -123,7 +127,9 @@ public class CraftingRequest<StackType extends IAEStack<StackType>> implements I
         buffer.writeBoolean(wasSimulated);
         buffer.writeBoolean(incomplete);
         buffer.writeInt(craftingMode.ordinal());
-        return usedResolvers;
+        final int deferredId = serializer.deferChildren(this);
+        buffer.writeInt(deferredId);
+        return (deferredId < 0) ? usedResolvers : Collections.emptyList();
     }
 
     @Override
@@ -134,6 +140,17 @@ public class CraftingRequest<StackType extends IAEStack<StackType>> implements I
         }
     }
 
+    /**
+     * Attaches the children of a deferred subtree received from the server to this request.
+     *
+     * @param subtree The same request deserialized on its own, together with its children
+     */
+    @SuppressWarnings("unchecked")
+    public void loadDeferredChildren(CraftingRequest<?> subtree) {
+        usedResolvers.addAll((List<UsedResolverEntry<StackType>>) (List<?>) subtree.usedResolvers);
+        deferredSubtreeId = -1;
+    }
+
     @SuppressWarnings({ "unchecked", "unused" })
     public CraftingRequest(CraftingTreeSerializer serializer, ITreeSerializable parent) throws IOException {
         final ByteBuf buffer = serializer.getBuffer();
@@ -158,6 +175,7 @@ public class CraftingRequest<StackType extends IAEStack<StackType>> implements I
         if (index < 0 || index >= CraftingMode.values().length || CraftingMode.values()[index] == CraftingMode.STANDARD)
             craftingMode = CraftingMode.STANDARD;
         else craftingMode = CraftingMode.IGNORE_MISSING;
+        deferredSubtreeId = buffer.readInt();
         acceptableSubstituteFn = x -> true;
     }
 
@@ -20,6 +20,7 @@ import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.core.AEConfig;
+import appeng.core.AELog;
 import appeng.crafting.v2.resolvers.CraftableItemResolver;
 import appeng.crafting.v2.resolvers.EmitableItemResolver;
 import appeng.crafting.v2.resolvers.ExtractItemResolver;
@@ -42,6 +43,9 @@ public final class CraftingTreeSerializer {
     private final World world;
     private final boolean reading;
     private final ByteBuf buffer;
+    private final int maxDepth;
+    private final DeferredSubtrees deferredSubtrees;
+    private int currentDepth = 0;
 
     private ArrayList<JobFn> workStack = new ArrayList<>(32);
 
@@ -92,10 +96,25 @@ public final class CraftingTreeSerializer {
      * @param world The world of the AE system in which the tree is serialized
      */
     public CraftingTreeSerializer(final World world) {
+        this(world, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a serializing instance that cuts the tree off below a given depth. Requests at the cut-off point are
+     * written without their children, and are recorded in {@code deferredSubtrees} so that they can be sent later
+     * using their handle.
+     *
+     * @param world            The world of the AE system in which the tree is serialized
+     * @param maxDepth         Node depth (counted from the root node) at which request children are deferred
+     * @param deferredSubtrees Handles to record deferred requests in, or null to never defer
+     */
+    public CraftingTreeSerializer(final World world, final int maxDepth, final DeferredSubtrees deferredSubtrees) {
         this.buffer = Unpooled.buffer(4096, AEConfig.instance.maxCraftingTreeVisualizationSize)
                 .order(ByteOrder.LITTLE_ENDIAN);
         this.reading = false;
         this.world = world;
+        this.maxDepth = maxDepth;
+        this.deferredSubtrees = deferredSubtrees;
     }
 
     /**
@@ -109,6 +128,8 @@ public final class CraftingTreeSerializer {
         this.buffer = toDeserialize;
         this.reading = true;
         this.world = world;
+        this.maxDepth = Integer.MAX_VALUE;
+        this.deferredSubtrees = null;
     }
 
     public ByteBuf getBuffer() {
@@ -116,17 +137,70 @@ public final class CraftingTreeSerializer {
     }
 
     public void writeSerializableAndQueueChildren(ITreeSerializable obj) throws IOException {
+        writeSerializableAndQueueChildren(obj, 0);
+    }
+
+    private void writeSerializableAndQueueChildren(ITreeSerializable obj, int depth) throws IOException {
         final String key = serializableKeys.get(obj.getClass());
         if (key == null || key.isEmpty()) {
             throw new IllegalArgumentException("Unregistered ITreeSerializable: " + obj.getClass());
         }
         ByteBufUtils.writeUTF8String(buffer, key);
+        currentDepth = depth;
         List<? extends ITreeSerializable> children = obj.serializeTree(this);
         ByteBufUtils.writeVarInt(buffer, children.size(), 5);
         for (int i = children.size() - 1; i >= 0; i--) {
             final ITreeSerializable child = children.get(i);
-            workStack.add(() -> writeSerializableAndQueueChildren(child));
+            workStack.add(() -> writeSerializableAndQueueChildren(child, depth + 1));
+        }
+    }
+
+    /**
+     * Called by requests while they are serialized to check if their children should be sent later instead.
+     *
+     * @return The handle under which the request was recorded, or -1 if its children should be serialized now
+     */
+    public int deferChildren(CraftingRequest<?> request) {
+        if (deferredSubtrees == null || currentDepth < maxDepth || request.usedResolvers.isEmpty()) {
+            return -1;
+        }
+        return deferredSubtrees.add(request);
+    }
+
+    /**
+     * Serializes the whole tree below the given root, cutting it off if the buffer runs out of space.
+     */
+    public ByteBuf writeTree(ITreeSerializable root) throws IOException {
+        writeSerializableAndQueueChildren(root);
+        while (hasWork()) {
+            try {
+                doWork();
+            } catch (IndexOutOfBoundsException e) {
+                // can not serialize any more items, cut off the tree
+                AELog.warn(e, "Ran out of assigned space for crafting tree serialization");
+                break;
+            }
+        }
+        return buffer.slice();
+    }
+
+    /**
+     * Deserializes a tree written by {@link #writeTree(ITreeSerializable)}, keeping whatever could be read if the
+     * data was cut off.
+     */
+    public ITreeSerializable readTree() throws IOException {
+        final ITreeSerializable root = readSerializableAndQueueChildren(null);
+        while (hasWork()) {
+            try {
+                doWork();
+            } catch (IndexOutOfBoundsException e) {
+                // can not serialize any more items, cut off the tree
+                AELog.warn(e, "Ran out of assigned space for crafting tree serialization");
+                doBestEffortWork();
+                break;
+            }
         }
+        return root;
     }
 
     // Special-case this class to run the task even if we fail at deserialization, to partially fill children where
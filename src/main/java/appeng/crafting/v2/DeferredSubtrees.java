@@ -0,0 +1,46 @@
+package appeng.crafting.v2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+/**
+ * Requests whose children were cut off from a serialized crafting tree, indexed by the handle sent to the client. A
+ * request keeps its handle when it is deferred again, so serializing a subtree twice hands out the same handles.
+ */
+public final class DeferredSubtrees {
+
+    private final List<CraftingRequest<?>> requests = new ArrayList<>();
+    private final Reference2IntOpenHashMap<CraftingRequest<?>> handles = new Reference2IntOpenHashMap<>();
+
+    public DeferredSubtrees() {
+        this.handles.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return the handle of the request, recording it first if it was not deferred before
+     */
+    public int add(final CraftingRequest<?> request) {
+        int handle = this.handles.getInt(request);
+        if (handle < 0) {
+            handle = this.requests.size();
+            this.requests.add(request);
+            this.handles.put(request, handle);
+        }
+        return handle;
+    }
+
+    public CraftingRequest<?> get(final int handle) {
+        return this.requests.get(handle);
+    }
+
+    public int size() {
+        return this.requests.size();
+    }
+
+    public void clear() {
+        this.requests.clear();
+        this.handles.clear();
+    }
+}
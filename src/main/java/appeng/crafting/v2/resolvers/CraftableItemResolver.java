@@ -643,14 +643,13 @@ public class CraftableItemResolver implements CraftingRequestResolver<IAEItemSta
         final ArrayList<CraftingTask> tasks = new ArrayList<>();
         final Set<ICraftingPatternDetails> denyList = request.patternParents;
         final List<ICraftingPatternDetails> patterns = new ArrayList<>(context.getPrecisePatternsFor(request.stack));
+        // Both pattern lists are already ordered by descending priority
         patterns.removeAll(denyList);
-        patterns.sort(Comparator.comparing(ICraftingPatternDetails::getPriority).reversed());
         // If fuzzy patterns are allowed,
         if (request.substitutionMode == SubstitutionMode.ACCEPT_FUZZY) {
             final List<ICraftingPatternDetails> fuzzyPatterns = new ArrayList<>(
                     context.getFuzzyPatternsFor(request.stack));
             fuzzyPatterns.removeAll(denyList);
-            fuzzyPatterns.sort(Comparator.comparing(ICraftingPatternDetails::getPriority).reversed());
             patterns.addAll(fuzzyPatterns);
         }
         int priority = CraftingTask.PRIORITY_CRAFT_OFFSET + patterns.size() - 1;
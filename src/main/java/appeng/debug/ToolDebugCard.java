@@ -39,6 +39,7 @@ import appeng.items.AEBaseItem;
 import appeng.me.Grid;
 import appeng.me.GridNode;
 import appeng.me.cache.TickManagerCache;
+import appeng.parts.p2p.PartP2PItems;
 import appeng.parts.p2p.PartP2PTunnel;
 import appeng.tile.networking.TileController;
 import appeng.util.Platform;
@@ -117,6 +118,10 @@ public class ToolDebugCard extends AEBaseItem {
                         this.outputMsg(player, "Freq: " + ((PartP2PTunnel) center.getMachine()).getFrequency());
                     }
 
+                    if (center.getMachine() instanceof PartP2PItems items && !items.isOutput()) {
+                        this.outputMsg(player, "Throughput: " + items.getThroughput() + " items/s");
+                    }
+
                     final TickManagerCache tmc = g.getCache(ITickManager.class);
                     for (final Class<? extends IGridHost> c : g.getMachineClasses()) {
                         int o = 0;
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.hooks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import appeng.api.parts.IPartHost;
+import appeng.core.sync.network.NetworkHandler;
+import appeng.core.sync.packets.PacketPartStates;
+import appeng.parts.ISyncedPartState;
+import appeng.tile.networking.TileCableBus;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Collects the cable buses whose parts changed their power or channel state during a server tick, and at the end of the
+ * tick sends a single {@link PacketPartStates} per chunk to the players watching it.
+ * <p>
+ * A reboot or repath of a large network changes the state of every part on it at once, sending each bus its own full
+ * description packet would flood the clients. Only parts implementing {@link ISyncedPartState} are sent.
+ */
+public final class PartStateSync {
+
+    public static final PartStateSync INSTANCE = new PartStateSync();
+
+    private final Map<World, Long2ObjectMap<Set<TileCableBus>>> changed = new HashMap<>();
+
+    private PartStateSync() {}
+
+    /**
+     * Marks the state of the parts on a host as changed. Hosts other than AE2's own cable bus get a full update.
+     */
+    public void markChanged(final IPartHost host) {
+        final TileEntity te = host.getTile();
+        if (te instanceof TileCableBus tile && te.hasWorldObj()) {
+            final Long2ObjectMap<Set<TileCableBus>> chunks = this.changed
+                    .computeIfAbsent(te.getWorldObj(), w -> new Long2ObjectOpenHashMap<>());
+            final long chunk = ChunkCoordIntPair.chunkXZ2Int(te.xCoord >> 4, te.zCoord >> 4);
+            Set<TileCableBus> tiles = chunks.get(chunk);
+            if (tiles == null) {
+                tiles = new LinkedHashSet<>();
+                chunks.put(chunk, tiles);
+            }
+            tiles.add(tile);
+        } else {
+            host.markForUpdate();
+        }
+    }
+
+    void flush() {
+        if (this.changed.isEmpty()) {
+            return;
+        }
+
+        for (final Map.Entry<World, Long2ObjectMap<Set<TileCableBus>>> world : this.changed.entrySet()) {
+            if (world.getKey() instanceof WorldServer ws) {
+                for (final Set<TileCableBus> tiles : world.getValue().values()) {
+                    this.sendChunk(ws, tiles);
+                }
+            }
+        }
+        this.changed.clear();
+    }
+
+    void clear() {
+        this.changed.clear();
+    }
+
+    private void sendChunk(final WorldServer world, final Set<TileCableBus> tiles) {
+        tiles.removeIf(TileEntity::isInvalid);
+        if (tiles.isEmpty()) {
+            return;
+        }
+
+        final TileCableBus first = tiles.iterator().next();
+        final int chunkX = first.xCoord >> 4;
+        final int chunkZ = first.zCoord >> 4;
+
+        // players the chunk hasn't been sent to yet get the current state with it
+        final List<EntityPlayerMP> watching = new ArrayList<>();
+        for (final Object player : world.playerEntities) {
+            if (player instanceof EntityPlayerMP mp
+                    && world.getPlayerManager().isPlayerWatchingChunk(mp, chunkX, chunkZ)) {
+                watching.add(mp);
+            }
+        }
+        if (watching.isEmpty()) {
+            return;
+        }
+
+        final PacketPartStates packet = new PacketPartStates(chunkX, chunkZ, tiles);
+        for (final EntityPlayerMP player : watching) {
+            NetworkHandler.instance.sendTo(packet, player);
+        }
+    }
+}
@@ -41,6 +41,7 @@ import appeng.core.sync.packets.PacketPaintedEntity;
 import appeng.entity.EntityFloatingItem;
 import appeng.me.Grid;
 import appeng.me.NetworkList;
+import appeng.me.storage.SharedMonitorViews;
 import appeng.tile.AEBaseTile;
 import appeng.util.IWorldCallable;
 import appeng.util.Platform;
@@ -119,6 +120,8 @@ public class TickHandler {
 
     public void shutdown() {
         this.getRepo().clear();
+        PartStateSync.INSTANCE.clear();
+        SharedMonitorViews.clear();
     }
 
     @SubscribeEvent
@@ -194,6 +197,12 @@ public class TickHandler {
 
             // cross world queue.
             this.processQueue(this.serverQueue, null);
+
+            // part states changed by the network updates above.
+            PartStateSync.INSTANCE.flush();
+
+            // interface pass-through views only live for the tick they were taken in.
+            SharedMonitorViews.clear();
         }
 
         // world synced queue(s)
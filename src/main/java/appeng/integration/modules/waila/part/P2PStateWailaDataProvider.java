@@ -23,6 +23,7 @@ import appeng.api.parts.IPart;
 import appeng.core.localization.ButtonToolTips;
 import appeng.core.localization.WailaText;
 import appeng.me.GridAccessException;
+import appeng.parts.p2p.PartP2PItems;
 import appeng.parts.p2p.PartP2PTunnel;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
@@ -38,6 +39,7 @@ public final class P2PStateWailaDataProvider extends BasePartWailaDataProvider {
     public static final String TAG_P2P_STATE = "p2p_state";
     public static final String TAG_P2P_FREQUENCY = "p2p_frequency";
     public static final String TAG_CUSTOMNAME = "custom_name";
+    public static final String TAG_P2P_THROUGHPUT = "p2p_throughput";
 
     /**
      * Adds state to the tooltip
@@ -73,6 +75,11 @@ public final class P2PStateWailaDataProvider extends BasePartWailaDataProvider {
                 final String local = ButtonToolTips.P2PFrequency.getLocal();
 
                 currentToolTip.add(String.format(local, freqTooltip));
+
+                if (nbtData.hasKey(TAG_P2P_THROUGHPUT)) {
+                    currentToolTip.add(
+                            String.format(WailaText.P2PThroughput.getLocal(), nbtData.getLong(TAG_P2P_THROUGHPUT)));
+                }
             }
         }
 
@@ -100,6 +107,10 @@ public final class P2PStateWailaDataProvider extends BasePartWailaDataProvider {
                     // Only set it to INPUT if we know there are any outputs
                     state = STATE_INPUT;
                 }
+
+                if (tunnel instanceof PartP2PItems items) {
+                    tag.setLong(TAG_P2P_THROUGHPUT, items.getThroughput());
+                }
             } else {
                 PartP2PTunnel input = tunnel.getInput();
                 if (input != null) {
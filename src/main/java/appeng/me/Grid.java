@@ -10,10 +10,13 @@
 
 package appeng.me;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -34,11 +37,17 @@ import appeng.core.AEConfig;
 import appeng.core.worlddata.WorldData;
 import appeng.hooks.TickHandler;
 import appeng.me.cache.CraftingGridCache;
+import appeng.me.storage.MEPassThrough;
 import appeng.parts.misc.PartStorageBus;
 import appeng.util.ReadOnlyCollection;
 
 public class Grid implements IGrid {
 
+    /**
+     * Incremented whenever a link between two grids appears, disappears or leads somewhere else
+     */
+    private static long topologyVersion = 0;
+
     private final UUID id;
 
     private final NetworkEventBus eventBus = new NetworkEventBus();
@@ -51,6 +60,12 @@ public class Grid implements IGrid {
     private static final int PROFILING_SAMPLE_COUNT = 200;
     private int timeStatisticsIndex = 0;
     private boolean profilingPassedFullCycle = false;
+    /**
+     * Storage buses of this grid attached to interface storage, which may belong to another grid
+     */
+    private final Map<IGridHost, MEPassThrough<?>> subnetLinks = new HashMap<>();
+    private final Map<Class<? extends IGridHost>, NetworkList> recursiveConnections = new HashMap<>();
+    private long recursiveConnectionsVersion = -1;
 
     public Grid(final GridNode center) {
         this.pivot = center;
@@ -103,6 +118,10 @@ public class Grid implements IGrid {
             c.removeNode(gridNode, machine);
         }
 
+        if (this.subnetLinks.remove(gridNode.getMachine()) != null) {
+            topologyChanged();
+        }
+
         final Class<? extends IGridHost> machineClass = gridNode.getMachineClass();
         final Set<IGridNode> nodes = this.machines.get(machineClass);
         if (nodes != null) {
@@ -175,6 +194,10 @@ public class Grid implements IGrid {
         // track node.
         nodes.add(gridNode);
 
+        if (gridNode.getMachine() instanceof PartStorageBus bus) {
+            this.updateSubnetLink(bus);
+        }
+
         for (final IGridCache cache : this.caches.values()) {
             final IGridHost machine = gridNode.getMachine();
             cache.addNode(gridNode, machine);
@@ -304,15 +327,32 @@ public class Grid implements IGrid {
         return Objects.hash(this.getId());
     }
 
+    /**
+     * Called when a link between grids may have changed without a storage bus noticing, ie. when interface storage
+     * moves to another grid.
+     */
+    public static void topologyChanged() {
+        topologyVersion++;
+    }
+
+    /**
+     * Re-reads which interface storage a storage bus of this grid is attached to.
+     */
+    public void updateSubnetLink(final PartStorageBus bus) {
+        final MEPassThrough<?> target = bus.getSubnetTarget();
+        final MEPassThrough<?> previous = target == null ? this.subnetLinks.remove(bus)
+                : this.subnetLinks.put(bus, target);
+        if (previous != target) {
+            topologyChanged();
+        }
+    }
+
     @Override
     public NetworkList getGridConnections(Class<? extends IGridHost> accessType) {
         NetworkList result = new NetworkList();
         result.add(this);
-        HashMap<IGridHost, IGrid> gridConnections = this.getSubnetGridMap(accessType);
-        for (Entry<IGridHost, IGrid> entry : gridConnections.entrySet()) {
-            if (accessType.isInstance(entry.getKey())) {
-                if (!result.contains((Grid) entry.getValue())) result.add((Grid) entry.getValue());
-            }
+        for (Grid connected : this.getLinkedGrids(accessType)) {
+            if (!result.contains(connected)) result.add(connected);
         }
         return result;
     }
@@ -320,43 +360,59 @@ public class Grid implements IGrid {
     @Override
     public NetworkList getAllRecursiveGridConnections(Class<? extends IGridHost> accessType) {
         if (accessType == null) return null;
-        return getAllRecursiveGridConnections(accessType, new HashSet<>(), 0);
+        if (this.recursiveConnectionsVersion != topologyVersion) {
+            this.recursiveConnections.clear();
+            this.recursiveConnectionsVersion = topologyVersion;
+        }
+        NetworkList closure = this.recursiveConnections.get(accessType);
+        if (closure == null) {
+            closure = this.findRecursiveGridConnections(accessType);
+            this.recursiveConnections.put(accessType, closure);
+        }
+        // callers are free to modify the result
+        final NetworkList result = new NetworkList();
+        result.addAll(closure);
+        return result;
     }
 
-    private HashMap<IGridHost, IGrid> getSubnetGridMap(Class<? extends IGridHost> accessType) {
-        IMachineSet storageBuses = this.getMachines(PartStorageBus.class);
-        HashMap<IGridHost, IGrid> gridConnections = new HashMap<>();
-        for (IGridNode bus : storageBuses) {
-            if (bus.getMachine() instanceof PartStorageBus sb) { // TODO Support partFluidStorageBus
-                IGrid connectedGrid = sb.getConnectedGrid();
-                if (connectedGrid != null) gridConnections.put(sb, sb.getConnectedGrid());
+    /**
+     * @return Grids reached directly through the links of the given access type, may contain duplicates
+     */
+    private List<Grid> getLinkedGrids(Class<? extends IGridHost> accessType) {
+        final List<Grid> result = new ArrayList<>();
+        for (Entry<IGridHost, MEPassThrough<?>> link : this.subnetLinks.entrySet()) {
+            if (accessType.isInstance(link.getKey())) {
+                final IGrid connected = link.getValue().getGrid();
+                if (connected instanceof Grid grid && !grid.equals(this)) {
+                    result.add(grid);
+                }
             }
         }
-        return gridConnections;
+        return result;
     }
 
-    private NetworkList getAllRecursiveGridConnections(Class<? extends IGridHost> accessType, Set<UUID> visited,
-            int depth) {
-        NetworkList result = this.getGridConnections(accessType);
-        if (depth > AEConfig.instance.maxRecursiveDepth) return result;
-
-        HashMap<IGridHost, IGrid> gridConnections = this.getSubnetGridMap(accessType);
-        for (Entry<IGridHost, IGrid> entry : gridConnections.entrySet()) {
-            if (accessType.isInstance(entry.getKey())) {
-                Grid innerGrid = (Grid) entry.getValue();
-
-                if (innerGrid == null || visited.contains(innerGrid.getId())) {
-                    continue; // skip to avoid infinite loop
+    private NetworkList findRecursiveGridConnections(Class<? extends IGridHost> accessType) {
+        final List<Grid> found = new ArrayList<>();
+        final Set<Grid> visited = new HashSet<>();
+        found.add(this);
+        visited.add(this);
+
+        List<Grid> level = Collections.singletonList(this);
+        for (int depth = 0; depth <= AEConfig.instance.maxRecursiveDepth && !level.isEmpty(); depth++) {
+            final List<Grid> nextLevel = new ArrayList<>();
+            for (Grid grid : level) {
+                for (Grid connected : grid.getLinkedGrids(accessType)) {
+                    if (visited.add(connected)) {
+                        nextLevel.add(connected);
+                    }
                 }
-
-                visited.add(innerGrid.getId());
-                if (!result.contains(innerGrid)) result.add(innerGrid);
-
-                NetworkList subResult = innerGrid.getAllRecursiveGridConnections(accessType, visited, ++depth);
-                result.mergeDistinct(subResult);
             }
+            found.addAll(nextLevel);
+            level = nextLevel;
         }
 
+        final NetworkList result = new NetworkList();
+        result.addAll(found);
         return result;
     }
 }
@@ -78,6 +78,7 @@ import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
 import appeng.crafting.CraftingWatcher;
 import appeng.crafting.v2.CraftingJobV2;
+import appeng.crafting.v2.CraftingPlanCache;
 import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.me.helpers.GenericInterestManager;
 import appeng.tile.crafting.TileCraftingStorageTile;
@@ -114,6 +115,8 @@ public class CraftingGridCache
     private IStorageGrid storageGrid;
     private IEnergyGrid energyGrid;
     private boolean updateList = false;
+    private int patternVersion = 0;
+    private CraftingPlanCache planCache;
     private static int pauseRebuilds = 0;
     private static Set<CraftingGridCache> rebuildNeeded = new HashSet<>();
 
@@ -267,6 +270,8 @@ public class CraftingGridCache
     }
 
     private void setPatternsFromCraftingMethods() {
+        this.patternVersion++;
+        this.planCache = null;
         final Map<IAEItemStack, Set<ICraftingPatternDetails>> tmpCraft = new HashMap<>();
 
         // new craftables!
@@ -445,7 +450,25 @@ public class CraftingGridCache
 
     @Override
     public ImmutableMap<IAEItemStack, ImmutableList<ICraftingPatternDetails>> getCraftingPatterns() {
-        return ImmutableMap.copyOf(this.craftableItems);
+        return this.getPlanCache().getPatterns();
+    }
+
+    /**
+     * @return A number that changes whenever the patterns of the grid or the machines providing them change
+     */
+    public int getPatternVersion() {
+        return this.patternVersion;
+    }
+
+    /**
+     * @return Planner lookups for the current set of patterns, replaced by a fresh instance whenever the patterns
+     *         change
+     */
+    public CraftingPlanCache getPlanCache() {
+        if (this.planCache == null) {
+            this.planCache = new CraftingPlanCache(this.patternVersion, ImmutableMap.copyOf(this.craftableItems));
+        }
+        return this.planCache;
     }
 
     @Override
@@ -10,10 +10,14 @@
 
 package appeng.me.cache;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import net.minecraft.item.ItemStack;
 
@@ -45,7 +49,9 @@ import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.api.util.ItemSearchDTO;
 import appeng.core.AEConfig;
+import appeng.me.cache.helpers.ItemLocationIndex;
 import appeng.me.helpers.GenericInterestManager;
 import appeng.me.storage.ItemWatcher;
 import appeng.me.storage.MEInventoryHandler;
@@ -99,6 +105,18 @@ public class GridStorageCache implements IStorageGrid {
     private final ItemStackMap<Integer> itemCells = new ItemStackMap<>();
     private final ItemStackMap<Integer> fluidCells = new ItemStackMap<>();
     private final ItemStackMap<Integer> essentiaCells = new ItemStackMap<>();
+    /**
+     * What each drive or chest currently adds to the cell statistics, taken back out when it changes or goes offline
+     */
+    private final IdentityHashMap<ICellProvider, CellStats[]> cellStats = new IdentityHashMap<>();
+    /**
+     * Drives and chests whose cells changed since the statistics were last updated
+     */
+    private final Set<ICellProvider> dirtyCellStats = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Where stored items are held, created by the first search on this grid
+     */
+    private ItemLocationIndex itemLocations;
 
     private static final int CELL_GREEN = 1;
     private static final int CELL_BLUE = 2;
@@ -182,6 +200,10 @@ public class GridStorageCache implements IStorageGrid {
         if (this.inactiveCellProviders.contains(cc)) {
             this.inactiveCellProviders.remove(cc);
             this.activeCellProviders.add(cc);
+            this.dirtyCellStats.add(cc);
+            if (this.itemLocations != null) {
+                this.itemLocations.markDirty(cc);
+            }
 
             BaseActionSource actionSrc = new BaseActionSource();
             if (cc instanceof IActionHost) {
@@ -204,6 +226,10 @@ public class GridStorageCache implements IStorageGrid {
         if (this.activeCellProviders.contains(cc)) {
             this.activeCellProviders.remove(cc);
             this.inactiveCellProviders.add(cc);
+            this.removeCellStats(cc);
+            if (this.itemLocations != null) {
+                this.itemLocations.remove(cc);
+            }
 
             BaseActionSource actionSrc = new BaseActionSource();
 
@@ -388,159 +414,179 @@ public class GridStorageCache implements IStorageGrid {
         }
     }
 
-    private void updateItemCellStatus(final double bytesTotalToAdd, final double bytesUsedToAdd, final int cellStatus,
-            final double typesTotalToAdd, final double typesUsedToAdd) {
-        this.itemBytesTotal += bytesTotalToAdd;
-        this.itemBytesUsed += bytesUsedToAdd;
-        switch (cellStatus) {
-            case CELL_GREEN -> itemCellG++;
-            case CELL_BLUE -> itemCellB++;
-            case CELL_ORANGE -> itemCellO++;
-            case CELL_RED -> itemCellR++;
+    /**
+     * Called by drives and chests when a cell was inserted, removed or changed its contents. The statistics of the
+     * provider's cells are re-read on the next periodic update instead of re-reading every cell on the network.
+     */
+    public void cellStatsChanged(final ICellProvider provider) {
+        if (this.activeCellProviders.contains(provider)) {
+            this.dirtyCellStats.add(provider);
         }
-        this.itemTypesTotal += typesTotalToAdd;
-        this.itemTypesUsed += typesUsedToAdd;
-        this.itemCellCount++;
-    }
-
-    private void updateFluidCellStatus(final double bytesTotalToAdd, final double bytesUsedToAdd, final int cellStatus,
-            final double typesTotalToAdd, final double typesUsedToAdd) {
-        this.fluidBytesTotal += bytesTotalToAdd;
-        this.fluidBytesUsed += bytesUsedToAdd;
-        switch (cellStatus) {
-            case CELL_GREEN -> fluidCellG++;
-            case CELL_BLUE -> fluidCellB++;
-            case CELL_ORANGE -> fluidCellO++;
-            case CELL_RED -> fluidCellR++;
+        this.storedContentsChanged(provider);
+    }
+
+    /**
+     * Called by drives, chests and storage buses when what they hold may have changed, so that item searches re-read
+     * them.
+     */
+    public void storedContentsChanged(final ICellProvider provider) {
+        if (this.itemLocations != null && this.activeCellProviders.contains(provider)) {
+            this.itemLocations.markDirty(provider);
         }
-        this.fluidTypesTotal += typesTotalToAdd;
-        this.fluidTypesUsed += typesUsedToAdd;
-        this.fluidCellCount++;
-    }
-
-    private void updateEssentiaCellStatus(final double bytesTotalToAdd, final double bytesUsedToAdd,
-            final int cellStatus, final double typesTotalToAdd, final double typesUsedToAdd) {
-        this.essentiaBytesTotal += bytesTotalToAdd;
-        this.essentiaBytesUsed += bytesUsedToAdd;
-        switch (cellStatus) {
-            case CELL_GREEN -> essentiaCellG++;
-            case CELL_BLUE -> essentiaCellB++;
-            case CELL_ORANGE -> essentiaCellO++;
-            case CELL_RED -> essentiaCellR++;
+    }
+
+    /**
+     * @return Every drive slot, chest and storage bus on this grid holding the item, not including subnets
+     */
+    public List<ItemSearchDTO> findItemLocations(final IAEItemStack item) {
+        if (this.itemLocations == null) {
+            this.itemLocations = new ItemLocationIndex();
+            for (final ICellProvider cc : this.activeCellProviders) {
+                this.itemLocations.markDirty(cc);
+            }
+        }
+        return this.itemLocations.find(item);
+    }
+
+    /**
+     * Figures a single cell adds to the network statistics
+     */
+    private static final class CellStats {
+
+        final ICellCacheRegistry.TYPE type;
+        final ItemStack cell;
+        final long bytesTotal;
+        final long bytesUsed;
+        final long typesTotal;
+        final long typesUsed;
+        final int status;
+
+        CellStats(final ICellCacheRegistry iccr, final ItemStack cellStack) {
+            this.type = iccr.getCellType();
+            this.cell = new ItemStack(cellStack.getItem(), 1, cellStack.getItemDamage());
+            this.bytesTotal = iccr.getTotalBytes();
+            this.bytesUsed = iccr.getUsedBytes();
+            this.typesTotal = iccr.getTotalTypes();
+            this.typesUsed = iccr.getUsedTypes();
+            this.status = iccr.getCellStatus();
         }
-        this.essentiaTypesTotal += typesTotalToAdd;
-        this.essentiaTypesUsed += typesUsedToAdd;
-        this.essentiaCellCount++;
     }
 
-    private void updateCellsStatusFromRegistry(final ICellCacheRegistry iccr, final ItemStack newCellStack) {
-        switch (iccr.getCellType()) {
+    private void applyCellStats(final CellStats stats, final int sign) {
+        switch (stats.type) {
             case ITEM -> {
-                this.updateItemCellStatus(
-                        iccr.getTotalBytes(),
-                        iccr.getUsedBytes(),
-                        iccr.getCellStatus(),
-                        iccr.getTotalTypes(),
-                        iccr.getUsedTypes());
-                this.putItemStackIntoMap(itemCells, newCellStack, iccr.getCellStatus());
+                this.itemBytesTotal += sign * stats.bytesTotal;
+                this.itemBytesUsed += sign * stats.bytesUsed;
+                switch (stats.status) {
+                    case CELL_GREEN -> itemCellG += sign;
+                    case CELL_BLUE -> itemCellB += sign;
+                    case CELL_ORANGE -> itemCellO += sign;
+                    case CELL_RED -> itemCellR += sign;
+                }
+                this.itemTypesTotal += sign * stats.typesTotal;
+                this.itemTypesUsed += sign * stats.typesUsed;
+                this.itemCellCount += sign;
+                addCellToMap(itemCells, stats.cell, sign);
             }
             case FLUID -> {
-                this.updateFluidCellStatus(
-                        iccr.getTotalBytes(),
-                        iccr.getUsedBytes(),
-                        iccr.getCellStatus(),
-                        iccr.getTotalTypes(),
-                        iccr.getUsedTypes());
-                this.putItemStackIntoMap(fluidCells, newCellStack, iccr.getCellStatus());
+                this.fluidBytesTotal += sign * stats.bytesTotal;
+                this.fluidBytesUsed += sign * stats.bytesUsed;
+                switch (stats.status) {
+                    case CELL_GREEN -> fluidCellG += sign;
+                    case CELL_BLUE -> fluidCellB += sign;
+                    case CELL_ORANGE -> fluidCellO += sign;
+                    case CELL_RED -> fluidCellR += sign;
+                }
+                this.fluidTypesTotal += sign * stats.typesTotal;
+                this.fluidTypesUsed += sign * stats.typesUsed;
+                this.fluidCellCount += sign;
+                addCellToMap(fluidCells, stats.cell, sign);
             }
             case ESSENTIA -> {
-                this.updateEssentiaCellStatus(
-                        iccr.getTotalBytes(),
-                        iccr.getUsedBytes(),
-                        iccr.getCellStatus(),
-                        iccr.getTotalTypes(),
-                        iccr.getUsedTypes());
-                this.putItemStackIntoMap(essentiaCells, newCellStack, iccr.getCellStatus());
+                this.essentiaBytesTotal += sign * stats.bytesTotal;
+                this.essentiaBytesUsed += sign * stats.bytesUsed;
+                switch (stats.status) {
+                    case CELL_GREEN -> essentiaCellG += sign;
+                    case CELL_BLUE -> essentiaCellB += sign;
+                    case CELL_ORANGE -> essentiaCellO += sign;
+                    case CELL_RED -> essentiaCellR += sign;
+                }
+                this.essentiaTypesTotal += sign * stats.typesTotal;
+                this.essentiaTypesUsed += sign * stats.typesUsed;
+                this.essentiaCellCount += sign;
+                addCellToMap(essentiaCells, stats.cell, sign);
             }
         }
     }
 
-    private void updateBytesInfo() {
-        this.resetCellInfo();
-        try {
-            for (ICellProvider icp : this.activeCellProviders) {
-                if (icp instanceof TileDrive td) {
-                    for (int index = 0; index < td.getCellCount(); index++) {
-                        MEInventoryHandler<IAEItemStack> cellInv = td.getCellInvBySlot(index);
+    private static void addCellToMap(final ItemStackMap<Integer> map, final ItemStack cell, final int delta) {
+        map.compute(cell, (key, count) -> {
+            final int newCount = (count == null ? 0 : count) + delta;
+            return newCount > 0 ? newCount : null;
+        });
+    }
 
-                        if (cellInv != null && cellInv.getInternal() instanceof ICellCacheRegistry iccr
-                                && iccr.canGetInv()) {
-                            ItemStack stack = td.getStackInSlot(index);
-                            this.updateCellsStatusFromRegistry(iccr, stack);
-                        }
+    private void removeCellStats(final ICellProvider provider) {
+        this.dirtyCellStats.remove(provider);
+        final CellStats[] old = this.cellStats.remove(provider);
+        if (old != null) {
+            for (final CellStats stats : old) {
+                this.applyCellStats(stats, -1);
+            }
+        }
+    }
 
+    private static CellStats[] readCellStats(final ICellProvider icp) {
+        final List<CellStats> stats = new ArrayList<>();
+        try {
+            if (icp instanceof TileDrive td) {
+                for (int index = 0; index < td.getCellCount(); index++) {
+                    MEInventoryHandler<IAEItemStack> cellInv = td.getCellInvBySlot(index);
+
+                    if (cellInv != null && cellInv.getInternal() instanceof ICellCacheRegistry iccr
+                            && iccr.canGetInv()) {
+                        ItemStack stack = td.getStackInSlot(index);
+                        stats.add(new CellStats(iccr, stack));
                     }
 
-                } else if (icp instanceof TileChest tc) {
+                }
 
-                    // Check if chest is empty
-                    ItemStack stack = tc.getStackInSlot(1);
-                    if (stack == null) continue;
+            } else if (icp instanceof TileChest tc) {
 
+                // Check if chest is empty
+                ItemStack stack = tc.getStackInSlot(1);
+                if (stack != null) {
                     IMEInventoryHandler handler = tc.getInternalHandler(StorageChannel.ITEMS);
                     if (handler == null) {
                         handler = tc.getInternalHandler(StorageChannel.FLUIDS);
                     }
 
                     if (handler instanceof ICellCacheRegistry iccr && iccr.canGetInv()) {
-                        this.updateCellsStatusFromRegistry(iccr, stack);
+                        stats.add(new CellStats(iccr, stack));
                     }
                 }
             }
         } catch (Exception e) {
             // XD Normally won't be here, just normally..
         }
+        return stats.toArray(new CellStats[0]);
     }
 
-    private void putItemStackIntoMap(final ItemStackMap<Integer> map, final ItemStack stack, final int cellStatus) {
-        ItemStack newStack = new ItemStack(stack.getItem(), 1, stack.getItemDamage());
-        if (map.computeIfPresent(newStack, (currentStack, stackCount) -> stackCount + 1) == null) {
-            map.put(newStack, 1);
+    private void updateBytesInfo() {
+        if (this.dirtyCellStats.isEmpty()) {
+            return;
         }
-    }
-
-    private void resetCellInfo() {
-        this.itemBytesTotal = 0;
-        this.itemBytesUsed = 0;
-        this.itemTypesTotal = 0;
-        this.itemTypesUsed = 0;
-        this.itemCellG = 0;
-        this.itemCellB = 0;
-        this.itemCellO = 0;
-        this.itemCellR = 0;
-        this.itemCellCount = 0;
-        this.fluidBytesTotal = 0;
-        this.fluidBytesUsed = 0;
-        this.fluidTypesTotal = 0;
-        this.fluidTypesUsed = 0;
-        this.fluidCellG = 0;
-        this.fluidCellB = 0;
-        this.fluidCellO = 0;
-        this.fluidCellR = 0;
-        this.fluidCellCount = 0;
-        this.essentiaBytesTotal = 0;
-        this.essentiaBytesUsed = 0;
-        this.essentiaTypesTotal = 0;
-        this.essentiaTypesUsed = 0;
-        this.essentiaCellG = 0;
-        this.essentiaCellB = 0;
-        this.essentiaCellO = 0;
-        this.essentiaCellR = 0;
-        this.essentiaCellCount = 0;
-
-        this.itemCells.clear();
-        this.fluidCells.clear();
-        this.essentiaCells.clear();
+        for (final ICellProvider icp : this.dirtyCellStats.toArray(new ICellProvider[0])) {
+            this.removeCellStats(icp);
+            final CellStats[] stats = readCellStats(icp);
+            if (stats.length > 0) {
+                this.cellStats.put(icp, stats);
+                for (final CellStats cell : stats) {
+                    this.applyCellStats(cell, 1);
+                }
+            }
+        }
+        this.dirtyCellStats.clear();
     }
 
     public ItemStackMap<Integer> getItemCells() {
@@ -58,6 +58,7 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
     private boolean sendEvent = false;
     private boolean hasChanged = false;
+    private long changeVersion = 0;
 
     @Nonnegative
     private int localDepthSemaphore = 0;
@@ -184,6 +185,13 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
         return this.myGridCache.getGrid();
     }
 
+    /**
+     * @return A counter that changes whenever changes to the monitored storage are announced to listeners
+     */
+    public long getChangeVersion() {
+        return this.changeVersion;
+    }
+
     private Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> getListeners() {
         return this.listeners.entrySet().iterator();
     }
@@ -207,6 +215,7 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
     private void notifyListenersOfChange(final Iterable<T> diff, final BaseActionSource src) {
         this.hasChanged = true;
+        this.changeVersion++;
         final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
 
         while (i.hasNext()) {
@@ -282,6 +291,7 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
 
     void forceUpdate() {
         this.hasChanged = true;
+        this.changeVersion++;
 
         final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
         while (i.hasNext()) {
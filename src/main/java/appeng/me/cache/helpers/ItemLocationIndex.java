@@ -0,0 +1,183 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import appeng.api.AEApi;
+import appeng.api.storage.ICellProvider;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.StorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.api.util.ItemSearchDTO;
+import appeng.parts.misc.PartStorageBus;
+import appeng.tile.storage.TileChest;
+import appeng.tile.storage.TileDrive;
+import appeng.util.IterationCounter;
+
+/**
+ * Which drive slots, chests and storage buses of a grid hold each stored item. Storage that reports a change is only
+ * marked dirty and re-read on the next lookup, so a lookup costs a map access plus re-reading whatever changed since
+ * the previous one. Only the item types are kept, the amounts are asked from the storage holding them on lookup.
+ * <p>
+ * Storage buses connected to a subnet are left out, the subnet's own grid indexes its storage.
+ */
+public class ItemLocationIndex {
+
+    private static final Holder[] NO_HOLDERS = new Holder[0];
+    private static final IAEItemStack[] NO_TYPES = new IAEItemStack[0];
+
+    private final IdentityHashMap<ICellProvider, Holder[]> holders = new IdentityHashMap<>();
+    private final HashMap<IAEItemStack, List<Holder>> holdersByItem = new HashMap<>();
+    private final Set<ICellProvider> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * A drive slot, chest or storage bus together with the item types it held when it was last read
+     */
+    private static final class Holder {
+
+        final ICellProvider provider;
+        final int slot;
+        final IAEItemStack[] types;
+
+        Holder(final ICellProvider provider, final int slot, final IAEItemStack[] types) {
+            this.provider = provider;
+            this.slot = slot;
+            this.types = types;
+        }
+    }
+
+    public void markDirty(final ICellProvider provider) {
+        this.dirty.add(provider);
+    }
+
+    public void remove(final ICellProvider provider) {
+        this.dirty.remove(provider);
+        final Holder[] old = this.holders.remove(provider);
+        if (old != null) {
+            for (final Holder holder : old) {
+                for (final IAEItemStack stack : holder.types) {
+                    final List<Holder> list = this.holdersByItem.get(stack);
+                    if (list != null && list.remove(holder) && list.isEmpty()) {
+                        this.holdersByItem.remove(stack);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Every location on this grid that holds the item, with the amount it holds
+     */
+    public List<ItemSearchDTO> find(final IAEItemStack item) {
+        this.refresh();
+        final List<Holder> found = this.holdersByItem.get(item);
+        if (found == null) {
+            return Collections.emptyList();
+        }
+        final List<ItemSearchDTO> result = new ArrayList<>(found.size());
+        for (final Holder holder : found) {
+            final IMEInventoryHandler<IAEItemStack> handler = handler(holder.provider, holder.slot);
+            final IAEItemStack stored = handler == null ? null
+                    : handler.getAvailableItem(item, IterationCounter.fetchNewId());
+            if (stored != null && stored.getStackSize() > 0) {
+                result.add(describe(holder, stored));
+            }
+        }
+        return result;
+    }
+
+    private void refresh() {
+        if (this.dirty.isEmpty()) {
+            return;
+        }
+        for (final ICellProvider provider : this.dirty.toArray(new ICellProvider[0])) {
+            this.remove(provider);
+            final Holder[] read = read(provider);
+            if (read.length > 0) {
+                this.holders.put(provider, read);
+                for (final Holder holder : read) {
+                    for (final IAEItemStack stack : holder.types) {
+                        this.holdersByItem.computeIfAbsent(stack, k -> new ArrayList<>(1)).add(holder);
+                    }
+                }
+            }
+        }
+        this.dirty.clear();
+    }
+
+    private static Holder[] read(final ICellProvider provider) {
+        final List<Holder> read = new ArrayList<>();
+        if (provider instanceof TileDrive drive) {
+            for (int slot = 0; slot < drive.getCellCount(); slot++) {
+                addHolder(read, provider, slot);
+            }
+        } else {
+            addHolder(read, provider, -1);
+        }
+        return read.isEmpty() ? NO_HOLDERS : read.toArray(NO_HOLDERS);
+    }
+
+    private static void addHolder(final List<Holder> read, final ICellProvider provider, final int slot) {
+        final IMEInventoryHandler<IAEItemStack> handler = handler(provider, slot);
+        if (handler == null) {
+            return;
+        }
+        final IItemList<IAEItemStack> contents = handler
+                .getAvailableItems(AEApi.instance().storage().createItemList(), IterationCounter.fetchNewId());
+        if (!contents.isEmpty()) {
+            read.add(new Holder(provider, slot, contents.toArray(NO_TYPES)));
+        }
+    }
+
+    /**
+     * @return The item storage of a drive slot, chest or storage bus, or null if it has none that is indexed
+     */
+    private static IMEInventoryHandler<IAEItemStack> handler(final ICellProvider provider, final int slot) {
+        if (provider instanceof TileDrive drive) {
+            final IMEInventoryHandler<IAEItemStack> cell = drive.getCellInvBySlot(slot);
+            return cell != null && cell.getChannel() == StorageChannel.ITEMS ? cell : null;
+        } else if (provider instanceof TileChest chest) {
+            try {
+                return chest.getHandler(StorageChannel.ITEMS);
+            } catch (final Exception e) {
+                // no cell, or not an item cell
+                return null;
+            }
+        } else if (provider instanceof PartStorageBus bus && bus.getConnectedGrid() == null) {
+            return bus.getInternalHandler();
+        }
+        return null;
+    }
+
+    private static ItemSearchDTO describe(final Holder holder, final IAEItemStack stored) {
+        if (holder.provider instanceof TileDrive drive) {
+            return new ItemSearchDTO(
+                    drive.getLocation(),
+                    stored,
+                    drive.getCustomName(),
+                    holder.slot,
+                    drive.getForward(),
+                    drive.getUp());
+        }
+        if (holder.provider instanceof TileChest chest) {
+            return new ItemSearchDTO(chest.getLocation(), stored, chest.getCustomName());
+        }
+        final PartStorageBus bus = (PartStorageBus) holder.provider;
+        return new ItemSearchDTO(bus.getLocation(), stored, bus.getCustomName());
+    }
+}
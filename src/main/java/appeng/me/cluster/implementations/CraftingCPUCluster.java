@@ -129,6 +129,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private final Comparator<ICraftingPatternDetails> priorityComparator = Comparator
             .comparing(ICraftingPatternDetails::getPriority).thenComparing(ICraftingPatternDetails::hashCode);
     private final Map<ICraftingPatternDetails, TaskProgress> tasks = new TreeMap<>(priorityComparator);
+    private final PendingOutputIndex pendingOutputs = new PendingOutputIndex(priorityComparator);
     private Map<ICraftingPatternDetails, TaskProgress> workableTasks = new TreeMap<>(priorityComparator);
     private HashSet<ICraftingMedium> knownBusyMediums = new HashSet<>();
     // INSTANCE sate
@@ -137,6 +138,11 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private final LinkedList<TileCraftingMonitorTile> status = new LinkedList<>();
     private final HashMap<IMEMonitorHandlerReceiver<IAEItemStack>, Object> listeners = new HashMap<>();
     private final HashMap<IAEItemStack, List<DimensionalCoord>> providers = new HashMap<>();
+    /**
+     * The job as it was last saved, only written again after the job changed
+     */
+    private byte[] savedJobState;
+    private boolean jobStateChanged = true;
     private ICraftingLink myLastLink;
     private String myName = "";
     private boolean isDestroyed = false;
@@ -470,6 +476,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     private void postChange(final IAEItemStack diff, final BaseActionSource src) {
+        this.jobStateChanged = true;
         final Iterator<Entry<IMEMonitorHandlerReceiver<IAEItemStack>, Object>> i = this.getListeners();
 
         // protect integrity
@@ -490,10 +497,12 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     private void markDirty() {
+        this.jobStateChanged = true;
         this.getCore().markDirty();
     }
 
     private void postCraftingStatusChange(final IAEItemStack diff) {
+        this.jobStateChanged = true;
         if (this.getGrid() == null) {
             return;
         }
@@ -649,6 +658,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         this.isComplete = true;
         this.myLastLink = null;
         this.tasks.clear();
+        this.pendingOutputs.clear();
         this.providers.clear();
         final ImmutableSet<IAEItemStack> items = ImmutableSet.copyOf(this.waitingFor);
 
@@ -748,7 +758,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
             if (craftingEntry.getValue().value <= 0) {
                 final ICraftingPatternDetails ceKey = craftingEntry.getKey();
-                this.tasks.remove(ceKey);
+                this.removeTask(ceKey);
                 parallelismProvider.remove(ceKey);
                 reasonProvider.remove(ceKey);
                 craftingTaskIterator.remove();
@@ -916,6 +926,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
                         executedTasks += 1;
                         craftingEntry.getValue().value--;
+                        this.pendingOutputs.addCrafts(details, -1);
                         if (craftingEntry.getValue().value <= 0) {
                             // This craftingEntry is done.
                             break doWhileCraftingLoop;
@@ -1088,6 +1099,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             } else {
                 this.waitingForMissing.resetStatus();
                 this.tasks.clear();
+                this.pendingOutputs.clear();
                 this.providers.clear();
                 this.inventory.getItemList().resetStatus();
             }
@@ -1096,6 +1108,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
             this.waitingForMissing.resetStatus();
             this.tasks.clear();
+            this.pendingOutputs.clear();
             this.providers.clear();
             this.inventory.getItemList().resetStatus();
         }
@@ -1170,12 +1183,14 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 waitingForMissing = backupWaitingForMissing;
                 tasks.clear();
                 tasks.putAll(tasksBackup);
+                this.rebuildPendingOutputs();
             }
         } catch (final CraftBranchFailure e) {
             inventory = backupInventory;
             waitingForMissing = backupWaitingForMissing;
             tasks.clear();
             tasks.putAll(tasksBackup);
+            this.rebuildPendingOutputs();
             handleCraftBranchFailure(e, src);
         }
 
@@ -1183,12 +1198,31 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     private boolean hasRemainingTasks() {
-        this.tasks.entrySet().removeIf(
-                iCraftingPatternDetailsTaskProgressEntry -> iCraftingPatternDetailsTaskProgressEntry.getValue().value
-                        <= 0);
+        final Iterator<Entry<ICraftingPatternDetails, TaskProgress>> i = this.tasks.entrySet().iterator();
+        while (i.hasNext()) {
+            final Entry<ICraftingPatternDetails, TaskProgress> task = i.next();
+            if (task.getValue().value <= 0) {
+                this.pendingOutputs.removeTask(task.getKey(), task.getValue().value);
+                i.remove();
+            }
+        }
         return !this.tasks.isEmpty();
     }
 
+    private void removeTask(final ICraftingPatternDetails details) {
+        final TaskProgress progress = this.tasks.remove(details);
+        if (progress != null) {
+            this.pendingOutputs.removeTask(details, progress.value);
+        }
+    }
+
+    private void rebuildPendingOutputs() {
+        this.pendingOutputs.clear();
+        for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
+            this.pendingOutputs.addCrafts(t.getKey(), t.getValue().value);
+        }
+    }
+
     @Override
     public boolean isBusy() {
         return this.hasRemainingTasks() || !this.waitingFor.isEmpty();
@@ -1271,38 +1305,26 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     list.add(ais);
                 }
             }
-            case PENDING -> {
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-                    for (IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                        ais = ais.copy();
-                        ais.setStackSize(ais.getStackSize() * t.getValue().value);
-                        list.add(ais);
-                    }
-                }
-            }
+            case PENDING -> this.pendingOutputs.addTo(list);
             case STORAGE -> this.inventory.getAvailableItems(list, IterationCounter.fetchNewId());
             default -> {
                 this.inventory.getAvailableItems(list, IterationCounter.fetchNewId());
                 for (final IAEItemStack ais : this.waitingFor) {
                     list.add(ais);
                 }
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-                    for (IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                        ais = ais.copy();
-                        ais.setStackSize(ais.getStackSize() * t.getValue().value);
-                        list.add(ais);
-                    }
-                }
+                this.pendingOutputs.addTo(list);
             }
         }
     }
 
     public void addStorage(final IAEItemStack extractItems) {
+        this.jobStateChanged = true;
         extractItems.setCraftable(false);
         this.inventory.injectItems(extractItems, Actionable.MODULATE, null);
     }
 
     public void addEmitable(final IAEItemStack i) {
+        this.jobStateChanged = true;
         this.waitingForMissing.add(i);
     }
 
@@ -1314,6 +1336,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
 
         i.value += crafts;
+        this.pendingOutputs.addCrafts(details, crafts);
+        this.jobStateChanged = true;
     }
 
     public IAEItemStack getItemStack(final IAEItemStack what, final CraftingItemList storage2) {
@@ -1322,27 +1346,12 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             case STORAGE -> is = this.inventory.getItemList().findPrecise(what);
             case ACTIVE -> is = this.waitingFor.findPrecise(what);
             case PENDING -> {
-                CraftingGridCache cache = null;
-                if (this.getGrid() != null) {
-                    cache = this.getGrid().getCache(ICraftingGrid.class);
-                }
-                is = what.copy();
-                is.setStackSize(0);
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-                    for (final IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                        if (Objects.equals(ais, is)) {
-                            is.setStackSize(is.getStackSize() + ais.getStackSize() * t.getValue().value);
-                            if (cache != null) {
-                                List<ICraftingMedium> craftingProviders = cache.getMediums(t.getKey());
-                                List<DimensionalCoord> dimensionalCoords = new ArrayList<>();
-                                for (ICraftingMedium craftingProvider : craftingProviders) {
-                                    final TileEntity tile = this.getTile(craftingProvider);
-                                    if (tile != null) dimensionalCoords.add(new DimensionalCoord(tile));
-                                }
-                                this.providers.put(is, dimensionalCoords);
-                            }
-                        }
-                    }
+                final PendingOutputIndex.PendingOutput pending = this.pendingOutputs.get(what);
+                if (pending == null) {
+                    is = null;
+                } else {
+                    is = pending.stack;
+                    this.updatePendingProviders(pending);
                 }
             }
             default -> throw new IllegalStateException("Invalid Operation");
@@ -1357,6 +1366,32 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         return is;
     }
 
+    /**
+     * Points the providers of a pending output at the machines that can craft it, only recomputed when the tasks
+     * producing it or the patterns of the grid changed.
+     */
+    private void updatePendingProviders(final PendingOutputIndex.PendingOutput pending) {
+        final IGrid grid = this.getGrid();
+        if (grid == null) {
+            return;
+        }
+        final CraftingGridCache cache = grid.getCache(ICraftingGrid.class);
+        if (pending.providersVersion == cache.getPatternVersion() && pending.providers != null) {
+            return;
+        }
+        final List<DimensionalCoord> dimensionalCoords = new ArrayList<>();
+        for (final ICraftingPatternDetails details : pending.tasks) {
+            for (final ICraftingMedium craftingProvider : cache.getMediums(details)) {
+                final TileEntity tile = this.getTile(craftingProvider);
+                if (tile != null) dimensionalCoords.add(new DimensionalCoord(tile));
+            }
+        }
+        pending.providers = dimensionalCoords;
+        pending.providersVersion = cache.getPatternVersion();
+        this.providers.put(pending.stack.copy(), new ArrayList<>(dimensionalCoords));
+        this.jobStateChanged = true;
+    }
+
     private NBTTagCompound persistListeners(int from, List<?> listeners) throws IOException {
         NBTTagCompound tagListeners = new NBTTagCompound();
         for (int i = from; i < listeners.size(); i++) {
@@ -1370,7 +1405,6 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
     public void writeToNBT(final NBTTagCompound data) {
         data.setTag("finalOutput", this.writeItem(this.finalOutput));
-        data.setTag("inventory", this.writeList(this.inventory.getItemList()));
         data.setBoolean("waiting", this.waiting);
         data.setBoolean("isComplete", this.isComplete);
         data.setLong("usedStorage", this.usedStorage);
@@ -1417,29 +1451,35 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             data.setTag("link", link);
         }
 
-        NBTTagList list = new NBTTagList();
-        for (final Entry<ICraftingPatternDetails, TaskProgress> e : this.tasks.entrySet()) {
-            final NBTTagCompound item = this.writeItem(AEItemStack.create(e.getKey().getPattern()));
-            item.setLong("craftingProgress", e.getValue().value);
-            list.appendTag(item);
+        final byte[] jobState = this.getSavedJobState();
+        if (jobState != null) {
+            data.setByteArray("jobState", jobState);
         }
-        data.setTag("tasks", list);
-
-        data.setTag("waitingFor", this.writeList(this.waitingFor));
-        data.setTag("waitingForMissing", this.writeList(this.waitingForMissing));
 
         data.setLong("elapsedTime", this.getElapsedTime());
         data.setLong("startItemCount", this.getStartItemCount());
         data.setLong("remainingItemCount", this.getRemainingItemCount());
+    }
 
-        list = new NBTTagList();
-        for (final Entry<IAEItemStack, List<DimensionalCoord>> e : this.providers.entrySet()) {
-            NBTTagCompound tmp = new NBTTagCompound();
-            tmp.setTag("item", this.writeItem(e.getKey()));
-            DimensionalCoord.writeListToNBT(tmp, e.getValue());
-            list.appendTag(tmp);
+    private byte[] getSavedJobState() {
+        if (this.jobStateChanged || this.savedJobState == null) {
+            final CraftingJobState state = new CraftingJobState(
+                    this.inventory.getItemList(),
+                    this.waitingFor,
+                    this.waitingForMissing,
+                    this.providers);
+            for (final Entry<ICraftingPatternDetails, TaskProgress> e : this.tasks.entrySet()) {
+                state.addTask(AEItemStack.create(e.getKey().getPattern()), e.getValue().value);
+            }
+            try {
+                this.savedJobState = state.write();
+                this.jobStateChanged = false;
+            } catch (final IOException e) {
+                AELog.error(e, "Could not save crafting job");
+                return null;
+            }
         }
-        data.setTag("providers", list);
+        return this.savedJobState;
     }
 
     private NBTTagCompound writeItem(final IAEItemStack finalOutput2) {
@@ -1452,16 +1492,6 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         return out;
     }
 
-    private NBTTagList writeList(final IItemList<IAEItemStack> myList) {
-        final NBTTagList out = new NBTTagList();
-
-        for (final IAEItemStack ais : myList) {
-            out.appendTag(this.writeItem(ais));
-        }
-
-        return out;
-    }
-
     void done() {
         final TileCraftingTile core = this.getCore();
 
@@ -1491,7 +1521,21 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
     public void readFromNBT(final NBTTagCompound data) {
         this.finalOutput = AEItemStack.loadItemStackFromNBT((NBTTagCompound) data.getTag("finalOutput"));
-        for (final IAEItemStack ais : this.readList((NBTTagList) data.getTag("inventory"))) {
+
+        CraftingJobState jobState = null;
+        if (data.hasKey("jobState")) {
+            try {
+                jobState = CraftingJobState.read(data.getByteArray("jobState"));
+            } catch (final IOException e) {
+                AELog.error(e, "Could not load crafting job");
+            }
+        }
+        if (jobState == null) {
+            // saved before the compact format, or unreadable
+            jobState = this.readLegacyJobState(data);
+        }
+
+        for (final IAEItemStack ais : jobState.getInventory()) {
             if (ais.isCraftable() && ais.getStackSize() == 0) // remove bugged items from CPU Clusters, they are
                                                               // spamming injectItems every tick
                 continue;
@@ -1510,25 +1554,24 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             this.submitLink(this.myLastLink);
         }
 
-        NBTTagList list = data.getTagList("tasks", 10);
-        for (int x = 0; x < list.tagCount(); x++) {
-            final NBTTagCompound item = list.getCompoundTagAt(x);
-            final IAEItemStack pattern = AEItemStack.loadItemStackFromNBT(item);
-            if (pattern != null && pattern.getItem() instanceof ICraftingPatternItem cpi) {
+        for (final Entry<IAEItemStack, Long> task : jobState.getTasks().entrySet()) {
+            final IAEItemStack pattern = task.getKey();
+            if (pattern.getItem() instanceof ICraftingPatternItem cpi) {
                 final ICraftingPatternDetails details = cpi.getPatternForItem(pattern.getItemStack(), this.getWorld());
                 if (details != null) {
                     final TaskProgress tp = new TaskProgress();
-                    tp.value = item.getLong("craftingProgress");
+                    tp.value = task.getValue();
                     this.tasks.put(details, tp);
                 }
             }
         }
+        this.rebuildPendingOutputs();
 
-        this.waitingFor = this.readList((NBTTagList) data.getTag("waitingFor"));
+        this.waitingFor = jobState.getWaitingFor();
         for (final IAEItemStack is : this.waitingFor) {
             this.postCraftingStatusChange(is.copy());
         }
-        this.waitingForMissing = this.readList((NBTTagList) data.getTag("waitingForMissing"));
+        this.waitingForMissing = jobState.getWaitingForMissing();
 
         this.lastTime = System.nanoTime();
         this.elapsedTime = data.getLong("elapsedTime");
@@ -1545,13 +1588,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             }
         }
 
-        list = data.getTagList("providers", 10);
-        for (int x = 0; x < list.tagCount(); x++) {
-            final NBTTagCompound pro = list.getCompoundTagAt(x);
-            this.providers.put(
-                    AEItemStack.loadItemStackFromNBT(pro.getCompoundTag("item")),
-                    DimensionalCoord.readAsListFromNBT(pro));
-        }
+        this.providers.putAll(jobState.getProviders());
+        this.jobStateChanged = true;
+
         try {
             unpersistListeners(1, craftCompleteListeners, data.getCompoundTag("craftCompleteListeners"));
             unpersistListeners(0, craftCancelListeners, data.getCompoundTag("onCancelListeners"));
@@ -1580,6 +1619,33 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
     }
 
+    private CraftingJobState readLegacyJobState(final NBTTagCompound data) {
+        final CraftingJobState state = new CraftingJobState(
+                this.readList((NBTTagList) data.getTag("inventory")),
+                this.readList((NBTTagList) data.getTag("waitingFor")),
+                this.readList((NBTTagList) data.getTag("waitingForMissing")),
+                new HashMap<>());
+
+        final NBTTagList tasksTag = data.getTagList("tasks", 10);
+        for (int x = 0; x < tasksTag.tagCount(); x++) {
+            final NBTTagCompound item = tasksTag.getCompoundTagAt(x);
+            final IAEItemStack pattern = AEItemStack.loadItemStackFromNBT(item);
+            if (pattern != null) {
+                state.addTask(pattern, item.getLong("craftingProgress"));
+            }
+        }
+
+        final NBTTagList providersTag = data.getTagList("providers", 10);
+        for (int x = 0; x < providersTag.tagCount(); x++) {
+            final NBTTagCompound pro = providersTag.getCompoundTagAt(x);
+            final IAEItemStack item = AEItemStack.loadItemStackFromNBT(pro.getCompoundTag("item"));
+            if (item != null) {
+                state.getProviders().put(item, DimensionalCoord.readAsListFromNBT(pro));
+            }
+        }
+        return state;
+    }
+
     public void updateName() {
         this.myName = "";
         for (final TileCraftingTile te : this.tiles) {
@@ -1701,14 +1767,11 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     }
 
     public ScheduledReason getScheduledReason(IAEItemStack is) {
-        for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-            for (final IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                if (Objects.equals(ais, is)) {
-                    return reasonProvider.getOrDefault(t.getKey(), ScheduledReason.UNDEFINED);
-                }
-            }
+        final PendingOutputIndex.PendingOutput pending = this.pendingOutputs.get(is);
+        if (pending == null) {
+            return ScheduledReason.UNDEFINED;
         }
-        return ScheduledReason.UNDEFINED;
+        return reasonProvider.getOrDefault(pending.tasks.first(), ScheduledReason.UNDEFINED);
     }
 
     private TileEntity getTile(ICraftingMedium craftingProvider) {
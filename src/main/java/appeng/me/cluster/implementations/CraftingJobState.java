@@ -0,0 +1,293 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cluster.implementations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+
+import appeng.api.AEApi;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.api.util.DimensionalCoord;
+import appeng.util.item.AEItemStack;
+
+/**
+ * The items of a crafting job in a compact binary form, saved by {@link CraftingCPUCluster} as a single byte array.
+ * <p>
+ * Every distinct item is written once to a dictionary: item id, damage and NBT. The tasks, the CPU inventory, the
+ * items being waited for and the providers then only refer to dictionary entries, with counts and coordinates written
+ * as variable length numbers. Besides the counts, list entries keep whether they are craftable, the requestable
+ * amount, the requests made during planning and the used percentage, like the NBT of an {@link AEItemStack}.
+ */
+public final class CraftingJobState {
+
+    // version 1 had no requests made or used percentage, its entries never set those flags
+    private static final int FORMAT_VERSION = 2;
+    private static final int OLDEST_FORMAT_VERSION = 1;
+
+    private static final int FLAG_CRAFTABLE = 1;
+    private static final int FLAG_REQUESTABLE = 2;
+    private static final int FLAG_REQUESTS_MADE = 4;
+    private static final int FLAG_USED_PERCENT = 8;
+
+    /**
+     * Crafting patterns with the number of crafts left, in task order
+     */
+    private final Map<IAEItemStack, Long> tasks = new LinkedHashMap<>();
+    private final IItemList<IAEItemStack> inventory;
+    private final IItemList<IAEItemStack> waitingFor;
+    private final IItemList<IAEItemStack> waitingForMissing;
+    private final Map<IAEItemStack, List<DimensionalCoord>> providers;
+
+    public CraftingJobState() {
+        this(
+                AEApi.instance().storage().createItemList(),
+                AEApi.instance().storage().createItemList(),
+                AEApi.instance().storage().createItemList(),
+                new HashMap<>());
+    }
+
+    /**
+     * A state that reads and fills the given lists directly, without copying them
+     */
+    public CraftingJobState(final IItemList<IAEItemStack> inventory, final IItemList<IAEItemStack> waitingFor,
+            final IItemList<IAEItemStack> waitingForMissing,
+            final Map<IAEItemStack, List<DimensionalCoord>> providers) {
+        this.inventory = inventory;
+        this.waitingFor = waitingFor;
+        this.waitingForMissing = waitingForMissing;
+        this.providers = providers;
+    }
+
+    public void addTask(final IAEItemStack pattern, final long crafts) {
+        this.tasks.put(pattern, crafts);
+    }
+
+    public Map<IAEItemStack, Long> getTasks() {
+        return Collections.unmodifiableMap(this.tasks);
+    }
+
+    public IItemList<IAEItemStack> getInventory() {
+        return this.inventory;
+    }
+
+    public IItemList<IAEItemStack> getWaitingFor() {
+        return this.waitingFor;
+    }
+
+    public IItemList<IAEItemStack> getWaitingForMissing() {
+        return this.waitingForMissing;
+    }
+
+    public Map<IAEItemStack, List<DimensionalCoord>> getProviders() {
+        return this.providers;
+    }
+
+    public byte[] write() throws IOException {
+        final Map<IAEItemStack, Integer> dictionary = new LinkedHashMap<>();
+        final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        writeVarLong(body, this.tasks.size());
+        for (final Map.Entry<IAEItemStack, Long> task : this.tasks.entrySet()) {
+            writeVarLong(body, lookup(dictionary, task.getKey()));
+            writeVarLong(body, task.getValue());
+        }
+        writeList(body, dictionary, this.inventory);
+        writeList(body, dictionary, this.waitingFor);
+        writeList(body, dictionary, this.waitingForMissing);
+
+        writeVarLong(body, this.providers.size());
+        for (final Map.Entry<IAEItemStack, List<DimensionalCoord>> provider : this.providers.entrySet()) {
+            writeVarLong(body, lookup(dictionary, provider.getKey()));
+            writeVarLong(body, provider.getValue().size());
+            for (final DimensionalCoord coord : provider.getValue()) {
+                writeVarLong(body, zigZag(coord.getDimension()));
+                writeVarLong(body, zigZag(coord.x));
+                writeVarLong(body, zigZag(coord.y));
+                writeVarLong(body, zigZag(coord.z));
+            }
+        }
+        body.flush();
+
+        final ByteArrayOutputStream outBytes = new ByteArrayOutputStream(bodyBytes.size() + dictionary.size() * 8 + 8);
+        final DataOutputStream out = new DataOutputStream(outBytes);
+        writeVarLong(out, FORMAT_VERSION);
+        writeVarLong(out, dictionary.size());
+        for (final IAEItemStack entry : dictionary.keySet()) {
+            writeVarLong(out, Item.getIdFromItem(entry.getItem()));
+            writeVarLong(out, entry.getItemDamage());
+            final NBTTagCompound tag = entry.hasTagCompound() ? (NBTTagCompound) entry.getTagCompound() : null;
+            out.writeBoolean(tag != null);
+            if (tag != null) {
+                CompressedStreamTools.write(tag, out);
+            }
+        }
+        bodyBytes.writeTo(out);
+        out.flush();
+        return outBytes.toByteArray();
+    }
+
+    public static CraftingJobState read(final byte[] data) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        final int version = (int) readVarLong(in);
+        if (version < OLDEST_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IOException("Unknown crafting job format " + version);
+        }
+
+        // entries of items that no longer exist stay null and are skipped
+        final IAEItemStack[] dictionary = new IAEItemStack[(int) readVarLong(in)];
+        for (int x = 0; x < dictionary.length; x++) {
+            final Item item = Item.getItemById((int) readVarLong(in));
+            final int damage = (int) readVarLong(in);
+            final NBTTagCompound tag = in.readBoolean() ? CompressedStreamTools.read(in) : null;
+            if (item != null) {
+                final ItemStack is = new ItemStack(item, 1, damage);
+                is.setTagCompound(tag);
+                dictionary[x] = AEItemStack.create(is);
+            }
+        }
+
+        final CraftingJobState state = new CraftingJobState();
+        for (long x = readVarLong(in); x > 0; x--) {
+            final IAEItemStack pattern = dictionary[(int) readVarLong(in)];
+            final long crafts = readVarLong(in);
+            if (pattern != null) {
+                state.addTask(pattern, crafts);
+            }
+        }
+        readList(in, dictionary, state.inventory);
+        readList(in, dictionary, state.waitingFor);
+        readList(in, dictionary, state.waitingForMissing);
+
+        for (long x = readVarLong(in); x > 0; x--) {
+            final IAEItemStack item = dictionary[(int) readVarLong(in)];
+            final int count = (int) readVarLong(in);
+            final List<DimensionalCoord> coords = new ArrayList<>(count);
+            for (int c = 0; c < count; c++) {
+                final int dim = unZigZag(readVarLong(in));
+                final int cx = unZigZag(readVarLong(in));
+                final int cy = unZigZag(readVarLong(in));
+                final int cz = unZigZag(readVarLong(in));
+                coords.add(new DimensionalCoord(cx, cy, cz, dim));
+            }
+            if (item != null) {
+                state.providers.put(item, coords);
+            }
+        }
+        return state;
+    }
+
+    private static int lookup(final Map<IAEItemStack, Integer> dictionary, final IAEItemStack stack) {
+        Integer index = dictionary.get(stack);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.put(stack, index);
+        }
+        return index;
+    }
+
+    private static void writeList(final DataOutput out, final Map<IAEItemStack, Integer> dictionary,
+            final IItemList<IAEItemStack> list) throws IOException {
+        int size = 0;
+        for (final IAEItemStack ignored : list) {
+            size++;
+        }
+        writeVarLong(out, size);
+        for (final IAEItemStack stack : list) {
+            writeVarLong(out, lookup(dictionary, stack));
+            writeVarLong(out, stack.getStackSize());
+            final int flags = (stack.isCraftable() ? FLAG_CRAFTABLE : 0)
+                    | (stack.getCountRequestable() != 0 ? FLAG_REQUESTABLE : 0)
+                    | (stack.getCountRequestableCrafts() != 0 ? FLAG_REQUESTS_MADE : 0)
+                    | (stack.getUsedPercent() != 0 ? FLAG_USED_PERCENT : 0);
+            out.writeByte(flags);
+            if ((flags & FLAG_REQUESTABLE) != 0) {
+                writeVarLong(out, stack.getCountRequestable());
+            }
+            if ((flags & FLAG_REQUESTS_MADE) != 0) {
+                writeVarLong(out, stack.getCountRequestableCrafts());
+            }
+            if ((flags & FLAG_USED_PERCENT) != 0) {
+                out.writeFloat(stack.getUsedPercent());
+            }
+        }
+    }
+
+    private static void readList(final DataInput in, final IAEItemStack[] dictionary,
+            final IItemList<IAEItemStack> list) throws IOException {
+        for (long x = readVarLong(in); x > 0; x--) {
+            final IAEItemStack item = dictionary[(int) readVarLong(in)];
+            final long size = readVarLong(in);
+            final int flags = in.readByte();
+            final long requestable = (flags & FLAG_REQUESTABLE) != 0 ? readVarLong(in) : 0;
+            final long requestsMade = (flags & FLAG_REQUESTS_MADE) != 0 ? readVarLong(in) : 0;
+            final float usedPercent = (flags & FLAG_USED_PERCENT) != 0 ? in.readFloat() : 0;
+            if (item != null) {
+                final IAEItemStack stack = item.copy();
+                stack.setStackSize(size);
+                stack.setCraftable((flags & FLAG_CRAFTABLE) != 0);
+                stack.setCountRequestable(requestable);
+                stack.setCountRequestableCrafts(requestsMade);
+                stack.setUsedPercent(usedPercent);
+                list.add(stack);
+            }
+        }
+    }
+
+    private static long zigZag(final int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static int unZigZag(final long value) {
+        final int v = (int) value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Writes seven bits per byte, small counts take a single byte.
+     */
+    private static void writeVarLong(final DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+}
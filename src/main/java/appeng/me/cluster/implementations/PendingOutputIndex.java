@@ -0,0 +1,117 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cluster.implementations;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.api.util.DimensionalCoord;
+
+/**
+ * What the scheduled tasks of a {@link CraftingCPUCluster} are still going to produce, per output item, kept up to date
+ * as tasks are added, progress and finish. Lets the crafting status GUI look up the pending amount of an item without
+ * going through every task.
+ */
+final class PendingOutputIndex {
+
+    private final Comparator<ICraftingPatternDetails> taskOrder;
+    private final Map<IAEItemStack, PendingOutput> outputs = new HashMap<>();
+
+    PendingOutputIndex(final Comparator<ICraftingPatternDetails> taskOrder) {
+        this.taskOrder = taskOrder;
+    }
+
+    /**
+     * Everything that is still pending for one output
+     */
+    static final class PendingOutput {
+
+        /**
+         * The output, its stack size is the pending amount
+         */
+        final IAEItemStack stack;
+        /**
+         * The tasks producing the output, in the order the cluster works on them
+         */
+        final SortedSet<ICraftingPatternDetails> tasks;
+        /**
+         * Coordinates of the machines that can craft the output, computed by the cluster, and the pattern version of
+         * the crafting grid they were computed for
+         */
+        List<DimensionalCoord> providers;
+        int providersVersion = -1;
+
+        PendingOutput(final IAEItemStack output, final Comparator<ICraftingPatternDetails> taskOrder) {
+            this.stack = output.copy();
+            this.stack.setStackSize(0);
+            this.tasks = new TreeSet<>(taskOrder);
+        }
+    }
+
+    /**
+     * Adds (or with a negative amount, takes away) crafts of a task.
+     */
+    void addCrafts(final ICraftingPatternDetails details, final long crafts) {
+        for (final IAEItemStack output : details.getCondensedOutputs()) {
+            PendingOutput pending = this.outputs.get(output);
+            if (pending == null) {
+                pending = new PendingOutput(output, this.taskOrder);
+                this.outputs.put(pending.stack, pending);
+            }
+            if (pending.tasks.add(details)) {
+                pending.providersVersion = -1;
+            }
+            pending.stack.incStackSize(output.getStackSize() * crafts);
+        }
+    }
+
+    /**
+     * Removes a task that still had the given number of crafts left.
+     */
+    void removeTask(final ICraftingPatternDetails details, final long remainingCrafts) {
+        for (final IAEItemStack output : details.getCondensedOutputs()) {
+            final PendingOutput pending = this.outputs.get(output);
+            if (pending == null) {
+                continue;
+            }
+            pending.stack.decStackSize(output.getStackSize() * remainingCrafts);
+            pending.tasks.remove(details);
+            pending.providersVersion = -1;
+            if (pending.tasks.isEmpty()) {
+                this.outputs.remove(output);
+            }
+        }
+    }
+
+    void clear() {
+        this.outputs.clear();
+    }
+
+    /**
+     * @return What is pending for the item, or null if no task produces it
+     */
+    PendingOutput get(final IAEItemStack what) {
+        return this.outputs.get(what);
+    }
+
+    void addTo(final IItemList<IAEItemStack> list) {
+        for (final PendingOutput pending : this.outputs.values()) {
+            list.add(pending.stack.copy());
+        }
+    }
+}
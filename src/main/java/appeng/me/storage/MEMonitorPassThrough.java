@@ -12,6 +12,7 @@ package appeng.me.storage;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 
 import appeng.api.config.StorageFilter;
@@ -24,7 +25,6 @@ import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.util.IterationCounter;
-import appeng.util.Platform;
 import appeng.util.inv.ItemListIgnoreCrafting;
 import appeng.util.item.ItemFilterList;
 
@@ -50,26 +50,24 @@ public class MEMonitorPassThrough<T extends IAEStack<T>> extends MEPassThrough<T
         }
 
         this.monitor = null;
-        final IItemList<T> before = this.getInternal() == null ? this.getWrappedChannel().createList()
-                : this.getInternal().getAvailableItems(
-                        new ItemListIgnoreCrafting(this.getWrappedChannel().createList()),
-                        IterationCounter.fetchNewId());
+        final IMEInventory<T> previous = this.getInternal();
 
         super.setInternal(i);
         if (i instanceof IMEMonitor) {
             this.monitor = (IMEMonitor<T>) i;
         }
 
-        final IItemList<T> after = this.getInternal() == null ? this.getWrappedChannel().createList()
-                : this.getInternal().getAvailableItems(
-                        new ItemListIgnoreCrafting(this.getWrappedChannel().createList()),
-                        IterationCounter.fetchNewId());
-
         if (this.monitor != null) {
             this.monitor.addListener(this, this.monitor);
         }
 
-        Platform.postListChanges(before, after, this, this.getChangeSource());
+        // reconnecting to the same storage changes nothing for our listeners
+        if (previous != i) {
+            final List<T> changes = SharedMonitorViews.changesBetween(previous, i, this.getWrappedChannel());
+            if (!changes.isEmpty()) {
+                this.postChange(null, changes, this.getChangeSource());
+            }
+        }
     }
 
     @Override
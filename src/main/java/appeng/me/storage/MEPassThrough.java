@@ -21,6 +21,7 @@ import appeng.api.storage.IMEInventoryHandler;
 import appeng.api.storage.StorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.me.Grid;
 import appeng.me.cache.NetworkMonitor;
 
 public class MEPassThrough<T extends IAEStack<T>> implements IMEInventoryHandler<T> {
@@ -50,7 +51,12 @@ public class MEPassThrough<T extends IAEStack<T>> implements IMEInventoryHandler
     }
 
     public void setInternal(final IMEInventory<T> i) {
+        final IGrid previousGrid = this.getGrid();
         this.internal = i;
+        if (previousGrid != this.getGrid()) {
+            // storage buses attached to this now lead into a different grid
+            Grid.topologyChanged();
+        }
     }
 
     @Override
@@ -0,0 +1,135 @@
+package appeng.me.storage;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.server.MinecraftServer;
+
+import appeng.api.storage.IMEInventory;
+import appeng.api.storage.StorageChannel;
+import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
+import appeng.me.cache.NetworkMonitor;
+import appeng.util.IterationCounter;
+import appeng.util.inv.ItemListIgnoreCrafting;
+
+/**
+ * Contents of grid storage as seen by {@link MEMonitorPassThrough}, shared between every pass-through that switches
+ * between the same grids. When a subnet reboots, all of its interfaces move from the old grid's monitor to the new one
+ * in the same tick; the snapshots of both grids and the list of differences between them are only computed once for
+ * all of them.
+ * <p>
+ * A snapshot is reused while the monitor's change version is the same. All views are dropped at the end of every
+ * server tick, so changes that are not announced to listeners can't make one stale for longer than a tick, and no copy
+ * of a grid's contents is kept alive between ticks.
+ */
+public final class SharedMonitorViews {
+
+    private static final Map<NetworkMonitor<?>, View<?>> VIEWS = new IdentityHashMap<>();
+
+    private SharedMonitorViews() {}
+
+    /**
+     * Drops the views of the current tick, called by the tick handler at the end of every server tick.
+     */
+    public static void clear() {
+        VIEWS.clear();
+    }
+
+    private static final class View<T extends IAEStack<T>> {
+
+        long version;
+        IItemList<T> snapshot;
+
+        // the last difference computed with this view as the new side, and the snapshots it was computed from
+        IItemList<T> diffBefore;
+        IItemList<T> diffAfter;
+        List<T> diff;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends IAEStack<T>> View<T> getView(final IMEInventory<T> inventory,
+            final StorageChannel channel) {
+        if (!(inventory instanceof NetworkMonitor)) {
+            return null;
+        }
+        if (MinecraftServer.getServer() == null) {
+            return null;
+        }
+        final NetworkMonitor<T> monitor = (NetworkMonitor<T>) inventory;
+        final View<T> view = (View<T>) VIEWS.computeIfAbsent(monitor, m -> new View<>());
+        final long version = monitor.getChangeVersion();
+        if (view.snapshot == null || view.version != version) {
+            view.version = version;
+            view.snapshot = snapshot(inventory, channel);
+        }
+        return view;
+    }
+
+    private static <T extends IAEStack<T>> IItemList<T> snapshot(final IMEInventory<T> inventory,
+            final StorageChannel channel) {
+        final IItemList<T> out = (IItemList<T>) channel.createList();
+        if (inventory != null) {
+            inventory.getAvailableItems(new ItemListIgnoreCrafting<>(out), IterationCounter.fetchNewId());
+        }
+        return out;
+    }
+
+    /**
+     * @return Fresh stacks describing how the contents of {@code after} differ from {@code before}, empty if they
+     *         are the same
+     */
+    static <T extends IAEStack<T>> List<T> changesBetween(final IMEInventory<T> before, final IMEInventory<T> after,
+            final StorageChannel channel) {
+        final View<T> beforeView = getView(before, channel);
+        final IItemList<T> beforeList = beforeView == null ? snapshot(before, channel) : beforeView.snapshot;
+        final View<T> afterView = getView(after, channel);
+        final IItemList<T> afterList = afterView == null ? snapshot(after, channel) : afterView.snapshot;
+
+        if (beforeView == null || afterView == null) {
+            return diff(beforeList, afterList);
+        }
+
+        if (afterView.diff == null || afterView.diffBefore != beforeList || afterView.diffAfter != afterList) {
+            afterView.diffBefore = beforeList;
+            afterView.diffAfter = afterList;
+            afterView.diff = diff(beforeList, afterList);
+        }
+
+        final List<T> changes = new ArrayList<>(afterView.diff.size());
+        for (final T change : afterView.diff) {
+            changes.add(change.copy());
+        }
+        return changes;
+    }
+
+    private static <T extends IAEStack<T>> List<T> diff(final IItemList<T> before, final IItemList<T> after) {
+        final List<T> changes = new ArrayList<>();
+        for (final T is : after) {
+            if (is.getStackSize() == 0) {
+                continue;
+            }
+            final T old = before.findPrecise(is);
+            final long delta = is.getStackSize() - (old == null ? 0 : old.getStackSize());
+            if (delta != 0) {
+                final T change = is.copy();
+                change.setStackSize(delta);
+                changes.add(change);
+            }
+        }
+        for (final T is : before) {
+            if (is.getStackSize() == 0) {
+                continue;
+            }
+            final T current = after.findPrecise(is);
+            if (current == null || current.getStackSize() == 0) {
+                final T change = is.copy();
+                change.setStackSize(-is.getStackSize());
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+}
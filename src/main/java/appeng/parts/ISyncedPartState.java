@@ -0,0 +1,32 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.parts;
+
+/**
+ * A part whose power, channel and similar indicator state can be sent to clients on its own, without a full description
+ * of its cable bus. Changes are collected by {@link appeng.hooks.PartStateSync}.
+ */
+public interface ISyncedPartState {
+
+    /**
+     * Server side.
+     *
+     * @return The current state, packed into a non-negative int
+     */
+    int getSyncedState();
+
+    /**
+     * Client side, applies a state created by {@link #getSyncedState()}.
+     *
+     * @return true if the part has to be rendered again
+     */
+    boolean applySyncedState(int state);
+}
@@ -25,12 +25,13 @@ import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
 import appeng.api.parts.IPartRenderHelper;
 import appeng.client.texture.CableBusTextures;
+import appeng.hooks.PartStateSync;
 import appeng.me.GridAccessException;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import io.netty.buffer.ByteBuf;
 
-public abstract class PartBasicState extends AEBasePart implements IPowerChannelState {
+public abstract class PartBasicState extends AEBasePart implements IPowerChannelState, ISyncedPartState {
 
     protected static final int POWERED_FLAG = 1;
     protected static final int CHANNEL_FLAG = 2;
@@ -45,12 +46,12 @@ public abstract class PartBasicState extends AEBasePart implements IPowerChannel
 
     @MENetworkEventSubscribe
     public void chanRender(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @SideOnly(Side.CLIENT)
@@ -86,27 +87,32 @@ public abstract class PartBasicState extends AEBasePart implements IPowerChannel
     public void writeToStream(final ByteBuf data) throws IOException {
         super.writeToStream(data);
 
-        this.setClientFlags(0);
+        this.setClientFlags(this.computeClientFlags());
+        data.writeByte((byte) this.getClientFlags());
+    }
+
+    private int computeClientFlags() {
+        int flags = 0;
 
         try {
             if (this.getProxy().getEnergy().isNetworkPowered()) {
-                this.setClientFlags(this.getClientFlags() | POWERED_FLAG);
+                flags |= POWERED_FLAG;
             }
 
             if (this.getProxy().getNode().meetsChannelRequirements()) {
-                this.setClientFlags(this.getClientFlags() | CHANNEL_FLAG);
+                flags |= CHANNEL_FLAG;
             }
 
             if (this.getProxy().getPath().isNetworkBooting()) {
-                this.setClientFlags(this.getClientFlags() | BOOTING_FLAG);
+                flags |= BOOTING_FLAG;
             }
 
-            this.setClientFlags(this.populateFlags(this.getClientFlags()));
+            flags = this.populateFlags(flags);
         } catch (final GridAccessException e) {
             // meh
         }
 
-        data.writeByte((byte) this.getClientFlags());
+        return flags;
     }
 
     protected int populateFlags(final int cf) {
@@ -123,6 +129,21 @@ public abstract class PartBasicState extends AEBasePart implements IPowerChannel
         return eh || old != this.getClientFlags();
     }
 
+    @Override
+    public int getSyncedState() {
+        this.setClientFlags(this.computeClientFlags());
+        return this.getClientFlags() & 0xFF;
+    }
+
+    @Override
+    public boolean applySyncedState(final int state) {
+        final int old = this.getClientFlags();
+        this.setClientFlags((byte) state);
+
+        // the booting flag is only shown in tooltips
+        return ((old ^ this.getClientFlags()) & ~BOOTING_FLAG) != 0;
+    }
+
     @Override
     @SideOnly(Side.CLIENT)
     public IIcon getBreakingTexture() {
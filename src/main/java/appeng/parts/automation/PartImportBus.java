@@ -10,9 +10,13 @@
 
 package appeng.parts.automation;
 
+import java.util.List;
+
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.Vec3;
 
 import appeng.api.AEApi;
@@ -34,6 +38,7 @@ import appeng.api.parts.IPartRenderHelper;
 import appeng.api.storage.IMEInventory;
 import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
 import appeng.client.texture.CableBusTextures;
 import appeng.core.settings.TickRates;
 import appeng.core.sync.GuiBridge;
@@ -52,9 +57,13 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
 
     private final BaseActionSource source;
     private IMEInventory<IAEItemStack> destination = null;
-    private IAEItemStack lastItemChecked = null;
     private int itemToSend; // used in tickingRequest
     private boolean worked; // used in tickingRequest
+    /**
+     * Items taken from the adjacent inventory this tick, inserted into the network in one go per item type. What the
+     * network can't take stays here for the next tick.
+     */
+    private IItemList<IAEItemStack> pendingImports = AEApi.instance().storage().createItemList();
 
     @Reflected
     public PartImportBus(final ItemStack is) {
@@ -72,7 +81,7 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
         }
 
         final IAEItemStack out = this.destination.injectItems(
-                this.lastItemChecked = AEApi.instance().storage().createItemStack(stack),
+                AEApi.instance().storage().createItemStack(stack),
                 Actionable.SIMULATE,
                 this.source);
         if (out == null) {
@@ -81,6 +90,46 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
         return out.getStackSize() != stack.stackSize;
     }
 
+    @Override
+    public void readFromNBT(final NBTTagCompound extra) {
+        super.readFromNBT(extra);
+        this.pendingImports = AEApi.instance().storage().createItemList();
+        final NBTTagList pending = extra.getTagList("pendingImports", 10);
+        for (int x = 0; x < pending.tagCount(); x++) {
+            this.pendingImports.add(AEItemStack.loadItemStackFromNBT(pending.getCompoundTagAt(x)));
+        }
+    }
+
+    @Override
+    public void writeToNBT(final NBTTagCompound extra) {
+        super.writeToNBT(extra);
+        final NBTTagList pending = new NBTTagList();
+        for (final IAEItemStack stack : this.pendingImports) {
+            if (stack.getStackSize() > 0) {
+                final NBTTagCompound data = new NBTTagCompound();
+                stack.writeToNBT(data);
+                pending.appendTag(data);
+            }
+        }
+        if (pending.tagCount() > 0) {
+            extra.setTag("pendingImports", pending);
+        }
+    }
+
+    @Override
+    public void getDrops(final List<ItemStack> drops, final boolean wrenched) {
+        super.getDrops(drops, wrenched);
+        for (final IAEItemStack stack : this.pendingImports) {
+            while (stack.getStackSize() > 0) {
+                final ItemStack drop = stack.getItemStack();
+                drop.stackSize = (int) Math.min(stack.getStackSize(), drop.getMaxStackSize());
+                stack.decStackSize(drop.stackSize);
+                drops.add(drop);
+            }
+        }
+        this.pendingImports.resetStatus();
+    }
+
     @Override
     public void getBoxes(final IPartCollisionHelper bch) {
         bch.addBox(6, 6, 11, 10, 10, 13);
@@ -199,6 +248,13 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
                 final IMEMonitor<IAEItemStack> inv = this.getProxy().getStorage().getItemInventory();
                 final IEnergyGrid energy = this.getProxy().getEnergy();
 
+                // leftovers of earlier ticks go first, nothing new is taken until they fit
+                this.destination = inv;
+                this.insertPendingImports(energy);
+                if (this.hasPendingImports(null)) {
+                    this.itemToSend = 0;
+                }
+
                 boolean configured = false;
                 if (this.getInstalledUpgrades(Upgrades.ORE_FILTER) == 0) {
                     for (int x = 0; x < this.availableSlots(); x++) {
@@ -233,6 +289,8 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
                         }
                     }
                 }
+
+                this.insertPendingImports(energy);
             } catch (final GridAccessException e) {
                 // :3
             }
@@ -245,7 +303,7 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
 
     private boolean importStuff(final InventoryAdaptor myAdaptor, final IAEItemStack whatToImport,
             final IMEMonitor<IAEItemStack> inv, final IEnergySource energy, final FuzzyMode fzMode) {
-        final int toSend = this.calculateMaximumAmountToImport(myAdaptor, whatToImport, inv, fzMode);
+        final int toSend = this.calculateMaximumAmountToImport(myAdaptor, whatToImport, inv, energy, fzMode);
         final ItemStack newItems;
 
         if (this.getInstalledUpgrades(Upgrades.FUZZY) > 0) {
@@ -267,21 +325,10 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
                     energy.extractAEPower(newItems.stackSize, Actionable.SIMULATE, PowerMultiplier.CONFIG)) + 0.01);
             this.itemToSend -= newItems.stackSize;
 
-            if (this.lastItemChecked == null || !this.lastItemChecked.isSameType(newItems)) {
-                this.lastItemChecked = AEApi.instance().storage().createItemStack(newItems);
-            } else {
-                this.lastItemChecked.setStackSize(newItems.stackSize);
-            }
-
-            final IAEItemStack failed = Platform
-                    .poweredInsert(energy, this.destination, this.lastItemChecked, this.source);
-
-            if (failed != null) {
-                myAdaptor.addItems(failed.getItemStack());
+            if (newItems.stackSize <= 0) {
                 return true;
-            } else {
-                this.worked = true;
             }
+            this.pendingImports.add(AEItemStack.create(newItems));
         } else {
             return true;
         }
@@ -289,8 +336,31 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
         return false;
     }
 
+    /**
+     * Inserts everything gathered so far into the network with one powered insert per item type. What did not fit is
+     * kept for the next tick, the slot it came from may not accept it back.
+     */
+    private void insertPendingImports(final IEnergySource energy) {
+        final IItemList<IAEItemStack> failedImports = AEApi.instance().storage().createItemList();
+        for (final IAEItemStack stack : this.pendingImports) {
+            final long pending = stack.getStackSize();
+            if (pending <= 0) {
+                continue;
+            }
+
+            final IAEItemStack failed = Platform.poweredInsert(energy, this.destination, stack.copy(), this.source);
+
+            if (failed == null || failed.getStackSize() < pending) {
+                this.worked = true;
+            }
+
+            failedImports.add(failed);
+        }
+        this.pendingImports = failedImports;
+    }
+
     private int calculateMaximumAmountToImport(final InventoryAdaptor myAdaptor, final IAEItemStack whatToImport,
-            final IMEMonitor<IAEItemStack> inv, final FuzzyMode fzMode) {
+            final IMEMonitor<IAEItemStack> inv, final IEnergySource energy, final FuzzyMode fzMode) {
         final int toSend = Math.min(this.itemToSend, 64);
         final ItemStack itemStackToImport;
 
@@ -307,16 +377,44 @@ public class PartImportBus extends PartSharedItemBus implements IInventoryDestin
         } else {
             simResult = myAdaptor.simulateRemove(toSend, itemStackToImport, this.configDestination(inv));
         }
-        itemAmountNotStorable = this.destination
-                .injectItems(AEItemStack.create(simResult), Actionable.SIMULATE, this.source);
+        // a simulation can only account for one type, other types waiting to be inserted would take the same bytes and
+        // type slots without being seen, so they go in first
+        final IAEItemStack simStack = AEItemStack.create(simResult);
+        if (simStack != null) {
+            if (this.hasPendingImports(simStack)) {
+                this.insertPendingImports(energy);
+                if (this.hasPendingImports(null)) {
+                    this.itemToSend = 0;
+                    return 0;
+                }
+            }
+
+            final IAEItemStack pending = this.pendingImports.findPrecise(simStack);
+            if (pending != null) {
+                simStack.incStackSize(pending.getStackSize());
+            }
+        }
+        itemAmountNotStorable = this.destination.injectItems(simStack, Actionable.SIMULATE, this.source);
 
         if (itemAmountNotStorable != null) {
-            return (int) Math.min(simResult.stackSize - itemAmountNotStorable.getStackSize(), toSend);
+            return (int) Math.max(0, Math.min(simResult.stackSize - itemAmountNotStorable.getStackSize(), toSend));
         }
 
         return toSend;
     }
 
+    /**
+     * @param except a type to ignore, or null
+     */
+    private boolean hasPendingImports(final IAEItemStack except) {
+        for (final IAEItemStack stack : this.pendingImports) {
+            if (stack.getStackSize() > 0 && (except == null || !stack.isSameType(except))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private IInventoryDestination configDestination(final IMEMonitor<IAEItemStack> itemInventory) {
         this.destination = itemInventory;
         return this;
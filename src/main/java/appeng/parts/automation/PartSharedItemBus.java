@@ -99,7 +99,7 @@ public abstract class PartSharedItemBus extends PartUpgradeable implements IGrid
         }
 
         this.adaptorHash = newAdaptorHash;
-        this.adaptor = InventoryAdaptor.getAdaptor(target, this.getSide().getOpposite());
+        this.adaptor = InventoryAdaptor.getAdaptor(target, this.getSide().getOpposite(), true);
 
         return this.adaptor;
     }
@@ -71,7 +71,9 @@ import appeng.helpers.IOreFilterable;
 import appeng.helpers.IPriorityHost;
 import appeng.helpers.Reflected;
 import appeng.integration.IntegrationType;
+import appeng.me.Grid;
 import appeng.me.GridAccessException;
+import appeng.me.cache.GridStorageCache;
 import appeng.me.storage.MEInventoryHandler;
 import appeng.me.storage.MEMonitorIInventory;
 import appeng.me.storage.MEMonitorPassThrough;
@@ -106,6 +108,10 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
     private MEMonitorIInventory monitor = null;
     private MEInventoryHandler<IAEItemStack> handler = null;
     private int handlerHash = 0;
+    /**
+     * Interface storage this bus is attached to, which leads into another grid when it is a subnet
+     */
+    private MEPassThrough<?> subnetTarget = null;
     private boolean wasActive = false;
     private byte resetCacheLogic = 0;
     private String oreFilterString = "";
@@ -329,6 +335,9 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
     public void postChange(final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> change,
             final BaseActionSource source) {
         try {
+            if (this.getProxy().getStorage() instanceof GridStorageCache gsc) {
+                gsc.storedContentsChanged(this);
+            }
             if (this.getProxy().isActive()) {
                 if (!this.readOncePass) {
                     AccessRestriction currentAccess = (AccessRestriction) this.getConfigManager()
@@ -542,6 +551,24 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
         return null;
     }
 
+    /**
+     * @return Interface storage this bus currently accesses, or null if it is not attached to an interface
+     */
+    public MEPassThrough<?> getSubnetTarget() {
+        return this.subnetTarget;
+    }
+
+    private void setSubnetTarget(final MEPassThrough<?> target) {
+        if (this.subnetTarget != target) {
+            this.subnetTarget = target;
+            try {
+                ((Grid) this.getProxy().getGrid()).updateSubnetLink(this);
+            } catch (final GridAccessException e) {
+                // the link is registered when the bus joins a grid
+            }
+        }
+    }
+
     // Looks for interfaces for subnet
     private IMEInventory getConnectedInventory() {
         final TileEntity self = this.getHost().getTile();
@@ -584,6 +611,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
         this.handler = null;
         this.monitor = null;
         this.readOncePass = true;
+        MEPassThrough<?> newSubnetTarget = null;
         if (target != null) {
             final IExternalStorageHandler esh = AEApi.instance().registries().externalStorage()
                     .getHandler(target, this.getSide().getOpposite(), StorageChannel.ITEMS, this.mySrc);
@@ -591,6 +619,9 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
                 final IMEInventory inv = esh
                         .getInventory(target, this.getSide().getOpposite(), StorageChannel.ITEMS, this.mySrc);
 
+                if (inv instanceof MEPassThrough<?>passThrough) {
+                    newSubnetTarget = passThrough;
+                }
                 if (inv instanceof MEMonitorIInventory h) {
                     h.setMode((StorageFilter) this.getConfigManager().getSetting(Settings.STORAGE_FILTER));
                     h.setActionSource(new MachineSource(this));
@@ -652,6 +683,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
                 }
             }
         }
+        this.setSubnetTarget(newSubnetTarget);
 
         // update sleep state...
         if (wasSleeping != (this.monitor == null)) {
@@ -49,12 +49,13 @@ import appeng.client.texture.TextureUtils;
 import appeng.items.parts.ItemMultiPart;
 import appeng.me.GridAccessException;
 import appeng.parts.AEBasePart;
+import appeng.parts.ISyncedPartState;
 import appeng.util.Platform;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import io.netty.buffer.ByteBuf;
 
-public class PartCable extends AEBasePart implements IPartCable {
+public class PartCable extends AEBasePart implements IPartCable, ISyncedPartState {
 
     private final int[] channelsOnSide = { 0, 0, 0, 0, 0, 0 };
 
@@ -344,6 +345,16 @@ public class PartCable extends AEBasePart implements IPartCable {
 
     @Override
     public void writeToStream(final ByteBuf data) throws IOException {
+        final int state = this.getSyncedState();
+        data.writeByte((byte) (state & 0x7F));
+        data.writeInt(state >>> 7);
+    }
+
+    /**
+     * @return The connected sides and the powered flag in the low seven bits, above them four bits of channels per side
+     */
+    @Override
+    public int getSyncedState() {
         int cs = 0;
         int sideOut = 0;
 
@@ -391,15 +402,37 @@ public class PartCable extends AEBasePart implements IPartCable {
             // aww...
         }
 
-        data.writeByte((byte) cs);
-        data.writeInt(sideOut);
+        return (sideOut & 0xFFFFFF) << 7 | cs;
     }
 
     @Override
     public boolean readFromStream(final ByteBuf data) throws IOException {
         final int cs = data.readByte();
         final int sideOut = data.readInt();
+        return this.applyCableState(cs, sideOut);
+    }
+
+    @Override
+    public boolean applySyncedState(final int state) {
+        return this.applyCableState(state & 0x7F, state >>> 7);
+    }
+
+    /**
+     * @return What the client currently shows, in the same format as {@link #getSyncedState()}
+     */
+    public int getClientState() {
+        int cs = this.powered ? 1 << ForgeDirection.UNKNOWN.ordinal() : 0;
+        int sideOut = 0;
+        for (final ForgeDirection d : ForgeDirection.VALID_DIRECTIONS) {
+            if (this.getConnections().contains(d)) {
+                cs |= 1 << d.ordinal();
+            }
+            sideOut |= (this.getChannelsOnSide()[d.ordinal()] & 0xF) << (4 * d.ordinal());
+        }
+        return sideOut << 7 | cs;
+    }
 
+    private boolean applyCableState(final int cs, final int sideOut) {
         final EnumSet<ForgeDirection> myC = this.getConnections().clone();
         final boolean wasPowered = this.powered;
         this.powered = false;
@@ -32,6 +32,7 @@ import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
 import appeng.client.texture.OffsetIcon;
 import appeng.helpers.Reflected;
+import appeng.hooks.PartStateSync;
 import appeng.util.Platform;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -45,12 +46,12 @@ public class PartCableCovered extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @Override
@@ -36,6 +36,7 @@ import appeng.client.texture.FlippableIcon;
 import appeng.client.texture.OffsetIcon;
 import appeng.client.texture.TaughtIcon;
 import appeng.helpers.Reflected;
+import appeng.hooks.PartStateSync;
 import appeng.util.Platform;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -49,12 +50,12 @@ public class PartCableSmart extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @Override
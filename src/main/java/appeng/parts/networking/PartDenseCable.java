@@ -41,6 +41,7 @@ import appeng.client.texture.OffsetIcon;
 import appeng.client.texture.TaughtIcon;
 import appeng.client.texture.TextureUtils;
 import appeng.helpers.Reflected;
+import appeng.hooks.PartStateSync;
 import appeng.util.Platform;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -380,11 +381,11 @@ public class PartDenseCable extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 }
@@ -39,6 +39,7 @@ import appeng.client.texture.FlippableIcon;
 import appeng.client.texture.OffsetIcon;
 import appeng.client.texture.TextureUtils;
 import appeng.helpers.Reflected;
+import appeng.hooks.PartStateSync;
 import appeng.util.Platform;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -293,11 +294,11 @@ public class PartDenseCableCovered extends PartCable {
 
     @MENetworkEventSubscribe
     public void channelUpdated(final MENetworkChannelsChanged c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 }
@@ -10,6 +10,7 @@
 
 package appeng.parts.p2p;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -23,6 +24,7 @@ import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 
+import appeng.api.config.InsertionMode;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.events.MENetworkBootingStatusChange;
 import appeng.api.networking.events.MENetworkChannelsChanged;
@@ -36,11 +38,11 @@ import appeng.integration.IntegrationRegistry;
 import appeng.integration.IntegrationType;
 import appeng.integration.abstraction.IBuildCraftTransport;
 import appeng.me.GridAccessException;
-import appeng.me.cache.helpers.TunnelCollection;
-import appeng.tile.inventory.AppEngNullInventory;
 import appeng.transformer.annotations.Integration.Interface;
 import appeng.transformer.annotations.Integration.Method;
+import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
+import appeng.util.inv.AdaptorIInventory;
 import appeng.util.inv.WrapperBCPipe;
 import appeng.util.inv.WrapperChainedInventory;
 import appeng.util.inv.WrapperMCISidedInventory;
@@ -53,11 +55,35 @@ import cpw.mods.fml.relauncher.SideOnly;
 public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
         implements IPipeConnection, ISidedInventory, IGridTickable {
 
+    private static final int THROUGHPUT_SAMPLE_TICKS = 100;
+
     private final LinkedList<IInventory> which = new LinkedList<>();
     private int oldSize = 0;
     private boolean requested;
     private IInventory cachedInv;
 
+    /**
+     * Output side: the wrapped neighbour, kept until the neighbour changes.
+     */
+    private boolean outputCached;
+    private TileEntity cachedOutputTile;
+    private IInventory cachedOutputInv;
+    private InventoryAdaptor cachedOutputAdaptor;
+
+    /**
+     * Input side: the outputs in a stable order, fanned out round-robin.
+     */
+    private List<PartP2PItems> cachedOutputs;
+    private int nextOutput;
+    private boolean distributing;
+
+    /**
+     * Input side: items moved through the tunnel, sampled into items per second.
+     */
+    private long transferred;
+    private int transferTicks;
+    private long throughput;
+
     public PartP2PItems(final ItemStack is) {
         super(is);
     }
@@ -65,12 +91,46 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
     @Override
     public void onNeighborChanged() {
         this.cachedInv = null;
+        this.invalidateOutputCache();
         final PartP2PItems input = this.getInput();
         if (input != null && this.isOutput()) {
             input.onTunnelNetworkChange();
         }
     }
 
+    private void invalidateOutputCache() {
+        this.outputCached = false;
+        this.cachedOutputTile = null;
+        this.cachedOutputInv = null;
+        this.cachedOutputAdaptor = null;
+    }
+
+    private void invalidateDestination() {
+        this.cachedInv = null;
+        this.cachedOutputs = null;
+    }
+
+    private List<PartP2PItems> getOutputList() {
+        if (this.cachedOutputs != null) {
+            return this.cachedOutputs;
+        }
+
+        final List<PartP2PItems> outs = new ArrayList<>();
+        try {
+            for (final PartP2PItems t : this.getOutputs()) {
+                outs.add(t);
+            }
+        } catch (final GridAccessException e) {
+            return outs;
+        }
+
+        if (this.nextOutput >= outs.size()) {
+            this.nextOutput = 0;
+        }
+
+        return this.cachedOutputs = outs;
+    }
+
     private IInventory getDestination() {
         this.requested = true;
 
@@ -78,74 +138,146 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
             return this.cachedInv;
         }
 
-        final List<IInventory> outs = new LinkedList<>();
-        final TunnelCollection<PartP2PItems> itemTunnels;
-
-        try {
-            itemTunnels = this.getOutputs();
-        } catch (final GridAccessException e) {
-            return new AppEngNullInventory();
-        }
+        final List<IInventory> outs = new ArrayList<>();
 
-        for (final PartP2PItems t : itemTunnels) {
+        for (final PartP2PItems t : this.getOutputList()) {
             final IInventory inv = t.getOutputInv();
             if (inv != null) {
-                if (Platform.getRandomInt() % 2 == 0) {
-                    outs.add(inv);
-                } else {
-                    outs.add(0, inv);
-                }
+                outs.add(inv);
             }
         }
 
         return this.cachedInv = new WrapperChainedInventory(outs);
     }
 
-    private IInventory getOutputInv() {
-        IInventory output = null;
+    private void updateOutputCache() {
+        if (this.outputCached && this.cachedOutputTile != null && this.cachedOutputTile.isInvalid()) {
+            this.invalidateOutputCache();
+        }
 
-        if (this.getProxy().isActive()) {
-            final TileEntity te = this.getTile().getWorldObj().getTileEntity(
-                    this.getTile().xCoord + this.getSide().offsetX,
-                    this.getTile().yCoord + this.getSide().offsetY,
-                    this.getTile().zCoord + this.getSide().offsetZ);
+        if (this.outputCached) {
+            return;
+        }
 
-            if (this.which.contains(this)) {
-                return null;
-            }
+        final TileEntity te = this.getTile().getWorldObj().getTileEntity(
+                this.getTile().xCoord + this.getSide().offsetX,
+                this.getTile().yCoord + this.getSide().offsetY,
+                this.getTile().zCoord + this.getSide().offsetZ);
 
-            this.which.add(this);
+        IInventory output = null;
+        InventoryAdaptor adaptor = null;
+
+        if (IntegrationRegistry.INSTANCE.isEnabled(IntegrationType.BuildCraftTransport)) {
+            final IBuildCraftTransport buildcraft = (IBuildCraftTransport) IntegrationRegistry.INSTANCE
+                    .getInstance(IntegrationType.BuildCraftTransport);
+            if (buildcraft.isPipe(te, this.getSide().getOpposite())) {
+                try {
+                    output = new WrapperBCPipe(te, this.getSide().getOpposite());
+                    adaptor = new AdaptorIInventory(output);
+                } catch (final Throwable ignore) {}
+            }
+        }
 
-            if (IntegrationRegistry.INSTANCE.isEnabled(IntegrationType.BuildCraftTransport)) {
-                final IBuildCraftTransport buildcraft = (IBuildCraftTransport) IntegrationRegistry.INSTANCE
-                        .getInstance(IntegrationType.BuildCraftTransport);
-                if (buildcraft.isPipe(te, this.getSide().getOpposite())) {
-                    try {
-                        output = new WrapperBCPipe(te, this.getSide().getOpposite());
-                    } catch (final Throwable ignore) {}
-                }
+        /*
+         * if ( AppEng.INSTANCE.isIntegrationEnabled( "TE" ) ) { ITE thermal = (ITE) AppEng.INSTANCE.getIntegration(
+         * "TE" ); if ( thermal != null ) { if ( thermal.isPipe( te, side.getOpposite() ) ) { try { output = new
+         * WrapperTEPipe( te, side.getOpposite() ); } catch (Throwable ignore) { } } } }
+         */
+
+        if (output == null) {
+            if (te instanceof TileEntityChest) {
+                output = Platform.GetChestInv(te);
+            } else if (te instanceof ISidedInventory) {
+                output = new WrapperMCISidedInventory((ISidedInventory) te, this.getSide().getOpposite());
+            } else if (te instanceof IInventory) {
+                output = (IInventory) te;
             }
 
-            /*
-             * if ( AppEng.INSTANCE.isIntegrationEnabled( "TE" ) ) { ITE thermal = (ITE) AppEng.INSTANCE.getIntegration(
-             * "TE" ); if ( thermal != null ) { if ( thermal.isPipe( te, side.getOpposite() ) ) { try { output = new
-             * WrapperTEPipe( te, side.getOpposite() ); } catch (Throwable ignore) { } } } }
-             */
-
-            if (output == null) {
-                if (te instanceof TileEntityChest) {
-                    output = Platform.GetChestInv(te);
-                } else if (te instanceof ISidedInventory) {
-                    output = new WrapperMCISidedInventory((ISidedInventory) te, this.getSide().getOpposite());
-                } else if (te instanceof IInventory) {
-                    output = (IInventory) te;
+            adaptor = InventoryAdaptor.getAdaptor(te, this.getSide().getOpposite());
+        }
+
+        this.cachedOutputTile = te;
+        this.cachedOutputInv = output;
+        this.cachedOutputAdaptor = adaptor;
+        this.outputCached = true;
+    }
+
+    private IInventory getOutputInv() {
+        if (!this.getProxy().isActive() || this.which.contains(this)) {
+            return null;
+        }
+
+        this.which.add(this);
+        this.updateOutputCache();
+        this.which.pop();
+
+        return this.cachedOutputInv;
+    }
+
+    private InventoryAdaptor getOutputAdaptor() {
+        if (!this.getProxy().isActive()) {
+            return null;
+        }
+
+        this.updateOutputCache();
+        return this.cachedOutputAdaptor;
+    }
+
+    /**
+     * Fans a stack out over the outputs of this tunnel. Each call starts at the output after the one the previous call
+     * started at, and only moves on to the next output when the current one is full.
+     *
+     * @param toBeAdded     stack to insert
+     * @param insertionMode passed on to the adaptor of each output
+     * @param modulate      false to only simulate
+     * @return what could not be inserted, or null
+     */
+    public ItemStack addItems(final ItemStack toBeAdded, final InsertionMode insertionMode, final boolean modulate) {
+        if (toBeAdded == null || toBeAdded.stackSize <= 0) {
+            return null;
+        }
+
+        // an output facing back into this tunnel would otherwise loop forever
+        if (this.distributing || this.isOutput()) {
+            return toBeAdded;
+        }
+
+        final List<PartP2PItems> outputs = this.getOutputList();
+        final int size = outputs.size();
+        if (size == 0) {
+            return toBeAdded;
+        }
+
+        this.requested = true;
+        this.distributing = true;
+
+        final int amount = toBeAdded.stackSize;
+        ItemStack left = toBeAdded;
+        try {
+            final int start = this.nextOutput % size;
+            for (int x = 0; x < size && left != null; x++) {
+                final InventoryAdaptor ad = outputs.get((start + x) % size).getOutputAdaptor();
+                if (ad != null) {
+                    left = modulate ? ad.addItems(left, insertionMode) : ad.simulateAdd(left, insertionMode);
                 }
             }
+        } finally {
+            this.distributing = false;
+        }
 
-            this.which.pop();
+        if (modulate) {
+            this.nextOutput = (this.nextOutput + 1) % size;
+            this.transferred += amount - (left == null ? 0 : left.stackSize);
         }
 
-        return output;
+        return left;
+    }
+
+    /**
+     * @return items per second moved through this tunnel during the last sample window
+     */
+    public long getThroughput() {
+        return this.throughput;
     }
 
     @Override
@@ -161,14 +293,22 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
             ((WrapperChainedInventory) this.cachedInv).cycleOrder();
         }
 
+        this.transferTicks += ticksSinceLastCall;
+        if (this.transferTicks >= THROUGHPUT_SAMPLE_TICKS) {
+            this.throughput = this.transferred * 20 / this.transferTicks;
+            this.transferred = 0;
+            this.transferTicks = 0;
+        }
+
         this.requested = false;
         return wasReq ? TickRateModulation.FASTER : TickRateModulation.SLOWER;
     }
 
     @MENetworkEventSubscribe
     public void changeStateA(final MENetworkBootingStatusChange bs) {
+        this.invalidateOutputCache();
         if (!this.isOutput()) {
-            this.cachedInv = null;
+            this.invalidateDestination();
             final int olderSize = this.oldSize;
             this.oldSize = this.getDestination().getSizeInventory();
             if (olderSize != this.oldSize) {
@@ -179,8 +319,9 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
 
     @MENetworkEventSubscribe
     public void changeStateB(final MENetworkChannelsChanged bs) {
+        this.invalidateOutputCache();
         if (!this.isOutput()) {
-            this.cachedInv = null;
+            this.invalidateDestination();
             final int olderSize = this.oldSize;
             this.oldSize = this.getDestination().getSizeInventory();
             if (olderSize != this.oldSize) {
@@ -191,8 +332,9 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
 
     @MENetworkEventSubscribe
     public void changeStateC(final MENetworkPowerStatusChange bs) {
+        this.invalidateOutputCache();
         if (!this.isOutput()) {
-            this.cachedInv = null;
+            this.invalidateDestination();
             final int olderSize = this.oldSize;
             this.oldSize = this.getDestination().getSizeInventory();
             if (olderSize != this.oldSize) {
@@ -210,7 +352,7 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
     @Override
     public void onTunnelNetworkChange() {
         if (!this.isOutput()) {
-            this.cachedInv = null;
+            this.invalidateDestination();
             final int olderSize = this.oldSize;
             this.oldSize = this.getDestination().getSizeInventory();
             if (olderSize != this.oldSize) {
@@ -255,7 +397,15 @@ public class PartP2PItems extends PartP2PTunnelNormal<PartP2PItems>
 
     @Override
     public void setInventorySlotContents(final int i, final ItemStack itemstack) {
-        this.getDestination().setInventorySlotContents(i, itemstack);
+        final IInventory destination = this.getDestination();
+        if (itemstack != null) {
+            final ItemStack old = destination.getStackInSlot(i);
+            final int before = old != null && Platform.isSameItemPrecise(old, itemstack) ? old.stackSize : 0;
+            if (itemstack.stackSize > before) {
+                this.transferred += itemstack.stackSize - before;
+            }
+        }
+        destination.setInventorySlotContents(i, itemstack);
     }
 
     @Override
@@ -74,10 +74,16 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay
     private IStackWatcher myWatcher;
 
     @SideOnly(Side.CLIENT)
-    private boolean updateList;
+    private Integer dspList;
 
     @SideOnly(Side.CLIENT)
-    private Integer dspList;
+    private IAEItemStack dspItem;
+
+    @SideOnly(Side.CLIENT)
+    private String dspText;
+
+    @SideOnly(Side.CLIENT)
+    private byte dspSpin;
 
     @Reflected
     public AbstractPartMonitor(final ItemStack is) {
@@ -135,8 +141,6 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay
             this.configuredItem = null;
         }
 
-        this.updateList = true;
-
         return needRedraw;
     }
 
@@ -235,8 +239,13 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay
             GL11.glPushMatrix();
             GL11.glTranslated(x + 0.5, y + 0.5, z + 0.5);
 
-            if (this.updateList) {
-                this.updateList = false;
+            // set every frame, the display list only holds the item and its amount
+            final int br = 16 << 20 | 16 << 4;
+            final int var11 = br % 65536;
+            final int var12 = br / 65536;
+            OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, var11 * 0.8F, var12 * 0.8F);
+
+            if (this.isDisplayChanged(ais)) {
                 GL11.glNewList(this.dspList, GL11.GL_COMPILE_AND_EXECUTE);
                 this.tesrRenderScreen(tess, ais);
                 GL11.glEndList();
@@ -248,6 +257,33 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay
         }
     }
 
+    /**
+     * Compares the displayed stack with the one the display list was compiled for, a new amount only requires to
+     * compile it again once its text changes.
+     */
+    @SideOnly(Side.CLIENT)
+    private boolean isDisplayChanged(final IAEItemStack ais) {
+        if (this.dspItem != null && this.dspSpin == this.getSpin() && this.dspItem.isSameType(ais)) {
+            if (this.dspItem.getStackSize() == ais.getStackSize()) {
+                return false;
+            }
+
+            this.dspItem.setStackSize(ais.getStackSize());
+            final String text = NUMBER_CONVERTER.toWideReadableForm(ais.getStackSize());
+            if (text.equals(this.dspText)) {
+                return false;
+            }
+
+            this.dspText = text;
+            return true;
+        }
+
+        this.dspItem = ais.copy();
+        this.dspText = NUMBER_CONVERTER.toWideReadableForm(ais.getStackSize());
+        this.dspSpin = this.getSpin();
+        return true;
+    }
+
     @Override
     public boolean requireDynamicRender() {
         return true;
@@ -296,11 +332,6 @@ public abstract class AbstractPartMonitor extends AbstractPartDisplay
             final ItemStack sis = ais.getItemStack();
             sis.stackSize = 1;
 
-            final int br = 16 << 20 | 16 << 4;
-            final int var11 = br % 65536;
-            final int var12 = br / 65536;
-            OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, var11 * 0.8F, var12 * 0.8F);
-
             GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
 
             GL11.glDisable(GL11.GL_LIGHTING);
@@ -28,8 +28,10 @@ import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
 import appeng.api.parts.IPartCollisionHelper;
 import appeng.client.texture.CableBusTextures;
+import appeng.hooks.PartStateSync;
 import appeng.me.GridAccessException;
 import appeng.parts.AEBasePart;
+import appeng.parts.ISyncedPartState;
 import appeng.util.Platform;
 import io.netty.buffer.ByteBuf;
 
@@ -47,7 +49,8 @@ import io.netty.buffer.ByteBuf;
  * @version rv3
  * @since rv3
  */
-public abstract class AbstractPartReporting extends AEBasePart implements IPartMonitor, IPowerChannelState {
+public abstract class AbstractPartReporting extends AEBasePart
+        implements IPartMonitor, IPowerChannelState, ISyncedPartState {
 
     protected static final int POWERED_FLAG = 4;
     protected static final int CHANNEL_FLAG = 16;
@@ -75,13 +78,13 @@ public abstract class AbstractPartReporting extends AEBasePart implements IPartM
     @MENetworkEventSubscribe
     public final void bootingRender(final MENetworkBootingStatusChange c) {
         if (!this.isLightSource()) {
-            this.getHost().markForUpdate();
+            PartStateSync.INSTANCE.markChanged(this.getHost());
         }
     }
 
     @MENetworkEventSubscribe
     public final void powerRender(final MENetworkPowerStatusChange c) {
-        this.getHost().markForUpdate();
+        PartStateSync.INSTANCE.markChanged(this.getHost());
     }
 
     @Override
@@ -115,25 +118,30 @@ public abstract class AbstractPartReporting extends AEBasePart implements IPartM
     @Override
     public void writeToStream(final ByteBuf data) throws IOException {
         super.writeToStream(data);
-        this.clientFlags = this.getSpin() & 3;
+        this.clientFlags = this.computeClientFlags();
+        data.writeByte((byte) this.getClientFlags());
+    }
+
+    private int computeClientFlags() {
+        int flags = this.getSpin() & 3;
 
         try {
             if (this.getProxy().getEnergy().isNetworkPowered()) {
-                this.clientFlags = this.getClientFlags() | AbstractPartReporting.POWERED_FLAG;
+                flags |= AbstractPartReporting.POWERED_FLAG;
             }
 
             if (this.getProxy().getPath().isNetworkBooting()) {
-                this.clientFlags = this.getClientFlags() | AbstractPartReporting.BOOTING_FLAG;
+                flags |= AbstractPartReporting.BOOTING_FLAG;
             }
 
             if (this.getProxy().getNode().meetsChannelRequirements()) {
-                this.clientFlags = this.getClientFlags() | AbstractPartReporting.CHANNEL_FLAG;
+                flags |= AbstractPartReporting.CHANNEL_FLAG;
             }
         } catch (final GridAccessException e) {
             // um.. nothing.
         }
 
-        data.writeByte((byte) this.getClientFlags());
+        return flags;
     }
 
     @Override
@@ -145,6 +153,20 @@ public abstract class AbstractPartReporting extends AEBasePart implements IPartM
         return this.getClientFlags() != oldFlags;
     }
 
+    @Override
+    public int getSyncedState() {
+        this.clientFlags = this.computeClientFlags();
+        return this.getClientFlags() & 0xFF;
+    }
+
+    @Override
+    public boolean applySyncedState(final int state) {
+        final int oldFlags = this.getClientFlags();
+        this.clientFlags = (byte) state;
+        this.spin = (byte) (this.getClientFlags() & 3);
+        return ((oldFlags ^ this.getClientFlags()) & ~AbstractPartReporting.BOOTING_FLAG) != 0;
+    }
+
     @Override
     public final int getLightLevel() {
         return this.blockLight(this.isPowered() ? (this.isLightSource() ? 15 : 9) : 0);
@@ -29,12 +29,16 @@ public class OreDictionaryHandler {
 
     private boolean enableRebaking = false;
 
+    private volatile int version = 0;
+
     @SubscribeEvent
     public void onOreDictionaryRegister(final OreDictionary.OreRegisterEvent event) {
         if (event.Name == null || event.Ore == null) {
             return;
         }
 
+        this.version++;
+
         if (this.shouldCare(event.Name)) {
             for (final IOreListener v : this.oreListeners) {
                 v.oreRegistered(event.Name, event.Ore);
@@ -46,6 +50,13 @@ public class OreDictionaryHandler {
         }
     }
 
+    /**
+     * @return A counter that changes whenever an ore is registered, for caches derived from the ore dictionary
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
     /**
      * Just limit what items are sent to the final listeners, I got sick of strange items showing up...
      *
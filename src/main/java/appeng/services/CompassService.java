@@ -25,6 +25,8 @@ import javax.annotation.Nonnull;
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.event.world.WorldEvent;
 
 import com.google.common.base.Preconditions;
@@ -39,6 +41,7 @@ import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 public final class CompassService {
 
     private static final int CHUNK_SIZE = 16;
+    private static final int SLICES_PER_CHUNK = 8;
     private static final int CLEANUP_TIMEOUT_IN_SECONDS = 60;
 
     private final Map<World, AutoClosingCompassReader> worldSet = new HashMap<>(10);
@@ -79,19 +82,25 @@ public final class CompassService {
         }
     }
 
-    public void updateArea(final World w, final int chunkX, final int chunkZ) {
-        final int x = chunkX << 4;
-        final int z = chunkZ << 4;
+    /**
+     * Rescans all 32 block high slices of a chunk for sky stone.
+     */
+    public Future<?> updateArea(final World w, final int chunkX, final int chunkZ) {
+        final Chunk c = w.getChunkFromChunkCoords(chunkX, chunkZ);
+        final int slices = this.getSkyStoneSlices(c, 0, SLICES_PER_CHUNK - 1);
 
-        this.updateArea(w, x, CHUNK_SIZE, z);
-        this.updateArea(w, x, CHUNK_SIZE + 32, z);
-        this.updateArea(w, x, CHUNK_SIZE + 64, z);
-        this.updateArea(w, x, CHUNK_SIZE + 96, z);
+        return this.executor.submit(new CMUpdateChunkPost(w, chunkX, chunkZ, slices, true));
+    }
 
-        this.updateArea(w, x, CHUNK_SIZE + 128, z);
-        this.updateArea(w, x, CHUNK_SIZE + 160, z);
-        this.updateArea(w, x, CHUNK_SIZE + 192, z);
-        this.updateArea(w, x, CHUNK_SIZE + 224, z);
+    /**
+     * Updates all slices of a chunk from an already known sky stone mask, without scanning the chunk.
+     *
+     * @param slices bit n is set if the 32 block high slice n contains sky stone
+     * @param exact  true to also clear the slices not in the mask, false to only add the given slices
+     */
+    public Future<?> updateArea(final World w, final int chunkX, final int chunkZ, final int slices,
+            final boolean exact) {
+        return this.executor.submit(new CMUpdateChunkPost(w, chunkX, chunkZ, slices, exact));
     }
 
     public Future<?> updateArea(final World w, final int x, final int y, final int z) {
@@ -99,26 +108,60 @@ public final class CompassService {
         final int cdy = y >> 5;
         final int cz = z >> 4;
 
-        final int low_y = cdy << 5;
-        final int hi_y = low_y + 32;
-
         // lower level...
         final Chunk c = w.getChunkFromBlockCoords(x, z);
+        final boolean hasSkyStone = this.getSkyStoneSlices(c, cdy, cdy) != 0;
+
+        return this.executor.submit(new CMUpdatePost(w, cx, cz, cdy, hasSkyStone));
+    }
+
+    /**
+     * Scans the section arrays of a chunk directly, skipping empty sections.
+     *
+     * @return bit n is set if the 32 block high slice n contains natural sky stone
+     */
+    private int getSkyStoneSlices(final Chunk c, final int minSlice, final int maxSlice) {
+        final ExtendedBlockStorage[] storage = c.getBlockStorageArray();
+        int slices = 0;
 
         for (final Block skyStoneBlock : AEApi.instance().definitions().blocks().skyStone().maybeBlock().asSet()) {
-            for (int i = 0; i < CHUNK_SIZE; i++) {
-                for (int j = 0; j < CHUNK_SIZE; j++) {
-                    for (int k = low_y; k < hi_y; k++) {
-                        final Block blk = c.getBlock(i, k, j);
-                        if (blk == skyStoneBlock && c.getBlockMetadata(i, k, j) == 0) {
-                            return this.executor.submit(new CMUpdatePost(w, cx, cz, cdy, true));
-                        }
-                    }
+            final int id = Block.getIdFromBlock(skyStoneBlock);
+
+            for (int slice = Math.max(0, minSlice); slice <= maxSlice && slice < SLICES_PER_CHUNK; slice++) {
+                final int section = slice << 1;
+                if (this.hasSkyStone(storage[section], id) || this.hasSkyStone(storage[section + 1], id)) {
+                    slices |= 1 << slice;
                 }
             }
         }
 
-        return this.executor.submit(new CMUpdatePost(w, cx, cz, cdy, false));
+        return slices;
+    }
+
+    private boolean hasSkyStone(final ExtendedBlockStorage section, final int id) {
+        if (section == null || section.isEmpty()) {
+            return false;
+        }
+
+        final byte lsb = (byte) (id & 0xFF);
+        final int msb = (id >> 8) & 0xF;
+        final byte[] ids = section.getBlockLSBArray();
+        final NibbleArray msbs = section.getBlockMSBArray();
+        final NibbleArray meta = section.getMetadataArray();
+
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == lsb) {
+                final int x = i & 15;
+                final int y = i >> 8;
+                final int z = (i >> 4) & 15;
+
+                if ((msbs == null ? 0 : msbs.get(x, y, z)) == msb && meta.get(x, y, z) == 0) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
     }
 
     public void kill() {
@@ -182,6 +225,35 @@ public final class CompassService {
         }
     }
 
+    private class CMUpdateChunkPost implements Runnable {
+
+        public final World world;
+
+        public final int chunkX;
+        public final int chunkZ;
+        public final int slices;
+        public final boolean exact;
+
+        public CMUpdateChunkPost(final World w, final int cx, final int cz, final int slices, final boolean exact) {
+            this.world = w;
+            this.chunkX = cx;
+            this.chunkZ = cz;
+            this.slices = slices;
+            this.exact = exact;
+        }
+
+        @Override
+        public void run() {
+            final CompassReader cr = CompassService.this.getReader(this.world);
+            for (int slice = 0; slice < SLICES_PER_CHUNK; slice++) {
+                final boolean value = (this.slices & (1 << slice)) != 0;
+                if (value || this.exact) {
+                    cr.setHasBeacon(this.chunkX, this.chunkZ, slice, value);
+                }
+            }
+        }
+    }
+
     private class CMDirectionRequest implements Runnable {
 
         public final int maxRange;
@@ -207,8 +279,8 @@ public final class CompassService {
                 return;
             }
 
-            // spiral outward...
-            for (int offset = 1; offset < this.maxRange; offset++) {
+            // spiral outward, starting at the first ring the region summaries say has anything in it...
+            for (int offset = cr.getNearestRing(cx, cz, this.maxRange); offset < this.maxRange; offset++) {
                 final int minX = cx - offset;
                 final int minZ = cz - offset;
                 final int maxX = cx + offset;
@@ -11,7 +11,10 @@
 package appeng.services.compass;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -52,6 +55,90 @@ public final class CompassReader {
         return r.hasBeacon(cx, cz);
     }
 
+    /**
+     * Finds the smallest square ring around a chunk that contains another chunk with a beacon. Empty 256x256 and 32x32
+     * chunk areas are skipped using the summary kept by each region, nearer areas are searched first.
+     *
+     * @param maxRange rings at or beyond this distance are not searched
+     * @return distance of the ring in chunks (at least 1), or {@code maxRange} if no ring closer than that has a beacon
+     */
+    public int getNearestRing(final int cx, final int cz, final int maxRange) {
+        final int r = maxRange - 1;
+        return this.searchCells(
+                CompassRegion.COARSE_SHIFT,
+                (cx - r) >> CompassRegion.COARSE_SHIFT,
+                (cz - r) >> CompassRegion.COARSE_SHIFT,
+                (cx + r) >> CompassRegion.COARSE_SHIFT,
+                (cz + r) >> CompassRegion.COARSE_SHIFT,
+                cx,
+                cz,
+                maxRange);
+    }
+
+    private int searchCells(final int shift, final int minCellX, final int minCellZ, final int maxCellX,
+            final int maxCellZ, final int cx, final int cz, int best) {
+        final List<int[]> cells = new ArrayList<>();
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                final int lowX = cellX << shift;
+                final int lowZ = cellZ << shift;
+                final int highX = lowX + (1 << shift) - 1;
+                final int highZ = lowZ + (1 << shift) - 1;
+                final int dx = Math.max(0, Math.max(lowX - cx, cx - highX));
+                final int dz = Math.max(0, Math.max(lowZ - cz, cz - highZ));
+                final int lowerBound = Math.max(dx, dz);
+
+                if (lowerBound < best) {
+                    cells.add(new int[] { lowerBound, cellX, cellZ });
+                }
+            }
+        }
+
+        cells.sort(Comparator.comparingInt(cell -> cell[0]));
+
+        for (final int[] cell : cells) {
+            if (cell[0] >= best) {
+                break;
+            }
+
+            final int cellX = cell[1];
+            final int cellZ = cell[2];
+            final CompassRegion r = this.getRegion(cellX << shift, cellZ << shift);
+
+            if (!r.hasBeaconInCell(shift, cellX, cellZ)) {
+                continue;
+            }
+
+            if (shift == CompassRegion.COARSE_SHIFT) {
+                final int scale = CompassRegion.COARSE_SHIFT - CompassRegion.FINE_SHIFT;
+                best = this.searchCells(
+                        CompassRegion.FINE_SHIFT,
+                        cellX << scale,
+                        cellZ << scale,
+                        ((cellX + 1) << scale) - 1,
+                        ((cellZ + 1) << scale) - 1,
+                        cx,
+                        cz,
+                        best);
+            } else {
+                final int lowX = cellX << shift;
+                final int lowZ = cellZ << shift;
+
+                for (int x = lowX; x < lowX + (1 << shift); x++) {
+                    for (int z = lowZ; z < lowZ + (1 << shift); z++) {
+                        final int d = Math.max(Math.abs(x - cx), Math.abs(z - cz));
+                        if (d > 0 && d < best && r.hasBeacon(x, z)) {
+                            best = d;
+                        }
+                    }
+                }
+            }
+        }
+
+        return best;
+    }
+
     private CompassRegion getRegion(final int cx, final int cz) {
         long pos = cx >> 10;
         pos <<= 32;
@@ -14,6 +14,7 @@ import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.Arrays;
 
 import javax.annotation.Nonnull;
 
@@ -23,6 +24,19 @@ import appeng.core.worlddata.MeteorDataNameEncoder;
 
 public final class CompassRegion {
 
+    /**
+     * Chunks per side of a region file.
+     */
+    static final int REGION_SIZE = 0x400;
+    /**
+     * log2 of the chunks per side of a fine and coarse summary cell.
+     */
+    static final int FINE_SHIFT = 5;
+    static final int COARSE_SHIFT = 8;
+
+    private static final int FINE_CELLS = REGION_SIZE >> FINE_SHIFT;
+    private static final int COARSE_CELLS = REGION_SIZE >> COARSE_SHIFT;
+
     private final int lowX;
     private final int lowZ;
     private final int world;
@@ -33,6 +47,13 @@ public final class CompassRegion {
     private RandomAccessFile raf = null;
     private ByteBuffer buffer;
 
+    /**
+     * Number of chunks with any beacon per 32x32 and 256x256 chunk cell, built when the file is opened and kept up to
+     * date by {@link #setHasBeacon}, so searches can skip empty areas without touching the mapped file.
+     */
+    private final int[] fineCounts = new int[FINE_CELLS * FINE_CELLS];
+    private final int[] coarseCounts = new int[COARSE_CELLS * COARSE_CELLS];
+
     public CompassRegion(final int cx, final int cz, final int worldID, @Nonnull final File worldCompassFolder) {
         Preconditions.checkNotNull(worldCompassFolder);
         Preconditions.checkArgument(worldCompassFolder.isDirectory());
@@ -77,6 +98,28 @@ public final class CompassRegion {
         return false;
     }
 
+    /**
+     * @param shift   {@link #FINE_SHIFT} or {@link #COARSE_SHIFT}
+     * @param cellX   absolute cell x, i.e. chunk x shifted right by {@code shift}
+     * @param cellZ   absolute cell z, i.e. chunk z shifted right by {@code shift}
+     * @return true if any chunk in the cell has a beacon
+     */
+    boolean hasBeaconInCell(final int shift, int cellX, int cellZ) {
+        if (!this.hasFile) {
+            return false;
+        }
+
+        if (shift == COARSE_SHIFT) {
+            cellX &= COARSE_CELLS - 1;
+            cellZ &= COARSE_CELLS - 1;
+            return this.coarseCounts[cellX + cellZ * COARSE_CELLS] > 0;
+        }
+
+        cellX &= FINE_CELLS - 1;
+        cellZ &= FINE_CELLS - 1;
+        return this.fineCounts[cellX + cellZ * FINE_CELLS] > 0;
+    }
+
     void setHasBeacon(int cx, int cz, final int cdy, final boolean hasBeacon) {
         cx &= 0x3FF;
         cz &= 0x3FF;
@@ -95,6 +138,12 @@ public final class CompassRegion {
 
             if (originalVal != val) {
                 this.write(cx, cz, val);
+
+                if (originalVal == 0) {
+                    this.updateSummary(cx, cz, 1);
+                } else if (val == 0) {
+                    this.updateSummary(cx, cz, -1);
+                }
             }
         }
     }
@@ -122,12 +171,31 @@ public final class CompassRegion {
                 final FileChannel fc = this.raf.getChannel();
                 this.buffer = fc.map(FileChannel.MapMode.READ_WRITE, 0, 0x400 * 0x400); // fc.size() );
                 this.hasFile = true;
+                this.buildSummary();
             } catch (final Throwable t) {
                 throw new CompassException(t);
             }
         }
     }
 
+    private void buildSummary() {
+        Arrays.fill(this.fineCounts, 0);
+        Arrays.fill(this.coarseCounts, 0);
+
+        for (int cz = 0; cz < REGION_SIZE; cz++) {
+            for (int cx = 0; cx < REGION_SIZE; cx++) {
+                if (this.read(cx, cz) != 0) {
+                    this.updateSummary(cx, cz, 1);
+                }
+            }
+        }
+    }
+
+    private void updateSummary(final int cx, final int cz, final int delta) {
+        this.fineCounts[(cx >> FINE_SHIFT) + (cz >> FINE_SHIFT) * FINE_CELLS] += delta;
+        this.coarseCounts[(cx >> COARSE_SHIFT) + (cz >> COARSE_SHIFT) * COARSE_CELLS] += delta;
+    }
+
     private File getFile() {
         final String fileName = this.encoder.encode(this.world, this.lowX, this.lowZ);
 
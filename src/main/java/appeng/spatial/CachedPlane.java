@@ -10,6 +10,7 @@
 
 package appeng.spatial;
 
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
@@ -20,6 +21,7 @@ import net.minecraft.world.ChunkPosition;
 import net.minecraft.world.NextTickListEntry;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.common.util.ForgeDirection;
 
@@ -187,15 +189,26 @@ public class CachedPlane {
 
             long startTime = System.nanoTime();
 
+            final boolean[][][] swappedSections = this.swapSections(dst);
+            final int baseCX = this.x_offset >> 4;
+            final int baseCY = this.y_offset >> 4;
+            final int baseCZ = this.z_offset >> 4;
+
             for (int x = 0; x < this.x_size; x++) {
                 for (int z = 0; z < this.z_size; z++) {
                     final Column a = this.myColumns[x][z];
                     final Column b = dst.myColumns[x][z];
+                    final int scx = ((x + this.x_offset) >> 4) - baseCX;
+                    final int scz = ((z + this.z_offset) >> 4) - baseCZ;
 
                     for (int y = 0; y < this.y_size; y++) {
                         final int src_y = y + this.y_offset;
                         final int dst_y = y + dst.y_offset;
 
+                        if (swappedSections != null && swappedSections[scx][(src_y >> 4) - baseCY][scz]) {
+                            continue;
+                        }
+
                         if (a.doNotSkip(src_y) && b.doNotSkip(dst_y)) {
                             final Object[] aD = a.getDetails(src_y);
                             final Object[] bD = b.getDetails(dst_y);
@@ -254,6 +267,122 @@ public class CachedPlane {
         }
     }
 
+    /**
+     * Swaps every 16x16x16 section that lies completely inside both planes by exchanging the section arrays instead of
+     * copying block by block. Only possible if both planes share the same alignment to the chunk grid.
+     *
+     * @return swapped sections indexed by chunk section relative to this plane, or null if nothing was swapped
+     */
+    private boolean[][][] swapSections(final CachedPlane dst) {
+        if (((this.x_offset - dst.x_offset) & 15) != 0 || ((this.y_offset - dst.y_offset) & 15) != 0
+                || ((this.z_offset - dst.z_offset) & 15) != 0) {
+            return null;
+        }
+
+        final int baseCX = this.x_offset >> 4;
+        final int baseCY = this.y_offset >> 4;
+        final int baseCZ = this.z_offset >> 4;
+        final int maxX = this.x_offset + this.x_size - 1;
+        final int maxY = this.y_offset + this.y_size - 1;
+        final int maxZ = this.z_offset + this.z_size - 1;
+
+        boolean[][][] swapped = null;
+        int count = 0;
+
+        for (int sx = (this.x_offset + 15) & ~15; sx + 15 <= maxX; sx += 16) {
+            for (int sz = (this.z_offset + 15) & ~15; sz + 15 <= maxZ; sz += 16) {
+                for (int sy = (this.y_offset + 15) & ~15; sy + 15 <= maxY; sy += 16) {
+                    final int dx = sx - this.x_offset + dst.x_offset;
+                    final int dy = sy - this.y_offset + dst.y_offset;
+                    final int dz = sz - this.z_offset + dst.z_offset;
+
+                    final ExtendedBlockStorage a = this.getSection(sx, sy, sz);
+                    final ExtendedBlockStorage b = dst.getSection(dx, dy, dz);
+
+                    if (a == null || b == null || !this.canSwapSection(a, sx, sy, sz)
+                            || !dst.canSwapSection(b, dx, dy, dz)) {
+                        continue;
+                    }
+
+                    final byte[] lsb = a.getBlockLSBArray();
+                    a.setBlockLSBArray(b.getBlockLSBArray());
+                    b.setBlockLSBArray(lsb);
+
+                    final NibbleArray msb = a.getBlockMSBArray();
+                    a.setBlockMSBArray(b.getBlockMSBArray());
+                    b.setBlockMSBArray(msb);
+
+                    final NibbleArray meta = a.getMetadataArray();
+                    a.setBlockMetadataArray(b.getMetadataArray());
+                    b.setBlockMetadataArray(meta);
+
+                    final NibbleArray blockLight = a.getBlocklightArray();
+                    a.setBlocklightArray(b.getBlocklightArray());
+                    b.setBlocklightArray(blockLight);
+
+                    // sky light is regenerated per chunk in updateChunks, only the ref counts need fixing here.
+                    a.removeInvalidBlocks();
+                    b.removeInvalidBlocks();
+
+                    if (swapped == null) {
+                        swapped = new boolean[this.cx_size][(maxY >> 4) - baseCY + 1][this.cz_size];
+                    }
+                    swapped[(sx >> 4) - baseCX][(sy >> 4) - baseCY][(sz >> 4) - baseCZ] = true;
+                    count++;
+                }
+            }
+        }
+
+        AELog.info("Sections Swapped: " + count);
+        return swapped;
+    }
+
+    private ExtendedBlockStorage getSection(final int x, final int y, final int z) {
+        final Chunk c = this.myChunks[(x >> 4) - (this.x_offset >> 4)][(z >> 4) - (this.z_offset >> 4)];
+        return c.getBlockStorageArray()[y >> 4];
+    }
+
+    /**
+     * A section can only be moved as a whole if none of its blocks need special treatment by the per block copy.
+     */
+    private boolean canSwapSection(final ExtendedBlockStorage section, final int x, final int y, final int z) {
+        for (int ax = 0; ax < 16; ax++) {
+            for (int az = 0; az < 16; az++) {
+                if (this.myColumns[x + ax - this.x_offset][z + az - this.z_offset].hasSkip(y, y + 15)) {
+                    return false;
+                }
+            }
+        }
+
+        final byte[] lsb = section.getBlockLSBArray();
+        final NibbleArray msb = section.getBlockMSBArray();
+        final BitSet checked = new BitSet(4096);
+
+        for (int i = 0; i < lsb.length; i++) {
+            int id = lsb[i] & 0xFF;
+            if (msb != null) {
+                id |= msb.get(i & 15, i >> 8, (i >> 4) & 15) << 8;
+            }
+
+            if (!checked.get(id)) {
+                checked.set(id);
+
+                final Block blk = Block.getBlockById(id);
+                if (this.reg.isBlacklisted(blk)) {
+                    return false;
+                }
+
+                for (final Block matrixFrameBlock : this.matrixFrame.maybeBlock().asSet()) {
+                    if (blk == matrixFrameBlock) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
     private void markForUpdate(final int x, final int y, final int z) {
         this.getUpdates().add(new WorldCoord(x, y, z));
         for (final ForgeDirection d : ForgeDirection.VALID_DIRECTIONS) {
@@ -325,10 +454,7 @@ public class CachedPlane {
 
                 final Chunk c = this.myChunks[x][z];
 
-                for (int y = 1; y < 255; y += 32) {
-                    WorldData.instance().compassData().service()
-                            .updateArea(this.getWorld(), c.xPosition << 4, y, c.zPosition << 4);
-                }
+                WorldData.instance().compassData().service().updateArea(this.getWorld(), c.xPosition, c.zPosition);
 
                 Platform.sendChunk(c, this.verticalBits);
             }
@@ -402,6 +528,17 @@ public class CachedPlane {
             return this.skipThese == null || !this.skipThese.contains(y);
         }
 
+        private boolean hasSkip(final int minY, final int maxY) {
+            if (this.skipThese != null) {
+                for (final int y : this.skipThese) {
+                    if (y >= minY && y <= maxY) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         private void setSkip(final int yCoord) {
             if (this.skipThese == null) {
                 this.skipThese = new LinkedList<>();
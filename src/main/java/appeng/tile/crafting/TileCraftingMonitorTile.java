@@ -14,13 +14,17 @@ import java.io.IOException;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.AxisAlignedBB;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import appeng.api.implementations.tiles.IColorableTile;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.util.AEColor;
+import appeng.core.AEConfig;
 import appeng.tile.TileEvent;
 import appeng.tile.events.TileEventType;
+import appeng.util.IWideReadableNumberConverter;
+import appeng.util.ReadableNumberConverter;
 import appeng.util.item.AEItemStack;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -28,12 +32,23 @@ import io.netty.buffer.ByteBuf;
 
 public class TileCraftingMonitorTile extends TileCraftingTile implements IColorableTile {
 
+    private static final IWideReadableNumberConverter NUMBER_CONVERTER = ReadableNumberConverter.INSTANCE;
+
     @SideOnly(Side.CLIENT)
     private Integer dspList;
 
     @SideOnly(Side.CLIENT)
     private boolean updateList;
 
+    @SideOnly(Side.CLIENT)
+    private IAEItemStack dspItem;
+
+    @SideOnly(Side.CLIENT)
+    private String dspText;
+
+    @SideOnly(Side.CLIENT)
+    private int dspOrientation;
+
     private IAEItemStack dspPlay;
     private AEColor paintedColor = AEColor.Transparent;
 
@@ -50,7 +65,6 @@ public class TileCraftingMonitorTile extends TileCraftingTile implements IColora
             this.dspPlay = null;
         }
 
-        this.setUpdateList(true);
         return oldPaintedColor != this.paintedColor; // tesr!
     }
 
@@ -78,6 +92,29 @@ public class TileCraftingMonitorTile extends TileCraftingTile implements IColora
         data.setByte("paintedColor", (byte) this.paintedColor.ordinal());
     }
 
+    @Override
+    public double getMaxRenderDistanceSquared() {
+        final double distance = AEConfig.instance.dynamicRenderDistance;
+        return distance * distance;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public AxisAlignedBB getRenderBoundingBox() {
+        if (!AEConfig.instance.dynamicRenderCulling) {
+            return super.getRenderBoundingBox();
+        }
+
+        // the screen is drawn slightly in front of the block
+        return AxisAlignedBB.getBoundingBox(
+                this.xCoord - 0.5,
+                this.yCoord - 0.5,
+                this.zCoord - 0.5,
+                this.xCoord + 1.5,
+                this.yCoord + 1.5,
+                this.zCoord + 1.5);
+    }
+
     @Override
     public boolean isAccelerator() {
         return false;
@@ -134,6 +171,40 @@ public class TileCraftingMonitorTile extends TileCraftingTile implements IColora
         this.dspList = dspList;
     }
 
+    /**
+     * Compares the job progress with the one the display list was compiled for, a new amount only requires to compile
+     * it again once its text changes.
+     */
+    @SideOnly(Side.CLIENT)
+    public boolean isDisplayChanged() {
+        if (this.updateList) {
+            this.updateList = false;
+            this.dspItem = null;
+        }
+
+        final IAEItemStack ais = this.dspPlay;
+        final int orientation = this.getUp().ordinal() << 3 | this.getForward().ordinal();
+        if (this.dspItem != null && this.dspOrientation == orientation && this.dspItem.isSameType(ais)) {
+            if (this.dspItem.getStackSize() == ais.getStackSize()) {
+                return false;
+            }
+
+            this.dspItem.setStackSize(ais.getStackSize());
+            final String text = NUMBER_CONVERTER.toWideReadableForm(ais.getStackSize());
+            if (text.equals(this.dspText)) {
+                return false;
+            }
+
+            this.dspText = text;
+            return true;
+        }
+
+        this.dspItem = ais == null ? null : ais.copy();
+        this.dspText = ais == null ? null : NUMBER_CONVERTER.toWideReadableForm(ais.getStackSize());
+        this.dspOrientation = orientation;
+        return true;
+    }
+
     public boolean isUpdateList() {
         return this.updateList;
     }
@@ -69,6 +69,7 @@ public class TileMolecularAssembler extends AENetworkInvTile
         implements IUpgradeableHost, IConfigManagerHost, IGridTickable, ICraftingMachine, IPowerChannelState {
 
     private static final int[] SIDES = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+    private static final int MAX_BATCH = 6;
 
     private final InventoryCrafting craftingInv;
     private final AppEngInternalInventory inv = new AppEngInternalInventory(this, 9 + 2);
@@ -83,13 +84,14 @@ public class TileMolecularAssembler extends AENetworkInvTile
     private boolean isAwake = false;
     private boolean forcePlan = false;
     private boolean reboot = true;
+    private int batch = 0;
 
     public TileMolecularAssembler() {
         final ITileDefinition assembler = AEApi.instance().definitions().blocks().molecularAssembler();
 
         this.settings = new ConfigManager(this);
         this.settings.registerSetting(Settings.REDSTONE_CONTROLLED, RedstoneMode.IGNORE);
-        this.inv.setMaxStackSize(1);
+        this.inv.setMaxStackSize(MAX_BATCH);
         this.getProxy().setIdlePowerUsage(0.0);
         this.upgrades = new DefinitionUpgradeInventory(assembler, this, this.getUpgradeSlots());
         this.craftingInv = new InventoryCrafting(new ContainerNull(), 3, 3);
@@ -121,10 +123,86 @@ public class TileMolecularAssembler extends AENetworkInvTile
                 this.markDirty();
                 return true;
             }
+
+            if (this.canQueue(patternDetails, table)) {
+                for (int x = 0; x < table.getSizeInventory(); x++) {
+                    final ItemStack is = this.inv.getStackInSlot(x);
+                    if (is != null) {
+                        final ItemStack queued = is.copy();
+                        queued.stackSize += table.getStackInSlot(x).stackSize;
+                        this.inv.setInventorySlotContents(x, queued);
+                    }
+                }
+
+                this.updateSleepiness();
+                this.markDirty();
+                return true;
+            }
         }
         return false;
     }
 
+    /**
+     * Another craft of the pattern currently being worked on can be queued on top of the inputs already present, as
+     * long as the batch limit from the installed acceleration cards is not exceeded.
+     */
+    private boolean canQueue(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
+        if (!this.forcePlan || this.myPlan == null
+                || !this.myPlan.equals(patternDetails)
+                || this.inv.getStackInSlot(9) != null) {
+            return false;
+        }
+
+        final int maxBatch = this.getMaxBatch();
+        for (int x = 0; x < table.getSizeInventory(); x++) {
+            final ItemStack a = this.inv.getStackInSlot(x);
+            final ItemStack b = table.getStackInSlot(x);
+
+            if (a == null || b == null) {
+                if (a != b) {
+                    return false;
+                }
+                continue;
+            }
+
+            if (!Platform.isSameItemPrecise(a, b) || a.stackSize + b.stackSize > maxBatch) {
+                return false;
+            }
+
+            if (a.getItem().hasContainerItem(a)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int getMaxBatch() {
+        return 1 + this.upgrades.getInstalledUpgrades(Upgrades.SPEED);
+    }
+
+    /**
+     * @return how many crafts the current inputs allow in one cycle, limited by the installed acceleration cards, or 0
+     *         when no inputs are queued; inputs leaving container items behind are always crafted one at a time
+     */
+    private int getQueuedCrafts() {
+        int crafts = this.getMaxBatch();
+        boolean queued = false;
+
+        for (int x = 0; x < 9; x++) {
+            final ItemStack is = this.inv.getStackInSlot(x);
+            if (is != null) {
+                if (is.getItem().hasContainerItem(is)) {
+                    return 1;
+                }
+                crafts = Math.min(crafts, is.stackSize);
+                queued = true;
+            }
+        }
+
+        return queued ? Math.max(1, crafts) : 0;
+    }
+
     private void updateSleepiness() {
         final boolean wasEnabled = this.isAwake;
         this.isAwake = this.myPlan != null && this.hasMats() || this.canPush();
@@ -288,7 +366,7 @@ public class TileMolecularAssembler extends AENetworkInvTile
 
     @Override
     public int getInventoryStackLimit() {
-        return 1;
+        return this.getMaxBatch();
     }
 
     @Override
@@ -379,14 +457,21 @@ public class TileMolecularAssembler extends AENetworkInvTile
         }
 
         this.reboot = false;
+
+        // the batch is fixed when a cycle starts, energy is drawn for every craft in it
+        if (this.progress == 0 || this.batch <= 0) {
+            this.batch = Math.max(1, this.getQueuedCrafts());
+        }
+
         int speed = 10;
+        final int batch = this.batch;
         switch (this.upgrades.getInstalledUpgrades(Upgrades.SPEED)) {
-            case 0 -> this.progress += this.userPower(ticksSinceLastCall, speed = 10, 1.0);
-            case 1 -> this.progress += this.userPower(ticksSinceLastCall, speed = 13, 1.3);
-            case 2 -> this.progress += this.userPower(ticksSinceLastCall, speed = 17, 1.7);
-            case 3 -> this.progress += this.userPower(ticksSinceLastCall, speed = 20, 2.0);
-            case 4 -> this.progress += this.userPower(ticksSinceLastCall, speed = 25, 2.5);
-            case 5 -> this.progress += this.userPower(ticksSinceLastCall, speed = 50, 5.0);
+            case 0 -> this.progress += this.userPower(ticksSinceLastCall, speed = 10, 1.0, batch);
+            case 1 -> this.progress += this.userPower(ticksSinceLastCall, speed = 13, 1.3, batch);
+            case 2 -> this.progress += this.userPower(ticksSinceLastCall, speed = 17, 1.7, batch);
+            case 3 -> this.progress += this.userPower(ticksSinceLastCall, speed = 20, 2.0, batch);
+            case 4 -> this.progress += this.userPower(ticksSinceLastCall, speed = 25, 2.5, batch);
+            case 5 -> this.progress += this.userPower(ticksSinceLastCall, speed = 50, 5.0, batch);
         }
 
         if (this.progress >= 100) {
@@ -395,20 +480,31 @@ public class TileMolecularAssembler extends AENetworkInvTile
             }
 
             this.progress = 0;
+            this.batch = 0;
             final ItemStack output = this.myPlan.getOutput(this.craftingInv, this.getWorldObj());
             if (output != null) {
-                FMLCommonHandler.instance().firePlayerCraftingEvent(
-                        Platform.getPlayer((WorldServer) this.getWorldObj()),
-                        output,
-                        this.craftingInv);
+                // inputs may have been taken out during the cycle, and the merged output must still fit one stack
+                final int crafts = Math.max(
+                        1,
+                        Math.min(Math.min(batch, this.getQueuedCrafts()), output.getMaxStackSize() / output.stackSize));
+
+                for (int c = 0; c < crafts; c++) {
+                    FMLCommonHandler.instance().firePlayerCraftingEvent(
+                            Platform.getPlayer((WorldServer) this.getWorldObj()),
+                            output,
+                            this.craftingInv);
+                }
 
-                this.pushOut(output.copy());
+                final ItemStack merged = output.copy();
+                merged.stackSize *= crafts;
+                this.pushOut(merged);
 
                 for (int x = 0; x < this.craftingInv.getSizeInventory(); x++) {
-                    this.inv.setInventorySlotContents(x, Platform.getContainerItem(this.craftingInv.getStackInSlot(x)));
+                    this.inv.setInventorySlotContents(x, this.consumeInput(this.craftingInv.getStackInSlot(x), crafts));
                 }
 
-                if (this.inv.getStackInSlot(10) == null) {
+                // inputs pushed during the cycle or left over by the stack size cap still belong to the pushed plan
+                if (this.inv.getStackInSlot(10) == null && this.getQueuedCrafts() == 0) {
                     this.forcePlan = false;
                     this.myPlan = null;
                     this.pushDirection = ForgeDirection.UNKNOWN;
@@ -456,12 +552,30 @@ public class TileMolecularAssembler extends AENetworkInvTile
         }
     }
 
-    private int userPower(final int ticksPassed, final int bonusValue, final double acceleratorTax) {
+    private ItemStack consumeInput(final ItemStack input, final int crafts) {
+        if (input == null || crafts <= 1) {
+            return Platform.getContainerItem(input);
+        }
+
+        // batches never contain inputs with container items, see getQueuedCrafts
+        if (input.stackSize <= crafts) {
+            return null;
+        }
+
+        input.stackSize -= crafts;
+        return input;
+    }
+
+    /**
+     * @return progress made towards every craft of the batch, energy is drawn for all of them
+     */
+    private int userPower(final int ticksPassed, final int bonusValue, final double acceleratorTax,
+            final int batch) {
         try {
             return (int) (this.getProxy().getEnergy().extractAEPower(
-                    ticksPassed * bonusValue * acceleratorTax,
+                    ticksPassed * bonusValue * acceleratorTax * batch,
                     Actionable.MODULATE,
-                    PowerMultiplier.CONFIG) / acceleratorTax);
+                    PowerMultiplier.CONFIG) / acceleratorTax / batch);
         } catch (final GridAccessException e) {
             return 0;
         }
@@ -476,7 +590,7 @@ public class TileMolecularAssembler extends AENetworkInvTile
             output = this.pushTo(output, this.pushDirection);
         }
 
-        if (output == null && this.forcePlan) {
+        if (output == null && this.forcePlan && this.getQueuedCrafts() == 0) {
             this.forcePlan = false;
             this.recalculatePlan();
         }
@@ -32,6 +32,8 @@ import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
 import appeng.api.util.DimensionalCoord;
 import appeng.block.networking.BlockCableBus;
+import appeng.core.AEConfig;
+import appeng.core.sync.packets.PacketPartStates;
 import appeng.helpers.AEMultiTile;
 import appeng.helpers.ICustomCollision;
 import appeng.hooks.TickHandler;
@@ -43,6 +45,8 @@ import appeng.tile.AEBaseTile;
 import appeng.tile.TileEvent;
 import appeng.tile.events.TileEventType;
 import appeng.util.Platform;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
 import io.netty.buffer.ByteBuf;
 
 public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomCollision {
@@ -70,15 +74,36 @@ public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomColl
     public boolean readFromStream_TileCableBus(final ByteBuf data) throws IOException {
         final boolean ret = this.getCableBus().readFromStream(data);
 
+        this.updateLight();
+        this.updateTileSetting();
+        return ret;
+    }
+
+    /**
+     * Called on the client after {@link PacketPartStates} changed the state of parts on this bus.
+     *
+     * @param rendersDifferently true if a part has to be rendered again
+     */
+    public void onPartStatesSynced(final boolean rendersDifferently) {
+        this.updateLight();
+        if (rendersDifferently) {
+            this.worldObj.markBlockRangeForRenderUpdate(
+                    this.xCoord,
+                    this.yCoord,
+                    this.zCoord,
+                    this.xCoord,
+                    this.yCoord,
+                    this.zCoord);
+        }
+    }
+
+    private void updateLight() {
         final int newLV = this.getCableBus().getLightValue();
         if (newLV != this.oldLV) {
             this.oldLV = newLV;
             this.worldObj.func_147451_t(this.xCoord, this.yCoord, this.zCoord);
             // worldObj.updateAllLightTypes( xCoord, yCoord, zCoord );
         }
-
-        this.updateTileSetting();
-        return ret;
     }
 
     protected void updateTileSetting() {
@@ -107,7 +132,25 @@ public class TileCableBus extends AEBaseTile implements AEMultiTile, ICustomColl
 
     @Override
     public double getMaxRenderDistanceSquared() {
-        return 900.0;
+        final double distance = AEConfig.instance.dynamicRenderDistance;
+        return distance * distance;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public AxisAlignedBB getRenderBoundingBox() {
+        if (!AEConfig.instance.dynamicRenderCulling) {
+            return super.getRenderBoundingBox();
+        }
+
+        // monitor screens are drawn slightly in front of the block
+        return AxisAlignedBB.getBoundingBox(
+                this.xCoord - 0.5,
+                this.yCoord - 0.5,
+                this.zCoord - 0.5,
+                this.xCoord + 1.5,
+                this.yCoord + 1.5,
+                this.zCoord + 1.5);
     }
 
     @Override
@@ -77,6 +77,7 @@ import appeng.api.util.IConfigManager;
 import appeng.helpers.IPriorityHost;
 import appeng.items.storage.ItemBasicStorageCell;
 import appeng.me.GridAccessException;
+import appeng.me.cache.GridStorageCache;
 import appeng.me.storage.MEInventoryHandler;
 import appeng.tile.TileEvent;
 import appeng.tile.events.TileEventType;
@@ -496,6 +497,9 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, IFluidHan
 
                 final IStorageGrid gs = this.getProxy().getStorage();
                 Platform.postChanges(gs, removed, added, this.mySrc);
+                if (gs instanceof GridStorageCache gsc) {
+                    gsc.cellStatsChanged(this);
+                }
             } catch (final GridAccessException ignored) {
 
             }
@@ -737,6 +741,15 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, IFluidHan
     @Override
     public void saveChanges(final IMEInventory cellInventory) {
         this.worldObj.markTileEntityChunkModified(this.xCoord, this.yCoord, this.zCoord, this);
+        this.postCellStatsChange();
+    }
+
+    private void postCellStatsChange() {
+        try {
+            if (this.getProxy().getStorage() instanceof GridStorageCache gsc) {
+                gsc.cellStatsChanged(this);
+            }
+        } catch (final GridAccessException ignored) {}
     }
 
     public boolean toggleItemStorageCellLocking() {
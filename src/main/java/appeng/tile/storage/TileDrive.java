@@ -52,6 +52,7 @@ import appeng.helpers.IPriorityHost;
 import appeng.items.materials.ItemMultiMaterial;
 import appeng.items.storage.ItemBasicStorageCell;
 import appeng.me.GridAccessException;
+import appeng.me.cache.GridStorageCache;
 import appeng.me.storage.MEInventoryHandler;
 import appeng.tile.TileEvent;
 import appeng.tile.events.TileEventType;
@@ -274,6 +275,9 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
 
             final IStorageGrid gs = this.getProxy().getStorage();
             Platform.postChanges(gs, removed, added, this.mySrc);
+            if (gs instanceof GridStorageCache gsc) {
+                gsc.cellStatsChanged(this);
+            }
         } catch (final GridAccessException ignored) {}
 
         this.markForUpdate();
@@ -374,6 +378,15 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
     @Override
     public void saveChanges(final IMEInventory cellInventory) {
         this.worldObj.markTileEntityChunkModified(this.xCoord, this.yCoord, this.zCoord, this);
+        this.postCellStatsChange();
+    }
+
+    private void postCellStatsChange() {
+        try {
+            if (this.getProxy().getStorage() instanceof GridStorageCache gsc) {
+                gsc.cellStatsChanged(this);
+            }
+        } catch (final GridAccessException ignored) {}
     }
 
     public static void partitionStorageCellToItemsOnCell(ICellInventoryHandler handler) {
@@ -46,7 +46,14 @@ import appeng.util.inv.WrapperMCISidedInventory;
 public abstract class InventoryAdaptor implements Iterable<ItemSlot> {
 
     // returns an appropriate adaptor, or null
-    public static InventoryAdaptor getAdaptor(Object te, final ForgeDirection d) {
+    public static InventoryAdaptor getAdaptor(final Object te, final ForgeDirection d) {
+        return getAdaptor(te, d, false);
+    }
+
+    /**
+     * @param indexSlots Index the slots of large inventories, for adaptors that are kept and used repeatedly
+     */
+    public static InventoryAdaptor getAdaptor(Object te, final ForgeDirection d, final boolean indexSlots) {
         if (te == null) {
             return null;
         }
@@ -73,7 +80,7 @@ public abstract class InventoryAdaptor implements Iterable<ItemSlot> {
         } else if (bs != null && bs.isStorageCrate(te)) {
             return bs.getAdaptor(te, d);
         } else if (te instanceof TileEntityChest) {
-            return new AdaptorIInventory(Platform.GetChestInv(te));
+            return newAdaptor(Platform.GetChestInv(te), indexSlots);
         } else if (te instanceof ISidedInventory si) {
             if (te instanceof TileInterface) {
                 return new AdaptorDualityInterface(new WrapperMCISidedInventory(si, d), (IInterfaceHost) te);
@@ -90,17 +97,21 @@ public abstract class InventoryAdaptor implements Iterable<ItemSlot> {
 
             final int[] slots = si.getAccessibleSlotsFromSide(d.ordinal());
             if (si.getSizeInventory() > 0 && slots != null && slots.length > 0) {
-                return new AdaptorIInventory(new WrapperMCISidedInventory(si, d));
+                return newAdaptor(new WrapperMCISidedInventory(si, d), indexSlots);
             }
         } else if (te instanceof IInventory i) {
             if (i.getSizeInventory() > 0) {
-                return new AdaptorIInventory(i);
+                return newAdaptor(i, indexSlots);
             }
         }
 
         return null;
     }
 
+    private static InventoryAdaptor newAdaptor(final IInventory inv, final boolean indexSlots) {
+        return new AdaptorIInventory(inv, indexSlots && inv.getSizeInventory() >= AdaptorIInventory.INDEXED_MIN_SLOTS);
+    }
+
     public IItemList<IAEItemStack> getAvailableItems(IItemList<IAEItemStack> out, int iteration) {
         return out;
     }
@@ -15,17 +15,17 @@ import java.util.Comparator;
 import appeng.api.config.SortDir;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
+import appeng.util.item.ItemSortKey;
 
 public class ItemSorters {
 
     private static SortDir direction = SortDir.ASCENDING;
 
-    public static final Comparator<IAEItemStack> CONFIG_BASED_SORT_BY_NAME = Comparator
-            .comparing(Platform::getItemDisplayName, (a, b) -> a.compareToIgnoreCase(b) * direction.sortHint);
+    public static final Comparator<IAEItemStack> CONFIG_BASED_SORT_BY_NAME = (a, b) -> compareByName(a, b)
+            * direction.sortHint;
 
-    public static final Comparator<IAEItemStack> CONFIG_BASED_SORT_BY_MOD = Comparator
-            .comparing(Platform::getModId, (a, b) -> a.compareToIgnoreCase(b) * direction.sortHint)
-            .thenComparing(Platform::getItemDisplayName);
+    public static final Comparator<IAEItemStack> CONFIG_BASED_SORT_BY_MOD = (a, b) -> compareByMod(a, b)
+            * direction.sortHint;
 
     public static final Comparator<IAEItemStack> CONFIG_BASED_SORT_BY_SIZE = Comparator
             .comparing(IAEStack::getStackSize, (a, b) -> Long.compare(b, a) * direction.sortHint);
@@ -42,6 +42,28 @@ public class ItemSorters {
         }
     };
 
+    /**
+     * Compares display names in the current language, then ids, using the {@link ItemSortKey}s of both stacks.
+     */
+    public static int compareByName(final IAEItemStack a, final IAEItemStack b) {
+        return compareByName(ItemSortKey.of(a), ItemSortKey.of(b));
+    }
+
+    /**
+     * Compares mod ids, then display names, using the {@link ItemSortKey}s of both stacks.
+     */
+    public static int compareByMod(final IAEItemStack a, final IAEItemStack b) {
+        final ItemSortKey ka = ItemSortKey.of(a);
+        final ItemSortKey kb = ItemSortKey.of(b);
+        final int c = ka.compareModId(kb);
+        return c != 0 ? c : compareByName(ka, kb);
+    }
+
+    private static int compareByName(final ItemSortKey a, final ItemSortKey b) {
+        final int c = a.compareName(b);
+        return c != 0 ? c : a.compareId(b);
+    }
+
     public static int compareInt(final int a, final int b) {
         // for backwards compat for ext mods...
         return Integer.compare(a, b);
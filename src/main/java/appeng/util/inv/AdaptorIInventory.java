@@ -19,18 +19,36 @@ import appeng.api.config.FuzzyMode;
 import appeng.api.config.InsertionMode;
 import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntIterators;
 
 public class AdaptorIInventory extends InventoryAdaptor {
 
+    /**
+     * Inventories with at least this many slots are worth indexing when the adaptor is kept around
+     */
+    public static final int INDEXED_MIN_SLOTS = 54;
+
     private final IInventory i;
     private final boolean wrapperEnabled;
+    private final InventorySlotIndex slotIndex;
     private boolean skipStackSizeCheck;
 
     public AdaptorIInventory(final IInventory s) {
+        this(s, false);
+    }
+
+    /**
+     * @param indexSlots Keep track of which slots hold which items, so that operations only look at the slots that
+     *                   can matter. Only pays off for large inventories accessed repeatedly through the same adaptor,
+     *                   every operation first checks a cheap fingerprint of each slot against the index.
+     */
+    public AdaptorIInventory(final IInventory s, final boolean indexSlots) {
         this.i = s;
         skipStackSizeCheck = i.getClass().toString()
                 .equals("class wanion.avaritiaddons.block.chest.infinity.TileEntityInfinityChest");
         this.wrapperEnabled = s instanceof IInventoryWrapper;
+        this.slotIndex = indexSlots ? new InventorySlotIndex(s) : null;
     }
 
     public AdaptorIInventory(final IInventory s, final int maxStack) {
@@ -40,10 +58,12 @@ public class AdaptorIInventory extends InventoryAdaptor {
 
     @Override
     public ItemStack removeItems(int amount, ItemStack filter, final IInventoryDestination destination) {
-        final int s = this.i.getSizeInventory();
+        final IntIterator slots = this.slotsHolding(filter);
         ItemStack rv = null;
+        boolean changed = false;
 
-        for (int x = 0; x < s && amount > 0; x++) {
+        while (slots.hasNext() && amount > 0) {
+            final int x = slots.nextInt();
             final ItemStack is = this.i.getStackInSlot(x);
             if (is != null && this.canRemoveStackFromSlot(x, is)
                     && (filter == null || Platform.isSameItemPrecise(is, filter))) {
@@ -68,29 +88,30 @@ public class AdaptorIInventory extends InventoryAdaptor {
 
                     if (is.stackSize == boundAmounts) {
                         this.i.setInventorySlotContents(x, null);
-                        this.i.markDirty();
                     } else {
                         final ItemStack po = is.copy();
                         po.stackSize -= boundAmounts;
                         this.i.setInventorySlotContents(x, po);
-                        this.i.markDirty();
                     }
+                    changed = true;
                 }
             }
         }
 
-        // if ( rv != null )
-        // i.markDirty();
+        if (changed) {
+            this.i.markDirty();
+        }
 
         return rv;
     }
 
     @Override
     public ItemStack simulateRemove(int amount, final ItemStack filter, final IInventoryDestination destination) {
-        final int s = this.i.getSizeInventory();
+        final IntIterator slots = this.slotsHolding(filter);
         ItemStack rv = null;
 
-        for (int x = 0; x < s && amount > 0; x++) {
+        while (slots.hasNext() && amount > 0) {
+            final int x = slots.nextInt();
             final ItemStack is = this.i.getStackInSlot(x);
             if (is != null && this.canRemoveStackFromSlot(x, is)
                     && (filter == null || Platform.isSameItemPrecise(is, filter))) {
@@ -121,8 +142,9 @@ public class AdaptorIInventory extends InventoryAdaptor {
     @Override
     public ItemStack removeSimilarItems(final int amount, final ItemStack filter, final FuzzyMode fuzzyMode,
             final IInventoryDestination destination) {
-        final int s = this.i.getSizeInventory();
-        for (int x = 0; x < s; x++) {
+        final IntIterator slots = this.slotsSimilarTo(filter, fuzzyMode);
+        while (slots.hasNext()) {
+            final int x = slots.nextInt();
             final ItemStack is = this.i.getStackInSlot(x);
             if (is != null && this.canRemoveStackFromSlot(x, is)
                     && (filter == null || Platform.isSameItemFuzzy(is, filter, fuzzyMode))) {
@@ -134,24 +156,18 @@ public class AdaptorIInventory extends InventoryAdaptor {
                     newAmount = 0;
                 }
 
-                ItemStack rv = null;
                 if (newAmount > 0) {
-                    rv = is.copy();
+                    final ItemStack rv = is.copy();
                     rv.stackSize = newAmount;
 
                     if (is.stackSize == rv.stackSize) {
                         this.i.setInventorySlotContents(x, null);
-                        this.i.markDirty();
                     } else {
                         final ItemStack po = is.copy();
                         po.stackSize -= rv.stackSize;
                         this.i.setInventorySlotContents(x, po);
-                        this.i.markDirty();
                     }
-                }
-
-                if (rv != null) {
-                    // i.markDirty();
+                    this.i.markDirty();
                     return rv;
                 }
             }
@@ -162,8 +178,9 @@ public class AdaptorIInventory extends InventoryAdaptor {
     @Override
     public ItemStack simulateSimilarRemove(final int amount, final ItemStack filter, final FuzzyMode fuzzyMode,
             final IInventoryDestination destination) {
-        final int s = this.i.getSizeInventory();
-        for (int x = 0; x < s; x++) {
+        final IntIterator slots = this.slotsSimilarTo(filter, fuzzyMode);
+        while (slots.hasNext()) {
+            final int x = slots.nextInt();
             final ItemStack is = this.i.getStackInSlot(x);
 
             if (is != null && this.canRemoveStackFromSlot(x, is)
@@ -239,69 +256,108 @@ public class AdaptorIInventory extends InventoryAdaptor {
 
         final int perOperationLimit = this.skipStackSizeCheck ? invLimit
                 : Math.min(invLimit, itemsToAdd.getMaxStackSize());
-        final int inventorySize = this.i.getSizeInventory();
+        boolean changed = false;
+        if (this.slotIndex != null) {
+            this.slotIndex.validate();
+        }
 
         // go over empty slots first if needed
         if (insertionMode != InsertionMode.DEFAULT) {
-            for (int slot = 0; slot < inventorySize; slot++) {
+            final IntIterator slots = this.emptySlots();
+            while (slots.hasNext() && left.stackSize > 0) {
+                final int slot = slots.nextInt();
                 final ItemStack next = left.copy();
                 next.stackSize = Math.min(perOperationLimit, next.stackSize);
 
                 if (this.i.isItemValidForSlot(slot, next) && this.i.getStackInSlot(slot) == null) {
                     if (modulate) {
                         this.i.setInventorySlotContents(slot, next);
-                        this.i.markDirty();
+                        changed = true;
                     }
                     left.stackSize -= next.stackSize;
+                }
+            }
+        }
+
+        // skip if only empty slots are desired
+        if (insertionMode != InsertionMode.ONLY_EMPTY) {
+            final IntIterator slots = this.slotsAccepting(left);
+            while (slots.hasNext() && left.stackSize > 0) {
+                final int slot = slots.nextInt();
+                final ItemStack next = left.copy();
+                next.stackSize = Math.min(perOperationLimit, next.stackSize);
 
-                    if (left.stackSize <= 0) {
-                        return null;
+                if (this.i.isItemValidForSlot(slot, next)) {
+                    final ItemStack is = this.i.getStackInSlot(slot);
+                    if (is == null) {
+                        left.stackSize -= next.stackSize;
+
+                        if (modulate) {
+                            this.i.setInventorySlotContents(slot, next);
+                            changed = true;
+                        }
+                    } else if (Platform.isSameItemPrecise(is, left) && is.stackSize < perOperationLimit) {
+                        final int room = perOperationLimit - is.stackSize;
+                        final int used = Math.min(left.stackSize, room);
+
+                        if (modulate) {
+                            is.stackSize += used;
+                            this.i.setInventorySlotContents(slot, is);
+                            changed = true;
+                        }
+
+                        left.stackSize -= used;
                     }
                 }
             }
         }
 
-        // exit early if only empty slots are desired
-        if (insertionMode == InsertionMode.ONLY_EMPTY) {
-            return left;
+        if (changed) {
+            this.i.markDirty();
         }
 
-        for (int slot = 0; slot < inventorySize; slot++) {
-            final ItemStack next = left.copy();
-            next.stackSize = Math.min(perOperationLimit, next.stackSize);
+        return left.stackSize <= 0 ? null : left;
+    }
 
-            if (this.i.isItemValidForSlot(slot, next)) {
-                final ItemStack is = this.i.getStackInSlot(slot);
-                if (is == null) {
-                    left.stackSize -= next.stackSize;
+    private IntIterator allSlots() {
+        return IntIterators.fromTo(0, this.i.getSizeInventory());
+    }
 
-                    if (modulate) {
-                        this.i.setInventorySlotContents(slot, next);
-                        this.i.markDirty();
-                    }
+    /**
+     * @return The slots that may hold the filter in ascending order, all slots if there is no filter
+     */
+    private IntIterator slotsHolding(final ItemStack filter) {
+        if (this.slotIndex == null || filter == null) {
+            return this.allSlots();
+        }
+        this.slotIndex.validate();
+        return this.slotIndex.slotsHolding(filter);
+    }
 
-                    if (left.stackSize <= 0) {
-                        return null;
-                    }
-                } else if (Platform.isSameItemPrecise(is, left) && is.stackSize < perOperationLimit) {
-                    final int room = perOperationLimit - is.stackSize;
-                    final int used = Math.min(left.stackSize, room);
+    private IntIterator slotsSimilarTo(final ItemStack filter, final FuzzyMode fuzzyMode) {
+        if (this.slotIndex == null || filter == null) {
+            return this.allSlots();
+        }
+        this.slotIndex.validate();
+        return this.slotIndex.slotsSimilarTo(filter, fuzzyMode);
+    }
 
-                    if (modulate) {
-                        is.stackSize += used;
-                        this.i.setInventorySlotContents(slot, is);
-                        this.i.markDirty();
-                    }
+    /**
+     * @return The slots that may be empty in ascending order, the index must have been validated by the caller
+     */
+    private IntIterator emptySlots() {
+        return this.slotIndex == null ? this.allSlots() : this.slotIndex.emptySlots();
+    }
 
-                    left.stackSize -= used;
-                    if (left.stackSize <= 0) {
-                        return null;
-                    }
-                }
-            }
+    /**
+     * @return The slots an insertion of the item may use in ascending order, the index must have been validated by the
+     *         caller
+     */
+    private IntIterator slotsAccepting(final ItemStack item) {
+        if (this.slotIndex == null) {
+            return this.allSlots();
         }
-
-        return left;
+        return this.slotIndex.slotsAccepting(item);
     }
 
     private boolean canRemoveStackFromSlot(final int x, final ItemStack is) {
@@ -1,10 +1,36 @@
 package appeng.util.inv;
 
+import net.minecraft.item.ItemStack;
+
+import appeng.api.config.InsertionMode;
 import appeng.parts.p2p.PartP2PItems;
 
 public class AdaptorP2PItem extends AdaptorIInventory {
 
+    private final PartP2PItems p2p;
+
     public AdaptorP2PItem(PartP2PItems p2p) {
         super(p2p, p2p.getInventoryStackLimit());
+        this.p2p = p2p;
+    }
+
+    @Override
+    public ItemStack addItems(final ItemStack toBeAdded) {
+        return this.p2p.addItems(toBeAdded, InsertionMode.DEFAULT, true);
+    }
+
+    @Override
+    public ItemStack addItems(ItemStack toBeAdded, InsertionMode insertionMode) {
+        return this.p2p.addItems(toBeAdded, insertionMode, true);
+    }
+
+    @Override
+    public ItemStack simulateAdd(final ItemStack toBeSimulated) {
+        return this.p2p.addItems(toBeSimulated, InsertionMode.DEFAULT, false);
+    }
+
+    @Override
+    public ItemStack simulateAdd(ItemStack toBeSimulated, InsertionMode insertionMode) {
+        return this.p2p.addItems(toBeSimulated, insertionMode, false);
     }
 }
@@ -0,0 +1,254 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.inv;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import appeng.api.config.FuzzyMode;
+import appeng.util.Platform;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntIterators;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+
+/**
+ * Which slots of an inventory hold which item, and which slots are empty, so that {@link AdaptorIInventory} only has
+ * to look at the slots that can matter for an operation.
+ * <p>
+ * The inventory can change behind our back, so {@link #validate()} checks a cheap fingerprint of every slot before each
+ * operation: item, damage and the identity of the NBT tag. NBT is only compared when a slot holds a different tag
+ * instance, and only the slots that changed are re-indexed. A tag that is edited in place without being replaced is
+ * not noticed. Slots are always handed out in ascending order, so operations touch slots in the same order as a linear
+ * scan would.
+ */
+final class InventorySlotIndex {
+
+    private final IInventory inv;
+    private ItemKey[] slotKeys = new ItemKey[0];
+    // the tag instance each slot held when it was last checked
+    private NBTTagCompound[] slotTags = new NBTTagCompound[0];
+    private final Map<ItemKey, IntSortedSet> slotsByItem = new HashMap<>();
+    private final IntSortedSet emptySlots = new IntRBTreeSet();
+
+    InventorySlotIndex(final IInventory inv) {
+        this.inv = inv;
+    }
+
+    /**
+     * Brings the index up to date with the inventory.
+     */
+    void validate() {
+        final int size = this.inv.getSizeInventory();
+        if (size != this.slotKeys.length) {
+            this.slotKeys = new ItemKey[size];
+            this.slotTags = new NBTTagCompound[size];
+            this.slotsByItem.clear();
+            this.emptySlots.clear();
+            for (int x = 0; x < size; x++) {
+                this.index(x, this.inv.getStackInSlot(x));
+            }
+            return;
+        }
+
+        for (int x = 0; x < size; x++) {
+            final ItemStack is = this.inv.getStackInSlot(x);
+            final ItemKey key = this.slotKeys[x];
+            if (is == null) {
+                if (key != null) {
+                    this.unindex(x);
+                    this.index(x, null);
+                }
+                continue;
+            }
+            if (key != null && is.getItem() == key.item && is.getItemDamage() == key.damage) {
+                final NBTTagCompound tag = is.getTagCompound();
+                if (tag == this.slotTags[x]) {
+                    continue;
+                }
+                if (key.matches(is)) {
+                    // an equal tag in a new instance
+                    this.slotTags[x] = tag;
+                    continue;
+                }
+            }
+            this.unindex(x);
+            this.index(x, is);
+        }
+    }
+
+    /**
+     * @return Slots holding exactly this item
+     */
+    IntIterator slotsHolding(final ItemStack filter) {
+        final IntSortedSet slots = this.slotsByItem.get(new ItemKey(filter, false));
+        return slots == null ? IntIterators.EMPTY_ITERATOR : slots.iterator();
+    }
+
+    /**
+     * @return Slots holding an item that fuzzily matches the filter
+     */
+    IntIterator slotsSimilarTo(final ItemStack filter, final FuzzyMode fuzzyMode) {
+        IntSortedSet found = null;
+        for (final Map.Entry<ItemKey, IntSortedSet> entry : this.slotsByItem.entrySet()) {
+            if (Platform.isSameItemFuzzy(entry.getKey().stack, filter, fuzzyMode)) {
+                if (found == null) {
+                    found = new IntRBTreeSet(entry.getValue());
+                } else {
+                    found.addAll(entry.getValue());
+                }
+            }
+        }
+        return found == null ? IntIterators.EMPTY_ITERATOR : found.iterator();
+    }
+
+    IntIterator emptySlots() {
+        return this.emptySlots.iterator();
+    }
+
+    /**
+     * @return Empty slots and slots holding exactly this item, the only slots an insertion can use
+     */
+    IntIterator slotsAccepting(final ItemStack item) {
+        return new MergedSlots(this.emptySlots.iterator(), this.slotsHolding(item));
+    }
+
+    private void index(final int slot, final ItemStack is) {
+        if (is == null) {
+            this.emptySlots.add(slot);
+            return;
+        }
+        final ItemKey key = new ItemKey(is, true);
+        this.slotKeys[slot] = key;
+        this.slotTags[slot] = is.getTagCompound();
+        this.slotsByItem.computeIfAbsent(key, k -> new IntRBTreeSet()).add(slot);
+    }
+
+    private void unindex(final int slot) {
+        final ItemKey key = this.slotKeys[slot];
+        if (key == null) {
+            this.emptySlots.remove(slot);
+            return;
+        }
+        this.slotKeys[slot] = null;
+        this.slotTags[slot] = null;
+        final IntSortedSet slots = this.slotsByItem.get(key);
+        if (slots != null) {
+            slots.remove(slot);
+            if (slots.isEmpty()) {
+                this.slotsByItem.remove(key);
+            }
+        }
+    }
+
+    private static NBTTagCompound normalizeTag(final NBTTagCompound tag) {
+        return tag == null || tag.hasNoTags() ? null : tag;
+    }
+
+    /**
+     * Item, damage and NBT of a stack, equal for stacks that {@link Platform#isSameItemPrecise} considers the same
+     */
+    private static final class ItemKey {
+
+        final Item item;
+        final int damage;
+        final NBTTagCompound tag;
+        final ItemStack stack;
+        final int hash;
+
+        ItemKey(final ItemStack is, final boolean copy) {
+            this.item = is.getItem();
+            this.damage = is.getItemDamage();
+            final NBTTagCompound tag = normalizeTag(is.getTagCompound());
+            this.tag = copy && tag != null ? (NBTTagCompound) tag.copy() : tag;
+            if (copy) {
+                this.stack = new ItemStack(this.item, 1, this.damage);
+                this.stack.setTagCompound(this.tag);
+            } else {
+                this.stack = null;
+            }
+            this.hash = (System.identityHashCode(this.item) * 31 + this.damage) * 31
+                    + (this.tag == null ? 0 : this.tag.hashCode());
+        }
+
+        boolean matches(final ItemStack is) {
+            if (is.getItem() != this.item || is.getItemDamage() != this.damage) {
+                return false;
+            }
+            return Objects.equals(this.tag, normalizeTag(is.getTagCompound()));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ItemKey other)) {
+                return false;
+            }
+            return this.item == other.item && this.damage == other.damage && Objects.equals(this.tag, other.tag);
+        }
+    }
+
+    /**
+     * Ascending union of two ascending, disjoint slot iterators
+     */
+    private static final class MergedSlots implements IntIterator {
+
+        private final IntIterator a;
+        private final IntIterator b;
+        private int nextA = -1;
+        private int nextB = -1;
+
+        MergedSlots(final IntIterator a, final IntIterator b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextA >= 0 || this.nextB >= 0 || this.a.hasNext() || this.b.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (this.nextA < 0 && this.a.hasNext()) {
+                this.nextA = this.a.nextInt();
+            }
+            if (this.nextB < 0 && this.b.hasNext()) {
+                this.nextB = this.b.nextInt();
+            }
+            final int result;
+            if (this.nextA >= 0 && (this.nextB < 0 || this.nextA < this.nextB)) {
+                result = this.nextA;
+                this.nextA = -1;
+            } else if (this.nextB >= 0) {
+                result = this.nextB;
+                this.nextB = -1;
+            } else {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
+    }
+}
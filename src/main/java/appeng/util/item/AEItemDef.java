@@ -10,68 +10,149 @@
 
 package appeng.util.item;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 
 import appeng.util.Platform;
 import cpw.mods.fml.common.registry.GameRegistry.UniqueIdentifier;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+/**
+ * Identity of an item stored in an {@link AEItemStack}: item, damage and shared NBT. Definitions created from item
+ * stacks are interned, so every stack of the same item shares one canonical definition and definitions are equal only
+ * when they are the same object. The identity of a definition never changes, only the caches for names, tooltips and
+ * sort keys are filled in later. Fuzzy search bounds are separate definitions made by {@link #bound}.
+ */
 public class AEItemDef {
 
     static final AESharedNBT LOW_TAG = new AESharedNBT(Integer.MIN_VALUE);
     static final AESharedNBT HIGH_TAG = new AESharedNBT(Integer.MAX_VALUE);
 
+    /*
+     * Interned definitions. Lookups don't lock, the definitions are only weakly referenced and entries of collected
+     * ones are removed whenever a new definition is added.
+     */
+    private static final ConcurrentHashMap<Key, CanonicalReference> CANONICAL = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<AEItemDef> COLLECTED = new ReferenceQueue<>();
+
     private final int itemID;
     private final Item item;
-    private int myHash;
-    private int def;
-    private int damageValue;
-    private int displayDamage;
-    private int maxDamage;
-    private AESharedNBT tagCompound;
+    private final int myHash;
+    private final int def;
+    private final int damageValue;
+    private final int displayDamage;
+    private final int maxDamage;
+    private final AESharedNBT tagCompound;
+    private final OreReference isOre;
 
-    private String displayName;
+    // caches filled in on first use, they are derived from the identity above
+    private volatile String displayName;
 
     @SideOnly(Side.CLIENT)
-    private List<String> tooltip;
+    private volatile List<String> tooltip;
 
     @SideOnly(Side.CLIENT)
-    private UniqueIdentifier uniqueID;
+    private volatile UniqueIdentifier uniqueID;
 
-    private OreReference isOre;
+    private volatile ItemSortKey sortKey;
 
-    public AEItemDef(final Item it) {
+    private AEItemDef(final Item it, final int damageValue, final int displayDamage, final int maxDamage,
+            final AESharedNBT tagCompound, final OreReference isOre) {
         this.item = it;
         this.itemID = Item.getIdFromItem(it);
+        this.damageValue = damageValue;
+        this.displayDamage = displayDamage;
+        this.maxDamage = maxDamage;
+        this.tagCompound = tagCompound;
+        this.isOre = isOre;
+        this.def = this.itemID << Platform.DEF_OFFSET | damageValue;
+        this.myHash = this.def ^ (tagCompound == null ? 0 : System.identityHashCode(tagCompound));
     }
 
-    AEItemDef copy() {
-        final AEItemDef t = new AEItemDef(this.getItem());
-        t.def = this.def;
-        t.setDamageValue(this.getDamageValue());
-        t.setDisplayDamage(this.getDisplayDamage());
-        t.setMaxDamage(this.getMaxDamage());
-        t.setTagCompound(this.getTagCompound());
-        t.setIsOre(this.getIsOre());
-        return t;
+    /**
+     * @return The shared definition of the stack's item, damage and NBT
+     */
+    static AEItemDef intern(final ItemStack is) {
+        final Item item = is.getItem();
+        final int damage = Items.blaze_rod.getDamage(is); // the raw damage value, like getDamageValueHack
+        final int displayDamage = is.getItemDamageForDisplay();
+        final NBTTagCompound tagCompound = is.getTagCompound();
+        final AESharedNBT sharedTag = tagCompound == null ? null
+                : (AESharedNBT) AESharedNBT.getSharedTagCompound(tagCompound, is);
+
+        final Key key = new Key(item, damage, displayDamage, sharedTag);
+        final CanonicalReference cached = CANONICAL.get(key);
+        final AEItemDef cachedDef = cached == null ? null : cached.get();
+        if (cachedDef != null) {
+            return cachedDef;
+        }
+
+        removeCollected();
+        final AEItemDef def = new AEItemDef(
+                item,
+                damage,
+                displayDamage,
+                is.getMaxDamage(),
+                sharedTag,
+                OreHelper.INSTANCE.isOre(is));
+
+        final CanonicalReference ref = new CanonicalReference(def, key);
+        while (true) {
+            final CanonicalReference existing = CANONICAL.putIfAbsent(key, ref);
+            if (existing == null) {
+                return def;
+            }
+            // another thread got here first
+            final AEItemDef other = existing.get();
+            if (other != null) {
+                return other;
+            }
+            if (CANONICAL.replace(key, existing, ref)) {
+                return def;
+            }
+        }
+    }
+
+    /*
+     * Debug purposes.
+     */
+    public static int internedDefinitions() {
+        return CANONICAL.size();
+    }
+
+    private static void removeCollected() {
+        Reference<? extends AEItemDef> collected;
+        while ((collected = COLLECTED.poll()) != null) {
+            final CanonicalReference ref = (CanonicalReference) collected;
+            CANONICAL.remove(ref.key, ref);
+        }
+    }
+
+    /**
+     * @return A definition of the same item for the lower or upper bound of a fuzzy search, it is not interned
+     */
+    AEItemDef bound(final int damageValue, final int displayDamage, final AESharedNBT boundTag) {
+        return new AEItemDef(this.item, damageValue, displayDamage, this.maxDamage, boundTag, this.isOre);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.myHash;
     }
 
     @Override
     public boolean equals(final Object obj) {
-        if (obj == null) {
-            return false;
-        }
-        if (this.getClass() != obj.getClass()) {
-            return false;
-        }
-        final AEItemDef other = (AEItemDef) obj;
-        return other.getDamageValue() == this.getDamageValue() && other.getItem() == this.getItem()
-                && this.getTagCompound() == other.getTagCompound();
+        // interned definitions are canonical, and search bounds are never looked up by equality
+        return this == obj;
     }
 
     boolean isItem(final ItemStack otherStack) {
@@ -96,28 +177,14 @@ public class AEItemDef {
         return Items.blaze_rod.getDamage(is);
     }
 
-    void reHash() {
-        this.def = this.getItemID() << Platform.DEF_OFFSET | this.getDamageValue();
-        this.myHash = this.def ^ (this.getTagCompound() == null ? 0 : System.identityHashCode(this.getTagCompound()));
-    }
-
     AESharedNBT getTagCompound() {
         return this.tagCompound;
     }
 
-    void setTagCompound(final AESharedNBT tagCompound) {
-        this.tagCompound = tagCompound;
-    }
-
     int getDamageValue() {
         return this.damageValue;
     }
 
-    int setDamageValue(final int damageValue) {
-        this.damageValue = damageValue;
-        return damageValue;
-    }
-
     Item getItem() {
         return this.item;
     }
@@ -126,10 +193,6 @@ public class AEItemDef {
         return this.displayDamage;
     }
 
-    void setDisplayDamage(final int displayDamage) {
-        this.displayDamage = displayDamage;
-    }
-
     String getDisplayName() {
         return this.displayName;
     }
@@ -156,12 +219,17 @@ public class AEItemDef {
         return uniqueID;
     }
 
-    OreReference getIsOre() {
-        return this.isOre;
+    ItemSortKey getSortKey() {
+        return this.sortKey;
     }
 
-    void setIsOre(final OreReference isOre) {
-        this.isOre = isOre;
+    ItemSortKey setSortKey(final ItemSortKey sortKey) {
+        this.sortKey = sortKey;
+        return sortKey;
+    }
+
+    OreReference getIsOre() {
+        return this.isOre;
     }
 
     int getItemID() {
@@ -172,14 +240,59 @@ public class AEItemDef {
         return this.maxDamage;
     }
 
-    void setMaxDamage(final int maxDamage) {
-        this.maxDamage = maxDamage;
-    }
-
     /**
      * TODO: Check if replaceable by hashCode();
      */
     int getMyHash() {
         return this.myHash;
     }
+
+    /**
+     * What makes two item stacks share a definition, the shared tag is compared by identity
+     */
+    private static final class Key {
+
+        private final Item item;
+        private final int damage;
+        private final int displayDamage;
+        private final AESharedNBT tagCompound;
+        private final int hash;
+
+        Key(final Item item, final int damage, final int displayDamage, final AESharedNBT tagCompound) {
+            this.item = item;
+            this.damage = damage;
+            this.displayDamage = displayDamage;
+            this.tagCompound = tagCompound;
+            this.hash = ((System.identityHashCode(item) * 31 + damage) * 31 + displayDamage) * 31
+                    + System.identityHashCode(tagCompound);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key other)) {
+                return false;
+            }
+            return this.item == other.item && this.damage == other.damage
+                    && this.displayDamage == other.displayDamage
+                    && this.tagCompound == other.tagCompound;
+        }
+    }
+
+    private static final class CanonicalReference extends WeakReference<AEItemDef> {
+
+        private final Key key;
+
+        CanonicalReference(final AEItemDef def, final Key key) {
+            super(def, COLLECTED);
+            this.key = key;
+        }
+    }
 }
@@ -60,41 +60,16 @@ public final class AEItemStack extends AEStack<IAEItemStack> implements IAEItemS
             throw new InvalidParameterException("Contained item is null, thus not a valid ItemStack for AEItemStack.");
         }
 
-        this.setDefinition(new AEItemDef(item));
-
-        if (this.getDefinition().getItem() == null) {
-            throw new InvalidParameterException("This ItemStack is bad, it has a null item.");
-        }
-
-        /*
-         * Prevent an Item from changing the damage value on me... Either, this or a core mod.
-         */
-
         /*
-         * Super hackery. is.itemID = appeng.api.Materials.matQuartz.itemID; damageValue = is.getItemDamage(); is.itemID
-         * = itemID;
+         * Kinda hackery, the definition reads the raw damage value to prevent an Item from changing it on me.
          */
-
-        /*
-         * Kinda hackery
-         */
-        this.getDefinition().setDamageValue(this.getDefinition().getDamageValueHack(is));
-        this.getDefinition().setDisplayDamage(is.getItemDamageForDisplay());
-        this.getDefinition().setMaxDamage(is.getMaxDamage());
-
-        final NBTTagCompound tagCompound = is.getTagCompound();
-        if (tagCompound != null) {
-            this.getDefinition().setTagCompound((AESharedNBT) AESharedNBT.getSharedTagCompound(tagCompound, is));
-        }
+        this.setDefinition(AEItemDef.intern(is));
 
         this.setStackSize(is.stackSize);
         this.setCraftable(false);
         this.setCountRequestable(0);
         this.setCountRequestableCrafts(0);
         this.setUsedPercent(0);
-
-        this.getDefinition().reHash();
-        this.getDefinition().setIsOre(OreHelper.INSTANCE.isOre(is));
     }
 
     public static IAEItemStack loadItemStackFromNBT(final NBTTagCompound i) {
@@ -522,6 +497,24 @@ public final class AEItemStack extends AEStack<IAEItemStack> implements IAEItemS
         return this.getDefinition().getDisplayName();
     }
 
+    /**
+     * @return The key item lists are sorted by, computed once per item definition and language
+     */
+    public ItemSortKey getSortKey() {
+        final ItemSortKey key = this.getDefinition().getSortKey();
+        if (key != null && key.isCurrent()) {
+            return key;
+        }
+        // a cached name may have been looked up before the last language change, even without a key
+        this.getDefinition().setDisplayName(Platform.getItemDisplayName(this.getItemStack()));
+        return this.getDefinition().setSortKey(
+                ItemSortKey.create(
+                        this.getDisplayName(),
+                        this.getModID(),
+                        this.getDefinition().getItemID(),
+                        this.getDefinition().getDamageValue()));
+    }
+
     public String getModID() {
         if (this.getDefinition().getUniqueID() != null) {
             return this.getModName(this.getDefinition().getUniqueID());
@@ -541,67 +534,65 @@ public final class AEItemStack extends AEStack<IAEItemStack> implements IAEItemS
 
     IAEItemStack getLow(final FuzzyMode fuzzy, final boolean ignoreMeta) {
         final AEItemStack bottom = new AEItemStack(this);
-        final AEItemDef newDef = bottom.setDefinition(bottom.getDefinition().copy());
+        final AEItemDef def = this.getDefinition();
 
         if (ignoreMeta) {
-            newDef.setDisplayDamage(newDef.setDamageValue(0));
-            newDef.reHash();
+            bottom.setDefinition(def.bound(0, 0, def.getTagCompound()));
             return bottom;
         }
 
-        if (newDef.getItem().isDamageable()) {
+        int damage = def.getDamageValue();
+        int displayDamage = def.getDisplayDamage();
+        if (def.getItem().isDamageable()) {
             if (fuzzy == FuzzyMode.IGNORE_ALL) {
-                newDef.setDisplayDamage(0);
+                displayDamage = 0;
             } else if (fuzzy == FuzzyMode.PERCENT_99) {
-                if (this.getDefinition().getDamageValue() == 0) {
-                    newDef.setDisplayDamage(0);
+                if (def.getDamageValue() == 0) {
+                    displayDamage = 0;
                 } else {
-                    newDef.setDisplayDamage(1);
+                    displayDamage = 1;
                 }
             } else {
-                final int breakpoint = fuzzy.calculateBreakPoint(this.getDefinition().getMaxDamage());
-                newDef.setDisplayDamage(breakpoint <= this.getDefinition().getDisplayDamage() ? breakpoint : 0);
+                final int breakpoint = fuzzy.calculateBreakPoint(def.getMaxDamage());
+                displayDamage = breakpoint <= def.getDisplayDamage() ? breakpoint : 0;
             }
 
-            newDef.setDamageValue(newDef.getDisplayDamage());
+            damage = displayDamage;
         }
 
-        newDef.setTagCompound(AEItemDef.LOW_TAG);
-        newDef.reHash();
+        bottom.setDefinition(def.bound(damage, displayDamage, AEItemDef.LOW_TAG));
         return bottom;
     }
 
     IAEItemStack getHigh(final FuzzyMode fuzzy, final boolean ignoreMeta) {
         final AEItemStack top = new AEItemStack(this);
-        final AEItemDef newDef = top.setDefinition(top.getDefinition().copy());
+        final AEItemDef def = this.getDefinition();
 
         if (ignoreMeta) {
-            newDef.setDisplayDamage(newDef.setDamageValue(Integer.MAX_VALUE));
-            newDef.reHash();
+            top.setDefinition(def.bound(Integer.MAX_VALUE, Integer.MAX_VALUE, def.getTagCompound()));
             return top;
         }
 
-        if (newDef.getItem().isDamageable()) {
+        int damage = def.getDamageValue();
+        int displayDamage = def.getDisplayDamage();
+        if (def.getItem().isDamageable()) {
             if (fuzzy == FuzzyMode.IGNORE_ALL) {
-                newDef.setDisplayDamage(this.getDefinition().getMaxDamage() + 1);
+                displayDamage = def.getMaxDamage() + 1;
             } else if (fuzzy == FuzzyMode.PERCENT_99) {
-                if (this.getDefinition().getDamageValue() == 0) {
-                    newDef.setDisplayDamage(0);
+                if (def.getDamageValue() == 0) {
+                    displayDamage = 0;
                 } else {
-                    newDef.setDisplayDamage(this.getDefinition().getMaxDamage() + 1);
+                    displayDamage = def.getMaxDamage() + 1;
                 }
             } else {
-                final int breakpoint = fuzzy.calculateBreakPoint(this.getDefinition().getMaxDamage());
-                newDef.setDisplayDamage(
-                        this.getDefinition().getDisplayDamage() < breakpoint ? breakpoint - 1
-                                : this.getDefinition().getMaxDamage() + 1);
+                final int breakpoint = fuzzy.calculateBreakPoint(def.getMaxDamage());
+                displayDamage = def.getDisplayDamage() < breakpoint ? breakpoint - 1 : def.getMaxDamage() + 1;
             }
 
-            newDef.setDamageValue(newDef.getDisplayDamage());
+            damage = displayDamage;
         }
 
-        newDef.setTagCompound(AEItemDef.HIGH_TAG);
-        newDef.reHash();
+        top.setDefinition(def.bound(damage, displayDamage, AEItemDef.HIGH_TAG));
         return top;
     }
 
@@ -10,8 +10,11 @@
 
 package appeng.util.item;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -28,12 +31,13 @@ import appeng.util.Platform;
 public class AESharedNBT extends NBTTagCompound implements IAETagCompound {
 
     /*
-     * Shared Tag Compound Cache.
+     * Shared Tag Compound Cache. Lookups don't lock, the shared compounds are only weakly referenced and entries of
+     * collected ones are removed whenever a new compound is added.
      */
-    private static final WeakHashMap<SharedSearchObject, WeakReference<SharedSearchObject>> SHARED_TAG_COMPOUND = new WeakHashMap<>();
+    private static final ConcurrentMap<SharedSearchObject, SharedReference> SHARED_TAG_COMPOUND = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<AESharedNBT> COLLECTED = new ReferenceQueue<>();
     private final Item item;
     private final int meta;
-    private SharedSearchObject sso;
     private int hash;
     private IItemComparison comp;
 
@@ -58,7 +62,7 @@ public class AESharedNBT extends NBTTagCompound implements IAETagCompound {
     /*
      * Returns an NBT Compound that is used for accelerating comparisons.
      */
-    static synchronized NBTTagCompound getSharedTagCompound(final NBTTagCompound tagCompound, final ItemStack s) {
+    static NBTTagCompound getSharedTagCompound(final NBTTagCompound tagCompound, final ItemStack s) {
         if (tagCompound.hasNoTags()) {
             return null;
         }
@@ -75,26 +79,50 @@ public class AESharedNBT extends NBTTagCompound implements IAETagCompound {
 
         final SharedSearchObject sso = new SharedSearchObject(item, meta, tagCompound);
 
-        final WeakReference<SharedSearchObject> c = SHARED_TAG_COMPOUND.get(sso);
-        if (c != null) {
-            final SharedSearchObject cg = c.get();
-            if (cg != null) {
-                return cg.getShared(); // I don't think I really need to check this
-            }
-            // as its already certain to exist..
+        final SharedReference c = SHARED_TAG_COMPOUND.get(sso);
+        final AESharedNBT cached = c == null ? null : c.get();
+        if (cached != null) {
+            return cached;
         }
 
+        removeCollected();
         final AESharedNBT clone = AESharedNBT.createFromCompound(item, meta, tagCompound);
-        sso.setCompound((NBTTagCompound) sso.getCompound().copy()); // prevent
-        // modification
-        // of data based
-        // on original
-        // item.
-        sso.setShared(clone);
-        clone.sso = sso;
-
-        SHARED_TAG_COMPOUND.put(sso, new WeakReference<>(sso));
-        return clone;
+        // prevent modification of data based on original item.
+        sso.setCompound((NBTTagCompound) sso.getCompound().copy());
+
+        final SharedReference ref = new SharedReference(clone, sso);
+        while (true) {
+            final SharedReference existing = SHARED_TAG_COMPOUND.putIfAbsent(sso, ref);
+            if (existing == null) {
+                return clone;
+            }
+            // another thread got here first
+            final AESharedNBT other = existing.get();
+            if (other != null) {
+                return other;
+            }
+            if (SHARED_TAG_COMPOUND.replace(sso, existing, ref)) {
+                return clone;
+            }
+        }
+    }
+
+    private static void removeCollected() {
+        Reference<? extends AESharedNBT> collected;
+        while ((collected = COLLECTED.poll()) != null) {
+            final SharedReference ref = (SharedReference) collected;
+            SHARED_TAG_COMPOUND.remove(ref.key, ref);
+        }
+    }
+
+    private static final class SharedReference extends WeakReference<AESharedNBT> {
+
+        private final SharedSearchObject key;
+
+        SharedReference(final AESharedNBT shared, final SharedSearchObject key) {
+            super(shared, COLLECTED);
+            this.key = key;
+        }
     }
 
     /*
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+import net.minecraft.item.Item;
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.Platform;
+
+/**
+ * What item lists are sorted by, computed once per item definition: a collation key of the display name for the
+ * current language, the mod id and the numeric item id and damage. Comparing two keys never calls into item code.
+ * <p>
+ * All keys are recomputed lazily after {@link #reload(Locale)}, which the client calls whenever the language or the
+ * resources change.
+ */
+public final class ItemSortKey {
+
+    private static Collator collator = createCollator(Locale.getDefault());
+    private static int currentGeneration = 0;
+
+    private final int generation;
+    private final CollationKey name;
+    private final String modId;
+    private final int itemId;
+    private final int damage;
+
+    private ItemSortKey(final String name, final String modId, final int itemId, final int damage) {
+        this.generation = currentGeneration;
+        this.name = collator.getCollationKey(name);
+        this.modId = modId.intern();
+        this.itemId = itemId;
+        this.damage = damage;
+    }
+
+    static ItemSortKey create(final String name, final String modId, final int itemId, final int damage) {
+        return new ItemSortKey(name, modId, itemId, damage);
+    }
+
+    /**
+     * @return The cached key of an {@link AEItemStack}, or a new key for other implementations, so that every pair of
+     *         stacks is compared the same way
+     */
+    public static ItemSortKey of(final IAEItemStack stack) {
+        if (stack instanceof AEItemStack ais) {
+            return ais.getSortKey();
+        }
+        return create(
+                Platform.getItemDisplayName(stack),
+                Platform.getModId(stack),
+                Item.getIdFromItem(stack.getItem()),
+                stack.getItemDamage());
+    }
+
+    /**
+     * Throws away all computed keys and sorts names in the given language from now on.
+     */
+    public static void reload(final Locale locale) {
+        collator = createCollator(locale);
+        currentGeneration++;
+    }
+
+    private static Collator createCollator(final Locale locale) {
+        final Collator c = Collator.getInstance(locale);
+        // ignore case like the name comparison used to
+        c.setStrength(Collator.SECONDARY);
+        return c;
+    }
+
+    boolean isCurrent() {
+        return this.generation == currentGeneration;
+    }
+
+    public int compareName(final ItemSortKey other) {
+        return this.name.compareTo(other.name);
+    }
+
+    public int compareModId(final ItemSortKey other) {
+        if (this.modId == other.modId) {
+            return 0;
+        }
+        return this.modId.compareToIgnoreCase(other.modId);
+    }
+
+    /**
+     * Orders items with the same name by id and damage, so sorting is stable between updates.
+     */
+    public int compareId(final ItemSortKey other) {
+        final int c = Integer.compare(this.itemId, other.itemId);
+        return c != 0 ? c : Integer.compare(this.damage, other.damage);
+    }
+}
@@ -1,12 +1,10 @@
 package appeng.util.prioitylist;
 
-import java.util.Map;
+import java.util.Arrays;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -15,10 +13,17 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import appeng.api.storage.data.IAEItemStack;
 import appeng.core.AELog;
+import appeng.recipes.ores.OreDictionaryHandler;
 import codechicken.nei.FormattedTextField.TextFormatter;
 import cpw.mods.fml.common.Optional;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 
 public class OreFilteredList implements IPartitionList<IAEItemStack> {
 
@@ -105,23 +110,34 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
         return null;
     }
 
+    /**
+     * Compiled filters by filter text, shared between every bus, cell and terminal using the same text for as long as
+     * one of them holds on to it
+     */
+    private static final Cache<String, OreListMatcher> COMPILED_FILTERS = CacheBuilder.newBuilder().weakValues()
+            .build();
+
     public static Predicate<IAEItemStack> makeFilter(String f) {
+        final OreListMatcher cached = COMPILED_FILTERS.getIfPresent(f);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Predicate<ItemStack> matcher = makeMatcher(f);
+            Predicate<int[]> matcher = makeMatcher(f);
             if (matcher == null) return null;
-            return new OreListMatcher(matcher);
+            final OreListMatcher compiled = new OreListMatcher(matcher);
+            COMPILED_FILTERS.put(f, compiled);
+            return compiled;
         } catch (Exception ex) {
             AELog.debug(ex);
             return null;
         }
     }
 
-    private static Predicate<ItemStack> makeMatcher(String f) {
-        Predicate<ItemStack> matcher = null;
+    private static Predicate<int[]> makeMatcher(String f) {
+        Predicate<int[]> matcher = null;
         if (notAWildcard(f)) {
-            final Predicate<String> test = Pattern.compile(f).asPredicate();
-            matcher = (is) -> is != null
-                    && IntStream.of(OreDictionary.getOreIDs(is)).mapToObj(OreDictionary::getOreName).anyMatch(test);
+            matcher = anyOreName(Pattern.compile(f).asPredicate());
         } else if (!f.isEmpty()) {
             String[] filters = f.split("[&|]");
             String lastFilter = null;
@@ -132,7 +148,7 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
                 boolean negated = filter.startsWith("!");
                 if (negated) filter = filter.substring(1);
 
-                Predicate<ItemStack> test = filterToItemStackPredicate(filter);
+                Predicate<int[]> test = anyOreName(filterToPredicate(filter));
 
                 if (negated) test = test.negate();
 
@@ -152,18 +168,61 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
         return matcher;
     }
 
+    private static Predicate<int[]> anyOreName(Predicate<String> test) {
+        return (oreIds) -> {
+            for (int oreId : oreIds) {
+                if (test.test(OreDictionary.getOreName(oreId))) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Evaluates the compiled expression once per distinct set of ore dictionary ids, and remembers the result per item
+     * and damage value. Both caches are dropped when the ore dictionary changes.
+     */
     private static class OreListMatcher implements Predicate<IAEItemStack> {
 
-        final Map<ItemRef, Boolean> cache = new ConcurrentHashMap<>();
-        final Predicate<ItemStack> matcher;
+        final Long2BooleanOpenHashMap byItem = new Long2BooleanOpenHashMap();
+        final Object2BooleanOpenHashMap<IntArrayList> byOreIds = new Object2BooleanOpenHashMap<>();
+        final Predicate<int[]> matcher;
+        int oreDictionaryVersion;
 
-        public OreListMatcher(Predicate<ItemStack> matcher) {
+        public OreListMatcher(Predicate<int[]> matcher) {
             this.matcher = matcher;
+            this.oreDictionaryVersion = OreDictionaryHandler.INSTANCE.getVersion();
         }
 
-        public boolean test(IAEItemStack t) {
+        public synchronized boolean test(IAEItemStack t) {
             if (t == null) return false;
-            return cache.compute(new ItemRef(t), (k, v) -> (v != null) ? v : matcher.test(t.getItemStack()));
+            final int version = OreDictionaryHandler.INSTANCE.getVersion();
+            if (version != this.oreDictionaryVersion) {
+                this.oreDictionaryVersion = version;
+                this.byItem.clear();
+                this.byOreIds.clear();
+            }
+
+            final Item item = t.getItem();
+            final int damage = item.isDamageable() ? 0 : t.getItemDamage();
+            final long itemKey = ((long) Item.getIdFromItem(item) << 32) | (damage & 0xFFFFFFFFL);
+            if (this.byItem.containsKey(itemKey)) {
+                return this.byItem.get(itemKey);
+            }
+
+            final int[] oreIds = OreDictionary.getOreIDs(new ItemStack(item, 1, damage));
+            Arrays.sort(oreIds);
+            final IntArrayList oreKey = IntArrayList.wrap(oreIds);
+            final boolean result;
+            if (this.byOreIds.containsKey(oreKey)) {
+                result = this.byOreIds.getBoolean(oreKey);
+            } else {
+                result = this.matcher.test(oreIds);
+                this.byOreIds.put(oreKey, result);
+            }
+            this.byItem.put(itemKey, result);
+            return result;
         }
     }
 
@@ -177,43 +236,6 @@ public class OreFilteredList implements IPartitionList<IAEItemStack> {
                 || f.contains("]");
     }
 
-    private static class ItemRef {
-
-        private final Item ref;
-        private final int damage;
-        private final int hash;
-
-        ItemRef(final IAEItemStack stack) {
-            this.ref = stack.getItem();
-            this.damage = stack.getItem().isDamageable() ? 0 : stack.getItemDamage();
-            this.hash = this.ref.hashCode() ^ this.damage;
-        }
-
-        @Override
-        public int hashCode() {
-            return this.hash;
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            if (obj == null || this.getClass() != obj.getClass()) return false;
-            final ItemRef other = (ItemRef) obj;
-            return this.damage == other.damage && this.ref == other.ref;
-        }
-
-        @Override
-        public String toString() {
-            return "ItemRef [ref=" + this.ref
-                    .getUnlocalizedName() + ", damage=" + this.damage + ", hash=" + this.hash + ']';
-        }
-    }
-
-    private static Predicate<ItemStack> filterToItemStackPredicate(String filter) {
-        final Predicate<String> test = filterToPredicate(filter);
-        return (is) -> is != null
-                && IntStream.of(OreDictionary.getOreIDs(is)).mapToObj(OreDictionary::getOreName).anyMatch(test);
-    }
-
     private static Predicate<String> filterToPredicate(String filter) {
         int numStars = StringUtils.countMatches(filter, "*");
         if (numStars == filter.length()) {
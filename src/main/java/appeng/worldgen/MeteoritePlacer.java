@@ -27,6 +27,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import appeng.api.AEApi;
@@ -454,6 +455,7 @@ public final class MeteoritePlacer {
 
                             w.setBlock(i, j, k, blk_b, meta_b, 3);
                             w.setBlock(i, j + 1, k, blk);
+                            this.putter.record(w, i, j, k, blk_b);
                         } else if (randomShit < 100 * this.squaredCraterSize) {
                             final double dx = i - x;
                             final double dy = j - y;
@@ -566,4 +568,23 @@ public final class MeteoritePlacer {
     NBTTagCompound getSettings() {
         return this.settings;
     }
+
+    /**
+     * @return mask of 32 block high slices of the given chunk this placer put sky stone into
+     */
+    int getSkyStoneSlices(final int chunkX, final int chunkZ) {
+        final Integer slices = this.putter.getSkyStoneSlices().get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        return slices == null ? 0 : slices;
+    }
+
+    /**
+     * Adds every slice this placer put sky stone into to the compass index.
+     */
+    void updateCompass() {
+        for (final Map.Entry<Long, Integer> entry : this.putter.getSkyStoneSlices().entrySet()) {
+            final long pos = entry.getKey();
+            WorldData.instance().compassData().service()
+                    .updateArea(this.world.getWorld(), (int) pos, (int) (pos >> 32), entry.getValue(), false);
+        }
+    }
 }
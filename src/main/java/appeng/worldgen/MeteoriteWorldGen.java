@@ -118,13 +118,16 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
         @Override
         public Object call(final World world) throws Exception {
             // Generate blocks for nearby meteorites
+            int skyStoneSlices = 0;
             for (final NBTTagCompound data : this.getNearByMeteorites(world, chunkX, chunkZ)) {
                 final MeteoritePlacer mp = new MeteoritePlacer(new ChunkOnly(world, chunkX, chunkZ), data);
                 mp.spawnMeteorite();
+                skyStoneSlices |= mp.getSkyStoneSlices(chunkX, chunkZ);
             }
 
             WorldData.instance().spawnData().setGenerated(world.provider.dimensionId, chunkX, chunkZ);
-            WorldData.instance().compassData().service().updateArea(world, chunkX, chunkZ);
+            // a freshly generated chunk only contains the sky stone placed above
+            WorldData.instance().compassData().service().updateArea(world, chunkX, chunkZ, skyStoneSlices, true);
             return null;
         }
     }
@@ -154,6 +157,8 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
                         z);
 
                 if (mp.spawnMeteoriteCenter()) {
+                    mp.updateCompass();
+
                     final int px = x >> 4;
                     final int pz = z >> 4;
 
@@ -169,6 +174,7 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
                                             new ChunkOnly(w, cx, cz),
                                             mp.getSettings());
                                     mp2.spawnMeteorite();
+                                    mp2.updateCompass();
                                 }
                             }
                         }
@@ -194,7 +200,6 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
             this.tryMeteorite(world);
 
             WorldData.instance().spawnData().setGenerated(world.provider.dimensionId, chunkX, chunkZ);
-            WorldData.instance().compassData().service().updateArea(world, chunkX, chunkZ);
 
             return null;
         }
@@ -1,10 +1,19 @@
 package appeng.worldgen.meteorite;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
+import net.minecraft.world.ChunkCoordIntPair;
+
+import appeng.api.AEApi;
 
 public class MeteoriteBlockPutter {
 
+    private final Map<Long, Integer> skyStoneSlices = new HashMap<>();
+    private final Block skyStone = AEApi.instance().definitions().blocks().skyStone().maybeBlock().orNull();
+
     public boolean put(final IMeteoriteWorld w, final int i, final int j, final int k, final Block blk) {
         final Block original = w.getBlock(i, j, k);
 
@@ -13,9 +22,27 @@ public class MeteoriteBlockPutter {
         }
 
         w.setBlock(i, j, k, blk);
+        this.record(w, i, j, k, blk);
         return true;
     }
 
+    /**
+     * Remembers the 32 block high slice of a chunk if natural sky stone ended up at the given position, so the compass
+     * can be updated without rescanning the chunk.
+     */
+    public void record(final IMeteoriteWorld w, final int i, final int j, final int k, final Block blk) {
+        if (blk != null && blk == this.skyStone && w.getBlock(i, j, k) == blk && w.getBlockMetadata(i, j, k) == 0) {
+            this.skyStoneSlices.merge(ChunkCoordIntPair.chunkXZ2Int(i >> 4, k >> 4), 1 << (j >> 5), (a, b) -> a | b);
+        }
+    }
+
+    /**
+     * @return chunk position as in {@link ChunkCoordIntPair#chunkXZ2Int} to a mask of slices containing sky stone
+     */
+    public Map<Long, Integer> getSkyStoneSlices() {
+        return this.skyStoneSlices;
+    }
+
     public boolean put(final IMeteoriteWorld w, final int i, final int j, final int k, final Block blk,
             final int meta) {
         if (w.getBlock(i, j, k) == Blocks.bedrock) {
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Applied Energistics 2. Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved. Applied
+ * Energistics 2 is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any
+ * later version. Applied Energistics 2 is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY;
+ * without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General
+ * Public License for more details. You should have received a copy of the GNU Lesser General Public License along with
+ * Applied Energistics 2. If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.services.compass;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the summary based nearest beacon search of {@link CompassReader}, including a comparison with the plain
+ * spiral search on a synthetic sparse world. The timings of both searches are measured by the compass search benchmark
+ * of the functional tests.
+ */
+public class CompassReaderTest {
+
+    private static final int DIMENSION = 0;
+    private static final int WORLD_RADIUS = 1500;
+    private static final int MAX_RANGE = 174;
+    private static final int BEACONS = 40;
+    private static final int QUERIES = 200;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private CompassReader reader;
+
+    @Before
+    public void setUp() {
+        this.reader = new CompassReader(DIMENSION, this.folder.getRoot());
+    }
+
+    @After
+    public void tearDown() {
+        this.reader.close();
+    }
+
+    @Test
+    public void testNoBeacons() {
+        Assert.assertEquals(MAX_RANGE, this.reader.getNearestRing(10, -10, MAX_RANGE));
+    }
+
+    @Test
+    public void testSingleBeaconAcrossRegions() {
+        this.reader.setHasBeacon(1030, -5, 3, true);
+
+        Assert.assertEquals(20, this.reader.getNearestRing(1010, 0, MAX_RANGE));
+        Assert.assertEquals(MAX_RANGE, this.reader.getNearestRing(1030 - MAX_RANGE, -5, MAX_RANGE));
+        Assert.assertEquals(MAX_RANGE - 1, this.reader.getNearestRing(1030 - MAX_RANGE + 1, -5, MAX_RANGE));
+    }
+
+    @Test
+    public void testClearedBeaconIsSkipped() {
+        this.reader.setHasBeacon(-300, -300, 2, true);
+        this.reader.setHasBeacon(-300, -300, 4, true);
+        this.reader.setHasBeacon(-300, -300, 2, false);
+
+        Assert.assertEquals(50, this.reader.getNearestRing(-250, -280, MAX_RANGE));
+
+        this.reader.setHasBeacon(-300, -300, 4, false);
+
+        Assert.assertEquals(MAX_RANGE, this.reader.getNearestRing(-250, -280, MAX_RANGE));
+    }
+
+    @Test
+    public void testSparseWorldMatchesSpiral() {
+        final Random rng = new Random(42);
+
+        for (int i = 0; i < BEACONS; i++) {
+            this.reader.setHasBeacon(
+                    rng.nextInt(2 * WORLD_RADIUS) - WORLD_RADIUS,
+                    rng.nextInt(2 * WORLD_RADIUS) - WORLD_RADIUS,
+                    rng.nextInt(8),
+                    true);
+        }
+
+        final int[][] queries = new int[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new int[] { rng.nextInt(2 * WORLD_RADIUS) - WORLD_RADIUS,
+                    rng.nextInt(2 * WORLD_RADIUS) - WORLD_RADIUS };
+        }
+
+        final int[] expected = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            expected[i] = this.spiral(queries[i][0], queries[i][1]);
+        }
+
+        final int[] actual = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            actual[i] = this.reader.getNearestRing(queries[i][0], queries[i][1], MAX_RANGE);
+        }
+
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    private int spiral(final int cx, final int cz) {
+        for (int offset = 1; offset < MAX_RANGE; offset++) {
+            for (int z = cz - offset; z <= cz + offset; z++) {
+                if (this.reader.hasBeacon(cx - offset, z) || this.reader.hasBeacon(cx + offset, z)) {
+                    return offset;
+                }
+            }
+
+            for (int x = cx - offset + 1; x < cx + offset; x++) {
+                if (this.reader.hasBeacon(x, cz - offset) || this.reader.hasBeacon(x, cz + offset)) {
+                    return offset;
+                }
+            }
+        }
+
+        return MAX_RANGE;
+    }
+}